@@ -0,0 +1,45 @@
+package com.nipapager.eventticketingplatform.analytics.controller;
+
+import com.nipapager.eventticketingplatform.analytics.dto.SalesPointDTO;
+import com.nipapager.eventticketingplatform.analytics.service.SalesAnalyticsService;
+import com.nipapager.eventticketingplatform.enums.RollupGranularity;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for admin sales analytics
+ */
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ROLE_ADMIN')")
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<Response<List<SalesPointDTO>>> getSalesSeries(
+            @RequestParam(required = false) RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String city) {
+        Response<List<SalesPointDTO>> response =
+                salesAnalyticsService.getSalesSeries(granularity, from, to, eventId, categoryId, city);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<Response<Integer>> rebuildRollups() {
+        Response<Integer> response = salesAnalyticsService.rebuildRollups();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,23 @@
+package com.nipapager.eventticketingplatform.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Paid sales within one hour or day
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPointDTO {
+    private LocalDateTime bucketStart;
+    private Long ordersCount;
+    private Long ticketsSold;
+    private BigDecimal revenue;
+}
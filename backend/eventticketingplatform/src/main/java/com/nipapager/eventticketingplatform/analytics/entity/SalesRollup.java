@@ -0,0 +1,58 @@
+package com.nipapager.eventticketingplatform.analytics.entity;
+
+import com.nipapager.eventticketingplatform.enums.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding paid sales of one event within one hour or day
+ * Category and city are copied from the event so charts by either are a range scan on this table alone
+ * Rows are only changed through atomic upserts (SalesRollupRepository)
+ * Maps to 'sales_rollups' table in database
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sales_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollups_event_bucket",
+                columnNames = {"granularity", "event_id", "bucket_start"}),
+        indexes = {
+                @Index(name = "idx_sales_rollups_bucket", columnList = "granularity, bucket_start"),
+                @Index(name = "idx_sales_rollups_category_bucket", columnList = "granularity, category_id, bucket_start"),
+                @Index(name = "idx_sales_rollups_city_bucket", columnList = "granularity, city, bucket_start")
+        })
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;  // Start of the hour or day of the payment
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    private String city;
+
+    @Column(name = "orders_count", nullable = false)
+    private Long ordersCount;
+
+    @Column(name = "tickets_sold", nullable = false)
+    private Long ticketsSold;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
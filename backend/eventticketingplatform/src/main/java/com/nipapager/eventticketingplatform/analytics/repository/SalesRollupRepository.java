@@ -0,0 +1,116 @@
+package com.nipapager.eventticketingplatform.analytics.repository;
+
+import com.nipapager.eventticketingplatform.analytics.entity.SalesRollup;
+import com.nipapager.eventticketingplatform.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for SalesRollup entity
+ * Rollups are only changed through atomic upserts, never read-modify-write
+ */
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    // Add an order (or take one away with negative values) to an event's bucket, creating the row on first use
+    // The bucket takes the event's current category and city; older buckets catch up at the next backfill
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups " +
+            "(granularity, bucket_start, event_id, category_id, city, orders_count, tickets_sold, revenue) " +
+            "VALUES (:granularity, :bucketStart, :eventId, :categoryId, :city, :orders, :tickets, :revenue) " +
+            "ON DUPLICATE KEY UPDATE orders_count = orders_count + :orders, tickets_sold = tickets_sold + :tickets, " +
+            "revenue = revenue + :revenue, category_id = :categoryId, city = :city",
+            nativeQuery = true)
+    int addToBucket(
+            @Param("granularity") String granularity,
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("eventId") Long eventId,
+            @Param("categoryId") Long categoryId,
+            @Param("city") String city,
+            @Param("orders") long orders,
+            @Param("tickets") long tickets,
+            @Param("revenue") BigDecimal revenue
+    );
+
+    // Drop the rollups of an event ID range (backfill)
+    @Modifying
+    @Query(value = "DELETE FROM sales_rollups WHERE event_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int deleteByEventIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Hourly rollups of an event ID range from completed payments (backfill)
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups " +
+            "(granularity, bucket_start, event_id, category_id, city, orders_count, tickets_sold, revenue) " +
+            "SELECT 'HOUR', TIMESTAMP(DATE(p.payment_date), MAKETIME(HOUR(p.payment_date), 0, 0)), e.id, e.category_id, v.city, " +
+            "COUNT(DISTINCT o.id), SUM(oi.quantity), SUM(oi.quantity * oi.price_per_ticket) " +
+            "FROM payments p JOIN orders o ON o.id = p.order_id JOIN events e ON e.id = o.event_id " +
+            "JOIN venues v ON v.id = e.venue_id JOIN order_items oi ON oi.order_id = o.id " +
+            "WHERE p.status = 'COMPLETED' AND p.payment_date IS NOT NULL AND e.id BETWEEN :fromId AND :toId " +
+            "GROUP BY TIMESTAMP(DATE(p.payment_date), MAKETIME(HOUR(p.payment_date), 0, 0)), e.id, e.category_id, v.city",
+            nativeQuery = true)
+    int insertHourlyFromPayments(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Daily rollups of an event ID range summed from its hourly rollups (backfill)
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups " +
+            "(granularity, bucket_start, event_id, category_id, city, orders_count, tickets_sold, revenue) " +
+            "SELECT 'DAY', TIMESTAMP(DATE(r.bucket_start)), r.event_id, MAX(r.category_id), MAX(r.city), " +
+            "SUM(r.orders_count), SUM(r.tickets_sold), SUM(r.revenue) " +
+            "FROM sales_rollups r WHERE r.granularity = 'HOUR' AND r.event_id BETWEEN :fromId AND :toId " +
+            "GROUP BY TIMESTAMP(DATE(r.bucket_start)), r.event_id",
+            nativeQuery = true)
+    int insertDailyFromHourly(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Time series over all events (rows: bucketStart, orders, tickets, revenue)
+    @Query("SELECT r.bucketStart, SUM(r.ordersCount), SUM(r.ticketsSold), SUM(r.revenue) FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<Object[]> sumByBucket(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Time series of one event (rows: bucketStart, orders, tickets, revenue)
+    @Query("SELECT r.bucketStart, SUM(r.ordersCount), SUM(r.ticketsSold), SUM(r.revenue) FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.eventId = :eventId " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<Object[]> sumByBucketForEvent(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("eventId") Long eventId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Time series of one category (rows: bucketStart, orders, tickets, revenue)
+    @Query("SELECT r.bucketStart, SUM(r.ordersCount), SUM(r.ticketsSold), SUM(r.revenue) FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.categoryId = :categoryId " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<Object[]> sumByBucketForCategory(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("categoryId") Long categoryId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Time series of one city (rows: bucketStart, orders, tickets, revenue)
+    @Query("SELECT r.bucketStart, SUM(r.ordersCount), SUM(r.ticketsSold), SUM(r.revenue) FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.city = :city " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<Object[]> sumByBucketForCity(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("city") String city,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
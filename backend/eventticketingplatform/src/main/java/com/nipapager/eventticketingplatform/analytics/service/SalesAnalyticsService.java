@@ -0,0 +1,31 @@
+package com.nipapager.eventticketingplatform.analytics.service;
+
+import com.nipapager.eventticketingplatform.analytics.dto.SalesPointDTO;
+import com.nipapager.eventticketingplatform.enums.RollupGranularity;
+import com.nipapager.eventticketingplatform.response.Response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for admin sales charts
+ */
+public interface SalesAnalyticsService {
+
+    /**
+     * Revenue and tickets sold per hour or day, read from the rollup table
+     * At most one of eventId, categoryId and city narrows the series
+     * @param granularity HOUR or DAY (defaults to DAY)
+     * @param from First day (defaults to 30 days before to, or 2 days for HOUR)
+     * @param to Last day, inclusive (defaults to today)
+     * @return Buckets with sales only, oldest first
+     */
+    Response<List<SalesPointDTO>> getSalesSeries(RollupGranularity granularity, LocalDate from, LocalDate to,
+                                                 Long eventId, Long categoryId, String city);
+
+    /**
+     * Rebuild every rollup from completed payments
+     * @return Number of event ID chunks processed
+     */
+    Response<Integer> rebuildRollups();
+}
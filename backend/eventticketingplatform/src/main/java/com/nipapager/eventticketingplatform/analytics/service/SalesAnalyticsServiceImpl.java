@@ -0,0 +1,218 @@
+package com.nipapager.eventticketingplatform.analytics.service;
+
+import com.nipapager.eventticketingplatform.analytics.dto.SalesPointDTO;
+import com.nipapager.eventticketingplatform.analytics.repository.SalesRollupRepository;
+import com.nipapager.eventticketingplatform.enums.RollupGranularity;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.response.Response;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service implementation for admin sales charts
+ * Charts read the sales_rollups table only; the backfill rebuilds it in event ID chunks, several at a time
+ * on its own small pool, each chunk in its own transaction (delete, hourly from payments, daily from hourly)
+ */
+@Service
+@Slf4j
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+    private static final long MAX_HOURLY_DAYS = 92;
+    private static final long MAX_DAILY_DAYS = 3660;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor taskExecutor;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${analytics.rollup.backfill-chunk-size:500}")
+    private long chunkSize;
+
+    // Chunks running at the same time
+    private final int parallelism;
+
+    public SalesAnalyticsServiceImpl(SalesRollupRepository salesRollupRepository,
+                                     EventRepository eventRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${analytics.rollup.backfill-parallelism:4}") int parallelism) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism;
+
+        // One thread per running chunk plus one for the startup backfill, which waits on its chunks;
+        // the shared application executor stays free for mail and request work
+        this.taskExecutor = new ThreadPoolTaskExecutor();
+        this.taskExecutor.setCorePoolSize(parallelism + 1);
+        this.taskExecutor.setMaxPoolSize(parallelism + 1);
+        this.taskExecutor.setQueueCapacity(parallelism);
+        this.taskExecutor.setThreadNamePrefix("rollup-backfill-");
+        this.taskExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskExecutor.shutdown();
+    }
+
+    @Override
+    public Response<List<SalesPointDTO>> getSalesSeries(RollupGranularity granularity, LocalDate from, LocalDate to,
+                                                        Long eventId, Long categoryId, String city) {
+        RollupGranularity resolvedGranularity = granularity != null ? granularity : RollupGranularity.DAY;
+        boolean hourly = resolvedGranularity == RollupGranularity.HOUR;
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(hourly ? 2 : 30);
+        String cityFilter = city != null && !city.isBlank() ? city.trim() : null;
+
+        // Validate range and filters
+        if (firstDay.isAfter(lastDay)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        long maxDays = hourly ? MAX_HOURLY_DAYS : MAX_DAILY_DAYS;
+        if (ChronoUnit.DAYS.between(firstDay, lastDay) >= maxDays) {
+            throw new BadRequestException("Range is limited to " + maxDays + " days for " + resolvedGranularity + " buckets");
+        }
+        int filters = (eventId != null ? 1 : 0) + (categoryId != null ? 1 : 0) + (cityFilter != null ? 1 : 0);
+        if (filters > 1) {
+            throw new BadRequestException("Filter by at most one of eventId, categoryId and city");
+        }
+
+        LocalDateTime start = firstDay.atStartOfDay();
+        LocalDateTime end = lastDay.plusDays(1).atStartOfDay();
+        List<Object[]> rows;
+        if (eventId != null) {
+            rows = salesRollupRepository.sumByBucketForEvent(resolvedGranularity, eventId, start, end);
+        } else if (categoryId != null) {
+            rows = salesRollupRepository.sumByBucketForCategory(resolvedGranularity, categoryId, start, end);
+        } else if (cityFilter != null) {
+            rows = salesRollupRepository.sumByBucketForCity(resolvedGranularity, cityFilter, start, end);
+        } else {
+            rows = salesRollupRepository.sumByBucket(resolvedGranularity, start, end);
+        }
+
+        List<SalesPointDTO> points = new ArrayList<>(rows.size());
+        long totalTickets = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (Object[] row : rows) {
+            SalesPointDTO point = SalesPointDTO.builder()
+                    .bucketStart((LocalDateTime) row[0])
+                    .ordersCount(((Number) row[1]).longValue())
+                    .ticketsSold(((Number) row[2]).longValue())
+                    .revenue((BigDecimal) row[3])
+                    .build();
+            points.add(point);
+            totalTickets += point.getTicketsSold();
+            totalRevenue = totalRevenue.add(point.getRevenue());
+        }
+
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("granularity", resolvedGranularity);
+        meta.put("from", firstDay);
+        meta.put("to", lastDay);
+        meta.put("totalTicketsSold", totalTickets);
+        meta.put("totalRevenue", totalRevenue);
+
+        return Response.<List<SalesPointDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Sales series retrieved successfully")
+                .data(points)
+                .meta(meta)
+                .build();
+    }
+
+    @Override
+    public Response<Integer> rebuildRollups() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BadRequestException("A rollup rebuild is already running");
+        }
+
+        int chunks;
+        try {
+            chunks = rebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+
+        return Response.<Integer>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Sales rollups rebuilt in " + chunks + " chunks")
+                .data(chunks)
+                .build();
+    }
+
+    // In the background, so startup does not wait for a full rebuild
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::scheduledRebuild);
+    }
+
+    @Scheduled(cron = "${analytics.rollup.backfill-cron:0 0 3 * * SUN}")
+    public void scheduledRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Sales rollup rebuild already running, skipping");
+            return;
+        }
+        try {
+            rebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private int rebuild() {
+        Long maxId = eventRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        // Chunks cover disjoint events, so they never upsert the same rows
+        List<long[]> ranges = new ArrayList<>();
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            ranges.add(new long[]{fromId, Math.min(fromId + chunkSize - 1, maxId)});
+        }
+
+        long startedAt = System.currentTimeMillis();
+        for (int i = 0; i < ranges.size(); i += parallelism) {
+            List<CompletableFuture<Void>> running = new ArrayList<>();
+            for (long[] range : ranges.subList(i, Math.min(i + parallelism, ranges.size()))) {
+                running.add(CompletableFuture.runAsync(() -> rebuildChunk(range[0], range[1]), taskExecutor));
+            }
+            CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+        }
+
+        log.info("Sales rollups rebuilt for events 1-{} in {} chunks ({} ms)",
+                maxId, ranges.size(), System.currentTimeMillis() - startedAt);
+        return ranges.size();
+    }
+
+    private void rebuildChunk(long fromId, long toId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            salesRollupRepository.deleteByEventIdBetween(fromId, toId);
+            salesRollupRepository.insertHourlyFromPayments(fromId, toId);
+            salesRollupRepository.insertDailyFromHourly(fromId, toId);
+        });
+    }
+}
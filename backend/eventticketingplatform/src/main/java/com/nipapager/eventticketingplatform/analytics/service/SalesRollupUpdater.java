@@ -0,0 +1,61 @@
+package com.nipapager.eventticketingplatform.analytics.service;
+
+import com.nipapager.eventticketingplatform.analytics.repository.SalesRollupRepository;
+import com.nipapager.eventticketingplatform.enums.RollupGranularity;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.order.entity.Order;
+import com.nipapager.eventticketingplatform.order.entity.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Applies single payments to the sales rollups
+ * Called inside the payment or refund transaction, so a rollup never counts a payment that rolled back
+ * A refund is taken off the bucket of the original payment, matching what the backfill produces
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupUpdater {
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    /**
+     * Add a completed payment
+     */
+    public void recordPayment(Order order, LocalDateTime paidAt) {
+        apply(order, paidAt, 1);
+    }
+
+    /**
+     * Take a refunded payment back out
+     */
+    public void recordRefund(Order order, LocalDateTime paidAt) {
+        apply(order, paidAt, -1);
+    }
+
+    private void apply(Order order, LocalDateTime paidAt, int sign) {
+        if (paidAt == null) {
+            return;
+        }
+
+        long tickets = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (OrderItem orderItem : order.getOrderItems()) {
+            tickets += orderItem.getQuantity();
+            revenue = revenue.add(orderItem.getPricePerTicket().multiply(BigDecimal.valueOf(orderItem.getQuantity())));
+        }
+
+        Event event = order.getEvent();
+        Long categoryId = event.getCategory().getId();
+        String city = event.getVenue().getCity();
+
+        salesRollupRepository.addToBucket(RollupGranularity.HOUR.name(), paidAt.truncatedTo(ChronoUnit.HOURS),
+                event.getId(), categoryId, city, sign, sign * tickets, revenue.multiply(BigDecimal.valueOf(sign)));
+        salesRollupRepository.addToBucket(RollupGranularity.DAY.name(), paidAt.toLocalDate().atStartOfDay(),
+                event.getId(), categoryId, city, sign, sign * tickets, revenue.multiply(BigDecimal.valueOf(sign)));
+    }
+}
@@ -2,11 +2,14 @@ package com.nipapager.eventticketingplatform.category.controller;
 
 import com.nipapager.eventticketingplatform.category.dto.CategoryDTO;
 import com.nipapager.eventticketingplatform.category.service.CategoryService;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,9 +32,15 @@ public class CategoryController {
 
 
     @GetMapping
-    public ResponseEntity<Response<List<CategoryDTO>>> getAllCategories() {
+    public ResponseEntity<Response<List<CategoryDTO>>> getAllCategories(WebRequest webRequest) {
+        CacheValidator validator = categoryService.getCategoriesValidator();
+        // 304 Not Modified - skip loading, mapping and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
         Response<List<CategoryDTO>> response = categoryService.getAllCategories();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @GetMapping("/{id}")
@@ -32,4 +32,11 @@ public class Category {
     private String imageUrl;
 
     private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.nipapager.eventticketingplatform.category.repository;
 
 import com.nipapager.eventticketingplatform.category.entity.Category;
 import com.nipapager.eventticketingplatform.enums.UserRole;
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
 import com.nipapager.eventticketingplatform.role.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,4 +19,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
 
     Boolean existsByName(String name);
+
+    // Version of the categories table for HTTP validators
+    @Query(value = "SELECT COUNT(*) AS rowCount, MAX(COALESCE(c.updated_at, c.created_at)) AS modifiedAt, 0 AS checksum " +
+            "FROM categories c",
+            nativeQuery = true)
+    ResourceVersion findVersion();
 }
\ No newline at end of file
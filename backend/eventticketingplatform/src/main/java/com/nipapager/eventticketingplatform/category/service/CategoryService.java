@@ -1,6 +1,7 @@
 package com.nipapager.eventticketingplatform.category.service;
 
 import com.nipapager.eventticketingplatform.category.dto.CategoryDTO;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 
 import java.util.List;
@@ -14,6 +15,11 @@ public interface CategoryService {
 
     Response<List<CategoryDTO>> getAllCategories();
 
+    /**
+     * Get ETag/Last-Modified of the category list without loading categories
+     */
+    CacheValidator getCategoriesValidator();
+
     Response<CategoryDTO> getCategoryById(Long id);
 
     Response<CategoryDTO> updateCategory(Long id, CategoryDTO categoryDTO);
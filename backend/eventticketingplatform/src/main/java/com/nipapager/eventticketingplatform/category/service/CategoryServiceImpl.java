@@ -3,12 +3,16 @@ package com.nipapager.eventticketingplatform.category.service;
 import com.nipapager.eventticketingplatform.category.dto.CategoryDTO;
 import com.nipapager.eventticketingplatform.category.entity.Category;
 import com.nipapager.eventticketingplatform.category.repository.CategoryRepository;
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
 import com.nipapager.eventticketingplatform.exception.BadRequestException;
 import com.nipapager.eventticketingplatform.exception.NotFoundException;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.search.service.SuggestionSourceChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +30,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Response<CategoryDTO> createCategory(CategoryDTO categoryDTO) {
@@ -44,6 +49,9 @@ public class CategoryServiceImpl implements CategoryService {
         Category savedCategory = categoryRepository.save(category);
         log.info("Category created successfully with ID: {}", savedCategory.getId());
 
+        // Add to search suggestions
+        eventPublisher.publishEvent(new SuggestionSourceChangedEvent(SuggestionType.CATEGORY, savedCategory.getId(), false));
+
         // Map saved entity back to DTO
         CategoryDTO savedDTO = modelMapper.map(savedCategory, CategoryDTO.class);
 
@@ -73,6 +81,11 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
     }
 
+    @Override
+    public CacheValidator getCategoriesValidator() {
+        return CacheValidator.of("categories", categoryRepository.findVersion());
+    }
+
     @Override
     public Response<CategoryDTO> getCategoryById(Long id) {
         log.info("Fetching category with id: {}", id);
@@ -121,6 +134,9 @@ public class CategoryServiceImpl implements CategoryService {
 
         // Save updated category
         Category savedCategory = categoryRepository.save(category);
+
+        // Events embed category names
+        eventPublisher.publishEvent(new SuggestionSourceChangedEvent(SuggestionType.CATEGORY, savedCategory.getId(), true));
         log.info("Category updated successfully: {}", savedCategory.getId());
 
         // Map to DTO
@@ -146,6 +162,9 @@ public class CategoryServiceImpl implements CategoryService {
         categoryRepository.deleteById(id);
         log.info("Category deleted successfully: {}", id);
 
+        // Drop from search suggestions
+        eventPublisher.publishEvent(new SuggestionSourceChangedEvent(SuggestionType.CATEGORY, id, false));
+
         return Response.<Void>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("Category deleted successfully")
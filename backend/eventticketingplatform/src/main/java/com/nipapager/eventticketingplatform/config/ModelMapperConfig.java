@@ -1,5 +1,7 @@
 package com.nipapager.eventticketingplatform.config;
 
+import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.entity.Event;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,8 +13,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ModelMapperConfig {
 
+    /**
+     * Event mapping for list responses: leaves the lazy ticket types untouched
+     * (cards use the ticket summary columns of the event row instead)
+     */
+    public static final String EVENT_LIST_MAPPING = "eventList";
+
     @Bean
     public ModelMapper modelMapper() {
-        return new ModelMapper();
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.createTypeMap(Event.class, EventDTO.class, EVENT_LIST_MAPPING)
+                .addMappings(mapper -> mapper.skip(EventDTO::setTicketTypes));
+        return modelMapper;
     }
-}
\ No newline at end of file
+}
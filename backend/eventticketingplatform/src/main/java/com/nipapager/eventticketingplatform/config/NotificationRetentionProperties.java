@@ -0,0 +1,36 @@
+package com.nipapager.eventticketingplatform.config;
+
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Retention settings for the notifications table
+ * Bound from notification.retention.* (e.g. notification.retention.days.WELCOME=30)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "notification.retention")
+@Data
+public class NotificationRetentionProperties {
+
+    private boolean enabled = true;
+
+    private int batchSize = 500;  // Rows moved per transaction
+
+    private int maxBatchesPerRun = 200;  // Upper bound of work per run
+
+    private int defaultDays = 180;  // Used for types without an explicit window
+
+    private Map<NotificationType, Integer> days = new EnumMap<>(NotificationType.class);
+
+    /**
+     * Retention window in days for a notification type
+     */
+    public int getRetentionDays(NotificationType type) {
+        return days.getOrDefault(type, defaultDays);
+    }
+}
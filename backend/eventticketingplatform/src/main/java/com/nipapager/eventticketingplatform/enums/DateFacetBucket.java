@@ -0,0 +1,49 @@
+package com.nipapager.eventticketingplatform.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Date ranges offered as search facets, relative to today
+ * Ranges overlap (an event this weekend is also in the next 7 days)
+ */
+public enum DateFacetBucket {
+    TODAY,          // Today only
+    TOMORROW,       // Tomorrow only
+    THIS_WEEKEND,   // Coming Saturday and Sunday (the rest of it on a weekend)
+    NEXT_7_DAYS,    // Today and the following 6 days
+    NEXT_30_DAYS,   // Today and the following 29 days
+    LATER;          // After the next 30 days
+
+    public LocalDate startDate(LocalDate today) {
+        return switch (this) {
+            case TODAY, NEXT_7_DAYS, NEXT_30_DAYS -> today;
+            case TOMORROW -> today.plusDays(1);
+            case THIS_WEEKEND -> today.getDayOfWeek() == DayOfWeek.SUNDAY
+                    ? today
+                    : today.plusDays(DayOfWeek.SATURDAY.getValue() - today.getDayOfWeek().getValue());
+            case LATER -> today.plusDays(30);
+        };
+    }
+
+    /**
+     * Last day of the range (null when open-ended)
+     */
+    public LocalDate endDate(LocalDate today) {
+        return switch (this) {
+            case TODAY -> today;
+            case TOMORROW -> today.plusDays(1);
+            case THIS_WEEKEND -> today.getDayOfWeek() == DayOfWeek.SUNDAY
+                    ? today
+                    : today.plusDays(DayOfWeek.SUNDAY.getValue() - today.getDayOfWeek().getValue());
+            case NEXT_7_DAYS -> today.plusDays(6);
+            case NEXT_30_DAYS -> today.plusDays(29);
+            case LATER -> null;
+        };
+    }
+
+    public boolean contains(LocalDate date, LocalDate today) {
+        LocalDate end = endDate(today);
+        return !date.isBefore(startDate(today)) && (end == null || !date.isAfter(end));
+    }
+}
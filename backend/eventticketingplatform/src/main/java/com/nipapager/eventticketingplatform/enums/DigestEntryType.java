@@ -0,0 +1,9 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Represents the kind of update collected into an organizer digest email
+ */
+public enum DigestEntryType {
+    EVENT_CREATED,   // Event submitted for approval
+    EVENT_APPROVED   // Event approved and live
+}
@@ -0,0 +1,11 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Represents a change to an event that ticket holders must be told about
+ */
+public enum EventChangeType {
+    RESCHEDULED,                    // Event date changed
+    VENUE_CHANGED,                  // Event moved to another venue
+    RESCHEDULED_AND_VENUE_CHANGED,  // Both date and venue changed
+    CANCELLED                       // Event cancelled by organizer or admin
+}
@@ -0,0 +1,22 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Sort orders of the public event catalog
+ * Every order ends with the event ID so keyset pagination is stable
+ */
+public enum EventSortOption {
+    DATE(true),     // Soonest event date first
+    PRICE(true),    // Cheapest ticket first (events without tickets last)
+    RATING(false),  // Highest average rating first
+    NEWEST(false);  // Most recently created first
+
+    private final boolean ascending;
+
+    EventSortOption(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+}
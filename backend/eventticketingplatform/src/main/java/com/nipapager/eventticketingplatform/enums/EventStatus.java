@@ -8,6 +8,7 @@ public enum EventStatus {
     APPROVED,     // Approved and visible to users
     ACTIVE,       // Event is currently happening
     REJECTED,     // Rejected by admin
-    CANCELLED     // Event has been cancelled
+    CANCELLED,    // Event has been cancelled
+    COMPLETED     // Event date has passed (set by the lifecycle job)
 
 }
\ No newline at end of file
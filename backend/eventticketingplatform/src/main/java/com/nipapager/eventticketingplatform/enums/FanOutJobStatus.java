@@ -0,0 +1,10 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Represents the progress of a notification fan-out job
+ */
+public enum FanOutJobStatus {
+    PENDING,    // Created, no holders enqueued yet
+    RUNNING,    // Holders are being enqueued in batches
+    COMPLETED   // Every holder has a queued notification
+}
@@ -0,0 +1,9 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Status change requested by an admin for a batch of events
+ */
+public enum ModerationAction {
+    APPROVE,
+    REJECT
+}
@@ -0,0 +1,12 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * What a batch moderation did to one event
+ */
+public enum ModerationOutcome {
+    APPROVED,     // Status changed to APPROVED
+    REJECTED,     // Status changed to REJECTED
+    UNCHANGED,    // Already in the requested status
+    NOT_ALLOWED,  // Completed events cannot be moderated
+    NOT_FOUND     // No event with this ID
+}
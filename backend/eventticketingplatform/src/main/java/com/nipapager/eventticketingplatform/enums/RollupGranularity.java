@@ -0,0 +1,9 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Width of a sales rollup bucket
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY
+}
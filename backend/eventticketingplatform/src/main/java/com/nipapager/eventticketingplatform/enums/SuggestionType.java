@@ -0,0 +1,11 @@
+package com.nipapager.eventticketingplatform.enums;
+
+/**
+ * Represents what a search box suggestion points to
+ */
+public enum SuggestionType {
+    EVENT,     // Approved event title
+    VENUE,     // Venue name
+    CITY,      // City with at least one venue
+    CATEGORY   // Event category name
+}
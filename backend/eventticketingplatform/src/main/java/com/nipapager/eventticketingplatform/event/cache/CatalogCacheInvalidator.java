@@ -0,0 +1,42 @@
+package com.nipapager.eventticketingplatform.event.cache;
+
+import com.nipapager.eventticketingplatform.search.service.SuggestionSourceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Applies catalog changes to the cache once the writing transaction has committed
+ * Runs immediately when the change was published outside a transaction
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogCacheInvalidator {
+
+    private final EventCatalogCache eventCatalogCache;
+    private final SearchResultCache searchResultCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent change) {
+        log.debug("Invalidating catalog cache for event {} (listing: {})",
+                change.eventId(), change.affectsListing());
+        eventCatalogCache.invalidate(change);
+
+        // Search results only expire on their own for content and rating changes
+        if (change.affectsSearch()) {
+            searchResultCache.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSuggestionSourceChanged(SuggestionSourceChangedEvent change) {
+        // Cached events and pages embed venue and category names
+        if (change.eventsChanged()) {
+            log.debug("Invalidating catalog cache for {} {}", change.type(), change.id());
+            eventCatalogCache.clear();
+            searchResultCache.clear();
+        }
+    }
+}
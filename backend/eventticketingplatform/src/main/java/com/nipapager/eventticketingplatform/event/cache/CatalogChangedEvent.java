@@ -0,0 +1,31 @@
+package com.nipapager.eventticketingplatform.event.cache;
+
+/**
+ * Published whenever data shown in the public event catalog changes
+ * Handled after the surrounding transaction commits so readers never re-cache the old state
+ * @param eventId Changed event (null when any event may have changed)
+ * @param affectsListing True if the change can move the event in or out of listings or change its position
+ * @param affectsSearch True if cached search responses must be dropped instead of expiring with their TTL
+ */
+public record CatalogChangedEvent(Long eventId, boolean affectsListing, boolean affectsSearch) {
+
+    // Event fields, status or price changed
+    public static CatalogChangedEvent listingChanged(Long eventId) {
+        return new CatalogChangedEvent(eventId, true, true);
+    }
+
+    // Rating statistics changed; search responses may show the old rating until they expire
+    public static CatalogChangedEvent ratingChanged(Long eventId) {
+        return new CatalogChangedEvent(eventId, true, false);
+    }
+
+    // Only the event's own content changed (e.g. tickets left)
+    public static CatalogChangedEvent contentChanged(Long eventId) {
+        return new CatalogChangedEvent(eventId, false, false);
+    }
+
+    // Bulk change across events
+    public static CatalogChangedEvent allChanged() {
+        return new CatalogChangedEvent(null, true, true);
+    }
+}
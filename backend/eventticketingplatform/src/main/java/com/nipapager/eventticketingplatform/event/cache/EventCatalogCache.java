@@ -0,0 +1,267 @@
+package com.nipapager.eventticketingplatform.event.cache;
+
+import com.nipapager.eventticketingplatform.event.dto.CatalogCacheStatsDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process cache of approved events for anonymous catalog browsing
+ * Holds single EventDTOs by ID and whole catalog pages by query key, both LRU-bounded
+ * Cached DTOs are shared between requests and must not be modified by callers
+ * Listing changes reject every load that overlapped them; content-only changes (ticket sales) only reject
+ * loads containing the changed event, so the cache keeps filling during an on-sale
+ */
+@Component
+@Slf4j
+public class EventCatalogCache {
+
+    @Value("${catalog.cache.enabled:true}")
+    private boolean enabled;
+
+    private final int maxEvents;
+    private final int maxPages;
+    private final long validatorLagMillis;
+
+    private final LinkedHashMap<Long, EventDTO> events;
+    private final LinkedHashMap<String, CachedPage> pages;
+
+    // Event ID -> keys of the cached pages showing it
+    private final Map<Long, Set<String>> pagesByEvent = new HashMap<>();
+
+    // Bumped on every invalidation; loads remember it and are checked against the changes made since
+    private final AtomicLong generation = new AtomicLong();
+
+    // Generation of the last listing change; no load started before it is cached
+    private volatile long listingGeneration;
+
+    // Event ID -> generation of its last content-only change since the last listing change
+    // (cleared by listing changes, so it holds at most one entry per event sold since then)
+    private final Map<Long, Long> eventGenerations = new HashMap<>();
+
+    // Wall-clock time of the last content-only change, for the catalog validator
+    private volatile long lastContentChangeMillis;
+
+    // Tells generations of this process apart from those of earlier runs and other instances
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final LongAdder eventHits = new LongAdder();
+    private final LongAdder eventMisses = new LongAdder();
+    private final LongAdder pageHits = new LongAdder();
+    private final LongAdder pageMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public EventCatalogCache(@Value("${catalog.cache.max-events:5000}") int maxEvents,
+                             @Value("${catalog.cache.max-pages:500}") int maxPages,
+                             @Value("${catalog.cache.validator-lag-seconds:30}") long validatorLagSeconds) {
+        this.maxEvents = maxEvents;
+        this.maxPages = maxPages;
+        this.validatorLagMillis = Math.max(1, validatorLagSeconds * 1000);
+
+        this.events = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, EventDTO> eldest) {
+                if (size() > EventCatalogCache.this.maxEvents) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+                if (size() > EventCatalogCache.this.maxPages) {
+                    evictions.increment();
+                    unindexPage(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Current generation, to be read before loading from the database
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Version of the whole catalog for HTTP validators
+     * Moves on every committed listing change seen by this instance and on restart; ticket sales move it
+     * at most once per validator lag, so revalidated pages show ticket counts at most that old
+     */
+    public String catalogVersion() {
+        if (lastContentChangeMillis == 0) {
+            return instanceId + ":" + listingGeneration;
+        }
+        // The lag window after the last sale, exposed only once that window has closed
+        long contentWindow = Math.min(lastContentChangeMillis / validatorLagMillis + 1,
+                System.currentTimeMillis() / validatorLagMillis);
+        return instanceId + ":" + listingGeneration + ":" + contentWindow;
+    }
+
+    public synchronized EventDTO getEvent(Long eventId) {
+        if (!enabled) {
+            return null;
+        }
+        EventDTO cached = events.get(eventId);
+        if (cached != null) {
+            eventHits.increment();
+        } else {
+            eventMisses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Cache an approved event loaded at the given generation
+     */
+    public synchronized void putEvent(EventDTO event, long loadedAtGeneration) {
+        if (!enabled || changedSince(event.getId(), loadedAtGeneration)) {
+            return;
+        }
+        events.put(event.getId(), event);
+    }
+
+    public synchronized CachedPage getPage(String key) {
+        if (!enabled) {
+            return null;
+        }
+        CachedPage cached = pages.get(key);
+        if (cached != null) {
+            pageHits.increment();
+        } else {
+            pageMisses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Cache a catalog page loaded at the given generation
+     */
+    public synchronized void putPage(String key, CachedPage page, long loadedAtGeneration) {
+        if (!enabled || listingGeneration > loadedAtGeneration) {
+            return;
+        }
+        for (EventDTO event : page.events()) {
+            if (changedSince(event.getId(), loadedAtGeneration)) {
+                return;
+            }
+        }
+        CachedPage previous = pages.put(key, page);
+        if (previous != null) {
+            unindexPage(key, previous);
+        }
+        for (EventDTO event : page.events()) {
+            pagesByEvent.computeIfAbsent(event.getId(), id -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Drop everything a catalog change can have made stale
+     * Content-only changes drop the event and the pages showing it;
+     * listing changes drop every page since membership and order may differ
+     */
+    public synchronized void invalidate(CatalogChangedEvent change) {
+        long changeGeneration = generation.incrementAndGet();
+        invalidations.increment();
+
+        if (change.eventId() == null || change.affectsListing()) {
+            listingGeneration = changeGeneration;
+            eventGenerations.clear();
+        } else {
+            eventGenerations.put(change.eventId(), changeGeneration);
+            lastContentChangeMillis = System.currentTimeMillis();
+        }
+
+        if (change.eventId() == null) {
+            events.clear();
+            pages.clear();
+            pagesByEvent.clear();
+            return;
+        }
+
+        events.remove(change.eventId());
+
+        if (change.affectsListing()) {
+            pages.clear();
+            pagesByEvent.clear();
+            return;
+        }
+
+        Set<String> keys = pagesByEvent.remove(change.eventId());
+        if (keys != null) {
+            for (String key : keys) {
+                CachedPage page = pages.remove(key);
+                if (page != null) {
+                    unindexPage(key, page);
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        invalidate(CatalogChangedEvent.allChanged());
+    }
+
+    public synchronized CatalogCacheStatsDTO getStats() {
+        return CatalogCacheStatsDTO.builder()
+                .enabled(enabled)
+                .cachedEvents(events.size())
+                .maxEvents(maxEvents)
+                .cachedPages(pages.size())
+                .maxPages(maxPages)
+                .eventHits(eventHits.sum())
+                .eventMisses(eventMisses.sum())
+                .pageHits(pageHits.sum())
+                .pageMisses(pageMisses.sum())
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .build();
+    }
+
+    // Whether the event may have changed after a load that started at the given generation
+    private boolean changedSince(Long eventId, long loadedAtGeneration) {
+        return listingGeneration > loadedAtGeneration
+                || eventGenerations.getOrDefault(eventId, 0L) > loadedAtGeneration;
+    }
+
+    private void unindexPage(String key, CachedPage page) {
+        for (EventDTO event : page.events()) {
+            Set<String> keys = pagesByEvent.get(event.getId());
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    pagesByEvent.remove(event.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * One page of catalog results with its pagination meta
+     */
+    public record CachedPage(List<EventDTO> events, Map<String, Serializable> meta) {
+    }
+}
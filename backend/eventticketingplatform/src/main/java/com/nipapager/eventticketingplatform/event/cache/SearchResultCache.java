@@ -0,0 +1,199 @@
+package com.nipapager.eventticketingplatform.event.cache;
+
+import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.dto.SearchCacheStatsDTO;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of whole event search responses keyed by normalized search parameters
+ * Fresh entries are served as they are; stale ones are served while one background load refreshes them
+ * Concurrent misses for the same key share a single load (single-flight)
+ * Listing changes drop everything; ticket counts and ratings are allowed to lag by up to the TTL
+ */
+@Component
+@Slf4j
+public class SearchResultCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final int maxEntries;
+
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    // Key -> load in progress
+    private final Map<String, CompletableFuture<Response<List<EventDTO>>>> inFlight = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation; loads started before it are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sharedLoads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public SearchResultCache(@Value("${search.cache.enabled:true}") boolean enabled,
+                             @Value("${search.cache.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${search.cache.stale-seconds:60}") long staleSeconds,
+                             @Value("${search.cache.max-entries:1000}") int maxEntries,
+                             @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                             PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.staleNanos = TimeUnit.SECONDS.toNanos(staleSeconds);
+        this.maxEntries = maxEntries;
+        this.taskExecutor = taskExecutor;
+
+        // Background refreshes have no request-scoped session, so they load inside a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SearchResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached response for the key, loading it at most once at a time when missing or stale
+     * Cached responses are shared between requests and must not be modified by callers
+     */
+    public Response<List<EventDTO>> get(String key, Supplier<Response<List<EventDTO>>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            long age = System.nanoTime() - entry.loadedAtNanos();
+            if (age < ttlNanos) {
+                hits.increment();
+                return entry.response();
+            }
+            if (age < ttlNanos + staleNanos) {
+                staleHits.increment();
+                refreshInBackground(key, loader);
+                return entry.response();
+            }
+        }
+
+        misses.increment();
+        try {
+            return load(key, loader).join();
+        } catch (CompletionException e) {
+            // Surface the loader's own exception (e.g. an invalid cursor)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public synchronized SearchCacheStatsDTO getStats() {
+        return SearchCacheStatsDTO.builder()
+                .enabled(enabled)
+                .cachedResults(entries.size())
+                .maxResults(maxEntries)
+                .hits(hits.sum())
+                .staleHits(staleHits.sum())
+                .misses(misses.sum())
+                .sharedLoads(sharedLoads.sum())
+                .refreshes(refreshes.sum())
+                .build();
+    }
+
+    /**
+     * Start a load for the key, or join the one already running
+     */
+    private CompletableFuture<Response<List<EventDTO>>> load(String key, Supplier<Response<List<EventDTO>>> loader) {
+        CompletableFuture<Response<List<EventDTO>>> mine = new CompletableFuture<>();
+        CompletableFuture<Response<List<EventDTO>>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            sharedLoads.increment();
+            return running;
+        }
+
+        long loadGeneration = generation.get();
+        try {
+            Response<List<EventDTO>> response = loader.get();
+            store(key, response, loadGeneration);
+            mine.complete(response);
+        } catch (Throwable e) {
+            // Any failure, errors included, must reach the requests sharing this load
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return mine;
+    }
+
+    private void refreshInBackground(String key, Supplier<Response<List<EventDTO>>> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+
+        try {
+            taskExecutor.execute(() -> {
+                refreshes.increment();
+                CompletableFuture<Response<List<EventDTO>>> result =
+                        readOnlyTransaction.execute(status -> load(key, loader));
+                if (result != null && result.isCompletedExceptionally()) {
+                    result.exceptionally(e -> {
+                        log.warn("Background refresh of search results failed for key {}", key, e);
+                        return null;
+                    });
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // Executor saturated; the stale entry is served until a request reloads it
+            log.debug("Search cache refresh rejected for key {}", key);
+        }
+    }
+
+    private synchronized void store(String key, Response<List<EventDTO>> response, long loadGeneration) {
+        if (loadGeneration != generation.get()) {
+            return;
+        }
+        entries.put(key, new Entry(response, System.nanoTime()));
+    }
+
+    private record Entry(Response<List<EventDTO>> response, long loadedAtNanos) {
+    }
+}
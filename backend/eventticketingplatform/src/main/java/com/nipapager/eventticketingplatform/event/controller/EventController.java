@@ -1,13 +1,28 @@
 package com.nipapager.eventticketingplatform.event.controller;
 
+import com.nipapager.eventticketingplatform.event.dto.CatalogCacheStatsDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventBundleDTO;
 import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventSalesDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventSummaryDTO;
+import com.nipapager.eventticketingplatform.event.dto.ModerationResultDTO;
+import com.nipapager.eventticketingplatform.event.request.BulkModerationRequest;
+import com.nipapager.eventticketingplatform.event.request.NearbyEventsRequest;
+import com.nipapager.eventticketingplatform.event.service.EventBundleService;
+import com.nipapager.eventticketingplatform.event.service.EventLifecycleService;
+import com.nipapager.eventticketingplatform.event.service.EventModerationService;
 import com.nipapager.eventticketingplatform.event.service.EventService;
+import com.nipapager.eventticketingplatform.event.service.OrganizerDashboardService;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,6 +36,10 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final EventBundleService eventBundleService;
+    private final EventLifecycleService eventLifecycleService;
+    private final EventModerationService eventModerationService;
+    private final OrganizerDashboardService organizerDashboardService;
 
     @PostMapping
     @PreAuthorize("hasAnyAuthority('ROLE_ORGANIZER', 'ROLE_ADMIN')")
@@ -30,15 +49,78 @@ public class EventController {
     }
 
     @GetMapping
-    public ResponseEntity<Response<List<EventDTO>>> getAllEvents() {
-        Response<List<EventDTO>> response = eventService.getAllEvents();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Response<List<EventDTO>>> getAllEvents(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        CacheValidator validator = eventService.getCatalogValidator();
+        // 304 Not Modified - skip loading, mapping and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
+        Response<List<EventDTO>> response = eventService.getAllEvents(sort, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(response);
+    }
+
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<Response<List<EventSummaryDTO>>> getEventSummaries(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        CacheValidator validator = eventService.getCatalogValidator();
+        // 304 Not Modified - skip loading, mapping and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
+        Response<List<EventSummaryDTO>> response = eventService.getEventSummaries(sort, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Response<EventDTO>> getEventById(@PathVariable Long id) {
+    public ResponseEntity<Response<EventDTO>> getEventById(@PathVariable Long id, WebRequest webRequest) {
+        // Only approved events are public and get validators
+        CacheValidator validator = eventService.getEventValidator(id);
+        if (validator == null) {
+            return ResponseEntity.ok(eventService.getEventById(id));
+        }
+
+        // 304 Not Modified - skip loading, mapping and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
         Response<EventDTO> response = eventService.getEventById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @GetMapping("/{id}/bundle")
+    public ResponseEntity<Response<EventBundleDTO>> getEventBundle(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer reviewsSize,
+            WebRequest webRequest) {
+        // Only approved events are public and get validators
+        CacheValidator validator = eventBundleService.getEventBundleValidator(id);
+        if (validator == null) {
+            return ResponseEntity.ok(eventBundleService.getEventBundle(id, reviewsSize));
+        }
+
+        // 304 Not Modified - skip all four lookups
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
+        Response<EventBundleDTO> response = eventBundleService.getEventBundle(id, reviewsSize);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PutMapping("/{id}")
@@ -59,11 +141,22 @@ public class EventController {
 
     @GetMapping("/search")
     public ResponseEntity<Response<List<EventDTO>>> searchEvents(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String city,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        Response<List<EventDTO>> response = eventService.searchEvents(city, categoryId, startDate, endDate);
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Response<List<EventDTO>> response = eventService.searchEvents(
+                q, city, categoryId, startDate, endDate, sort, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<Response<List<EventDTO>>> findNearbyEvents(NearbyEventsRequest request) {
+        Response<List<EventDTO>> response = eventService.findNearbyEvents(request);
         return ResponseEntity.ok(response);
     }
 
@@ -81,10 +174,54 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/admin/moderate")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<Response<List<ModerationResultDTO>>> moderateEvents(
+            @RequestBody BulkModerationRequest request) {
+        Response<List<ModerationResultDTO>> response = eventModerationService.moderateEvents(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/my-events")
     @PreAuthorize("hasAnyAuthority('ROLE_ORGANIZER', 'ROLE_ADMIN')")
     public ResponseEntity<Response<List<EventDTO>>> getMyEvents() {
         Response<List<EventDTO>> response = eventService.getMyEvents();
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/organizer/{organizerId}/past")
+    public ResponseEntity<Response<List<EventDTO>>> getOrganizerPastEvents(
+            @PathVariable Long organizerId,
+            @RequestParam(required = false) Integer size) {
+        Response<List<EventDTO>> response = eventService.getOrganizerPastEvents(organizerId, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/my-events/sales")
+    @PreAuthorize("hasAnyAuthority('ROLE_ORGANIZER', 'ROLE_ADMIN')")
+    public ResponseEntity<Response<List<EventSalesDTO>>> getMyEventSales() {
+        Response<List<EventSalesDTO>> response = organizerDashboardService.getMyEventSales();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/admin/cache-stats")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<Response<CatalogCacheStatsDTO>> getCatalogCacheStats() {
+        Response<CatalogCacheStatsDTO> response = eventService.getCatalogCacheStats();
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/admin/cache")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<Response<Void>> clearCatalogCache() {
+        Response<Void> response = eventService.clearCatalogCache();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/admin/complete-past")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<Response<Integer>> completePastEvents() {
+        Response<Integer> response = eventLifecycleService.completePastEvents();
+        return ResponseEntity.ok(response);
+    }
+}
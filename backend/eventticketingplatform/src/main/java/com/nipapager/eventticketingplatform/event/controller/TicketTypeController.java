@@ -2,11 +2,14 @@ package com.nipapager.eventticketingplatform.event.controller;
 
 import com.nipapager.eventticketingplatform.event.dto.TicketTypeDTO;
 import com.nipapager.eventticketingplatform.event.service.TicketTypeService;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,9 +33,16 @@ public class TicketTypeController {
     }
 
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<Response<List<TicketTypeDTO>>> getTicketTypesByEventId(@PathVariable Long eventId) {
+    public ResponseEntity<Response<List<TicketTypeDTO>>> getTicketTypesByEventId(@PathVariable Long eventId,
+                                                                                 WebRequest webRequest) {
+        CacheValidator validator = ticketTypeService.getTicketTypesValidator(eventId);
+        // 304 Not Modified - skip loading, mapping and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
         Response<List<TicketTypeDTO>> response = ticketTypeService.getTicketTypesByEventId(eventId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @GetMapping("/{id}")
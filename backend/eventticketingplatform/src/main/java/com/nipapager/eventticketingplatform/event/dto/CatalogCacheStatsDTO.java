@@ -0,0 +1,25 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogCacheStatsDTO {
+    private Boolean enabled;
+    private Integer cachedEvents;
+    private Integer maxEvents;
+    private Integer cachedPages;
+    private Integer maxPages;
+    private Long eventHits;
+    private Long eventMisses;
+    private Long pageHits;
+    private Long pageMisses;
+    private Long evictions;
+    private Long invalidations;
+    private SearchCacheStatsDTO searchResults;
+}
@@ -0,0 +1,25 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import com.nipapager.eventticketingplatform.review.dto.ReviewDTO;
+import com.nipapager.eventticketingplatform.review.dto.ReviewSummaryDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the event page shows, in one payload
+ * event.ticketTypes holds live availability
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBundleDTO {
+    private EventDTO event;
+    private ReviewSummaryDTO reviewSummary;
+    private List<ReviewDTO> reviews;        // Newest first
+    private Boolean hasMoreReviews;
+}
@@ -0,0 +1,38 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import com.nipapager.eventticketingplatform.enums.EventSortOption;
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters, sort and keyset position of one event catalog page
+ */
+@Data
+@Builder
+public class EventCatalogQuery {
+
+    private EventStatus status;  // null = any status (admin listing)
+
+    private String city;
+
+    private Long categoryId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private List<Long> eventIds;  // Restrict to these events (text search matches)
+
+    private EventSortOption sort;
+
+    // Keyset position (sort value and ID of the last event on the previous page)
+    private Comparable<?> afterValue;
+
+    private Long afterId;
+
+    private int limit;
+}
@@ -1,5 +1,6 @@
 package com.nipapager.eventticketingplatform.event.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.nipapager.eventticketingplatform.category.entity.Category;
 import com.nipapager.eventticketingplatform.enums.EventStatus;
 import com.nipapager.eventticketingplatform.event.entity.TicketType;
@@ -9,6 +10,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.ToString;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -35,9 +37,15 @@ public class EventDTO {
     private Boolean isFeatured;
     private Double averageRating;
     private Long reviewCount;
+    private BigDecimal minPrice;          // Cheapest ticket (null without ticket types)
+    private Integer ticketsRemaining;     // Across all ticket types
+    private Boolean soldOut;
     private List<TicketTypeDTO> ticketTypes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Double venueLatitude;
     private Double venueLongitude;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;  // Only set by location searches
 }
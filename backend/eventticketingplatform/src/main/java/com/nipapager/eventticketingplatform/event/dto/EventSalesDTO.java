@@ -0,0 +1,29 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One event on the organizer dashboard, with totals over its ticket types
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSalesDTO {
+    private Long eventId;
+    private String title;
+    private LocalDate eventDate;
+    private EventStatus status;
+    private Long ticketsSold;
+    private BigDecimal revenue;
+    private Integer ticketsRemaining;
+    private List<TicketTypeSalesDTO> ticketTypes;
+}
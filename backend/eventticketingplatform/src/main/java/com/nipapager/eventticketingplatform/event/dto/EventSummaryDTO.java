@@ -0,0 +1,32 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * List view of an event (view=summary)
+ * Only what an event card shows
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryDTO {
+    private Long id;
+    private String title;
+    private LocalDate eventDate;
+    private LocalTime eventTime;
+    private String imageUrl;
+    private String venueName;
+    private String venueCity;
+    private BigDecimal minPrice;       // Cheapest ticket (null without ticket types)
+    private Integer ticketsRemaining;
+    private Boolean soldOut;
+    private Double averageRating;
+}
@@ -0,0 +1,21 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.ModerationOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a batch moderation for one event
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationResultDTO {
+    private Long eventId;
+    private ModerationOutcome outcome;
+    private EventStatus previousStatus;  // Null if not found
+}
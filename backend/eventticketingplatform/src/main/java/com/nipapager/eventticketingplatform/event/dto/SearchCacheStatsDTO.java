@@ -0,0 +1,21 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchCacheStatsDTO {
+    private Boolean enabled;
+    private Integer cachedResults;
+    private Integer maxResults;
+    private Long hits;
+    private Long staleHits;
+    private Long misses;
+    private Long sharedLoads;
+    private Long refreshes;
+}
@@ -0,0 +1,25 @@
+package com.nipapager.eventticketingplatform.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Paid sales and stock of one ticket type
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTypeSalesDTO {
+    private Long ticketTypeId;
+    private String name;
+    private BigDecimal price;
+    private Integer totalQuantity;
+    private Integer quantityAvailable;  // Includes tickets held by pending orders as taken
+    private Long ticketsSold;           // Confirmed and completed orders
+    private BigDecimal revenue;         // At purchase prices
+}
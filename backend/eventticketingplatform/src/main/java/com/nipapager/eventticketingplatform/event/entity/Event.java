@@ -6,7 +6,9 @@ import com.nipapager.eventticketingplatform.user.entity.User;
 import com.nipapager.eventticketingplatform.venue.entity.Venue;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -21,9 +23,17 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_date", columnList = "status, event_date, id"),
+        @Index(name = "idx_events_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_events_status_price", columnList = "status, min_price, id"),
+        @Index(name = "idx_events_status_rating", columnList = "status, rating_average, id")
+})
 public class Event {
 
+    // Stored in min_price while an event has no ticket types, so price order can run on idx_events_status_price
+    public static final BigDecimal NO_PRICE = new BigDecimal("99999999.99");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -63,6 +73,50 @@ public class Event {
 
     private Boolean isFeatured;
 
+    // Rating statistics - maintained by atomic UPDATE statements in EventRepository, never by entity saves
+
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    private Long ratingCount;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_average", nullable = false, updatable = false)
+    private Double ratingAverage;  // Unrounded, kept for sorting
+
+    @ColumnDefault("0")
+    @Column(name = "rating_1_count", nullable = false, updatable = false)
+    private Long rating1Count;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_2_count", nullable = false, updatable = false)
+    private Long rating2Count;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_3_count", nullable = false, updatable = false)
+    private Long rating3Count;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_4_count", nullable = false, updatable = false)
+    private Long rating4Count;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_5_count", nullable = false, updatable = false)
+    private Long rating5Count;
+
+    // Ticket summary for listings - maintained by EventRepository, never by entity saves
+
+    @ColumnDefault("99999999.99")
+    @Column(name = "min_price", nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal minPrice;  // Cheapest ticket type or NO_PRICE - EventRepository.refreshTicketSummary
+
+    @ColumnDefault("0")
+    @Column(name = "tickets_remaining", nullable = false, updatable = false)
+    private Integer ticketsRemaining;  // Sum of quantityAvailable - EventRepository.adjustTicketsRemaining
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL)
     private List<TicketType> ticketTypes;
 
@@ -70,6 +124,30 @@ public class Event {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Cheapest ticket type price (null when there are no ticket types)
+     */
+    public BigDecimal getMinPrice() {
+        return minPrice == null || minPrice.compareTo(NO_PRICE) == 0 ? null : minPrice;
+    }
+
+    /**
+     * Has ticket types but none left
+     */
+    public boolean isSoldOut() {
+        return getMinPrice() != null && ticketsRemaining != null && ticketsRemaining == 0;
+    }
+
+    /**
+     * Average rating rounded to one decimal (null when there are no reviews)
+     */
+    public Double getAverageRating() {
+        if (ratingCount == null || ratingCount == 0) {
+            return null;
+        }
+        return Math.round((double) ratingSum / ratingCount * 10.0) / 10.0;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (status == null) {
@@ -78,6 +156,16 @@ public class Event {
         if (isFeatured == null) {
             isFeatured = false;
         }
+        ratingSum = 0L;
+        ratingCount = 0L;
+        ratingAverage = 0.0;
+        rating1Count = 0L;
+        rating2Count = 0L;
+        rating3Count = 0L;
+        rating4Count = 0L;
+        rating5Count = 0L;
+        minPrice = NO_PRICE;
+        ticketsRemaining = 0;
         createdAt = LocalDateTime.now();
     }
 
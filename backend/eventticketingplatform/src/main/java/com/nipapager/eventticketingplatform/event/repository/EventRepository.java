@@ -1,13 +1,20 @@
 package com.nipapager.eventticketingplatform.event.repository;
 
 import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.PaymentStatus;
 import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,25 +22,163 @@ import java.util.List;
  * Provides database operations for events
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
+
+    // Listing queries fetch category, venue and organizer in the same select
+    @Override
+    @EntityGraph(attributePaths = {"category", "venue", "organizer"})
+    List<Event> findAll();
 
     // Find events by status
+    @EntityGraph(attributePaths = {"category", "venue", "organizer"})
     List<Event> findByStatus(EventStatus status);
 
     // Find events by organizer
+    @EntityGraph(attributePaths = {"category", "venue", "organizer"})
     List<Event> findByOrganizerId(Long organizerId);
 
-    // Complex search with multiple filters
-    @Query("SELECT e FROM Event e WHERE " +
-            "(:city IS NULL OR e.venue.city = :city) AND " +
-            "(:categoryId IS NULL OR e.category.id = :categoryId) AND " +
-            "(:startDate IS NULL OR e.eventDate >= :startDate) AND " +
-            "(:endDate IS NULL OR e.eventDate <= :endDate) AND " +
-            "e.status = 'APPROVED'")
-    List<Event> searchEvents(
-            @Param("city") String city,
-            @Param("categoryId") Long categoryId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
+    // Most recent events of an organizer in a status (past events on event pages)
+    @EntityGraph(attributePaths = {"category", "venue", "organizer"})
+    List<Event> findByOrganizerIdAndStatusOrderByEventDateDescIdDesc(Long organizerId, EventStatus status, Pageable pageable);
+
+    // Load the events behind a page of search hits
+    @EntityGraph(attributePaths = {"category", "venue", "organizer"})
+    List<Event> findByIdIn(Collection<Long> ids);
+
+    // Walk events of a status in ID order (index rebuilds)
+    @EntityGraph(attributePaths = {"category", "venue"})
+    List<Event> findByStatusAndIdGreaterThanOrderByIdAsc(EventStatus status, Long afterId, Pageable pageable);
+
+    // Apply a review change to the rating statistics in one atomic statement
+    @Modifying
+    @Query("UPDATE Event e SET " +
+            "e.ratingSum = e.ratingSum + :sumDelta, " +
+            "e.ratingCount = e.ratingCount + :countDelta, " +
+            "e.rating1Count = e.rating1Count + :rating1Delta, " +
+            "e.rating2Count = e.rating2Count + :rating2Delta, " +
+            "e.rating3Count = e.rating3Count + :rating3Delta, " +
+            "e.rating4Count = e.rating4Count + :rating4Delta, " +
+            "e.rating5Count = e.rating5Count + :rating5Delta " +
+            "WHERE e.id = :eventId")
+    int adjustRatingStats(
+            @Param("eventId") Long eventId,
+            @Param("sumDelta") long sumDelta,
+            @Param("countDelta") long countDelta,
+            @Param("rating1Delta") long rating1Delta,
+            @Param("rating2Delta") long rating2Delta,
+            @Param("rating3Delta") long rating3Delta,
+            @Param("rating4Delta") long rating4Delta,
+            @Param("rating5Delta") long rating5Delta
     );
-}
\ No newline at end of file
+
+    // Recompute the sortable average after a rating change
+    @Modifying
+    @Query("UPDATE Event e SET e.ratingAverage = " +
+            "CASE WHEN e.ratingCount > 0 THEN e.ratingSum * 1.0 / e.ratingCount ELSE 0.0 END " +
+            "WHERE e.id = :eventId")
+    int refreshRatingAverage(@Param("eventId") Long eventId);
+
+    // Recompute the cheapest price and remaining tickets after a ticket type change
+    @Modifying
+    @Query("UPDATE Event e SET " +
+            "e.minPrice = COALESCE((SELECT MIN(t.price) FROM TicketType t WHERE t.event.id = :eventId), 99999999.99BD), " +
+            "e.ticketsRemaining = (SELECT COALESCE(SUM(t.quantityAvailable), 0) FROM TicketType t WHERE t.event.id = :eventId) " +
+            "WHERE e.id = :eventId")
+    int refreshTicketSummary(@Param("eventId") Long eventId);
+
+    // Apply a booking (negative) or release (positive) to the remaining tickets in one atomic statement
+    @Modifying
+    @Query("UPDATE Event e SET e.ticketsRemaining = e.ticketsRemaining + :delta WHERE e.id = :eventId")
+    int adjustTicketsRemaining(@Param("eventId") Long eventId, @Param("delta") int delta);
+
+    // Recompute rating statistics from reviews for an ID range of events (repair job)
+    @Modifying
+    @Query(value = "UPDATE events e LEFT JOIN (" +
+            "SELECT r.event_id, SUM(r.rating) AS rating_sum, COUNT(*) AS rating_count, " +
+            "SUM(r.rating = 1) AS r1, SUM(r.rating = 2) AS r2, SUM(r.rating = 3) AS r3, " +
+            "SUM(r.rating = 4) AS r4, SUM(r.rating = 5) AS r5 " +
+            "FROM reviews r WHERE r.event_id BETWEEN :fromId AND :toId GROUP BY r.event_id" +
+            ") s ON s.event_id = e.id " +
+            "SET e.rating_sum = COALESCE(s.rating_sum, 0), e.rating_count = COALESCE(s.rating_count, 0), " +
+            "e.rating_1_count = COALESCE(s.r1, 0), e.rating_2_count = COALESCE(s.r2, 0), " +
+            "e.rating_3_count = COALESCE(s.r3, 0), e.rating_4_count = COALESCE(s.r4, 0), " +
+            "e.rating_5_count = COALESCE(s.r5, 0), " +
+            "e.rating_average = COALESCE(s.rating_sum / s.rating_count, 0) " +
+            "WHERE e.id BETWEEN :fromId AND :toId",
+            nativeQuery = true)
+    int recomputeRatingStats(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Events that embed a venue's or category's name (foreign key indexes)
+    @Query("SELECT e.id FROM Event e WHERE e.venue.id = :venueId")
+    List<Long> findIdsByVenueId(@Param("venueId") Long venueId);
+
+    @Query("SELECT e.id FROM Event e WHERE e.category.id = :categoryId")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    // Events of a status dated before a day, oldest first (idx_events_status_date)
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status AND e.eventDate < :date ORDER BY e.eventDate, e.id")
+    List<Long> findIdsByStatusAndEventDateBefore(
+            @Param("status") EventStatus status,
+            @Param("date") LocalDate date,
+            Pageable pageable
+    );
+
+    // Paid sales per ticket type of an organizer's events; events without ticket types get one row with nulls
+    // Sales count only while the order's payment is completed, so refunded orders (which keep their order status) drop out
+    // (rows: eventId, title, eventDate, status, ticketTypeId, name, price, totalQuantity, quantityAvailable, sold, revenue)
+    @Query("SELECT e.id, e.title, e.eventDate, e.status, t.id, t.name, t.price, t.totalQuantity, t.quantityAvailable, " +
+            "COALESCE(SUM(CASE WHEN p.status = :paidStatus THEN i.quantity ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.status = :paidStatus THEN i.quantity * i.pricePerTicket ELSE 0 END), 0) " +
+            "FROM Event e LEFT JOIN e.ticketTypes t LEFT JOIN OrderItem i ON i.ticketType = t LEFT JOIN i.order o " +
+            "LEFT JOIN Payment p ON p.order = o " +
+            "WHERE e.organizer.id = :organizerId " +
+            "GROUP BY e.id, e.title, e.eventDate, e.status, t.id, t.name, t.price, t.totalQuantity, t.quantityAvailable " +
+            "ORDER BY e.eventDate DESC, e.id DESC, t.id")
+    List<Object[]> findTicketSalesByOrganizerId(
+            @Param("organizerId") Long organizerId,
+            @Param("paidStatus") PaymentStatus paidStatus
+    );
+
+    // Current status of a batch of events (rows: id, status)
+    @Query("SELECT e.id, e.status FROM Event e WHERE e.id IN :eventIds")
+    List<Object[]> findStatusesByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // Events of a batch that transitionStatus moved to a status at the given time
+    @Query("SELECT e.id FROM Event e WHERE e.id IN :eventIds AND e.status = :status AND e.updatedAt = :changedAt")
+    List<Long> findIdsTransitionedAt(
+            @Param("eventIds") Collection<Long> eventIds,
+            @Param("status") EventStatus status,
+            @Param("changedAt") LocalDateTime changedAt
+    );
+
+    // Move a batch of events to a status; rows no longer in one of the from-statuses are left alone
+    @Modifying
+    @Query("UPDATE Event e SET e.status = :toStatus, e.updatedAt = :now " +
+            "WHERE e.id IN :eventIds AND e.status IN :fromStatuses")
+    int transitionStatus(
+            @Param("eventIds") Collection<Long> eventIds,
+            @Param("fromStatuses") Collection<EventStatus> fromStatuses,
+            @Param("toStatus") EventStatus toStatus,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("SELECT MAX(e.id) FROM Event e")
+    Long findMaxId();
+
+    // Versions of an event, its ticket types, venues and categories (in that order) for single-event HTTP validators
+    // Rating statistics are bulk-updated without touching updated_at, so they go into the checksum
+    @Query(value = "SELECT 1 AS part, COUNT(*) AS rowCount, MAX(COALESCE(e.updated_at, e.created_at)) AS modifiedAt, " +
+            "COALESCE(SUM(e.rating_sum * 31 + e.rating_count), 0) AS checksum " +
+            "FROM events e WHERE (:status IS NULL OR e.status = :status) AND (:eventId IS NULL OR e.id = :eventId) " +
+            "UNION ALL " +
+            "SELECT 2, COUNT(*), MAX(COALESCE(t.updated_at, t.created_at)), COALESCE(SUM(t.quantity_available), 0) " +
+            "FROM ticket_types t JOIN events e ON e.id = t.event_id " +
+            "WHERE (:status IS NULL OR e.status = :status) AND (:eventId IS NULL OR e.id = :eventId) " +
+            "UNION ALL " +
+            "SELECT 3, COUNT(*), MAX(COALESCE(v.updated_at, v.created_at)), 0 FROM venues v " +
+            "UNION ALL " +
+            "SELECT 4, COUNT(*), MAX(COALESCE(c.updated_at, c.created_at)), 0 FROM categories c " +
+            "ORDER BY part",
+            nativeQuery = true)
+    List<ResourceVersion> findCatalogVersions(@Param("status") String status, @Param("eventId") Long eventId);
+}
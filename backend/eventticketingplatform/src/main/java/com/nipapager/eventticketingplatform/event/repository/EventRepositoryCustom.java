@@ -0,0 +1,18 @@
+package com.nipapager.eventticketingplatform.event.repository;
+
+import com.nipapager.eventticketingplatform.event.dto.EventCatalogQuery;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+
+import java.util.List;
+
+/**
+ * Custom queries for Event that need a dynamically built where/order by clause
+ */
+public interface EventRepositoryCustom {
+
+    // One keyset page of the event catalog (category, venue and organizer fetched)
+    List<Event> findCatalogPage(EventCatalogQuery query);
+
+    // Same page as findCatalogPage, selecting only the columns of the list view
+    List<EventSummaryRow> findCatalogSummaryPage(EventCatalogQuery query);
+}
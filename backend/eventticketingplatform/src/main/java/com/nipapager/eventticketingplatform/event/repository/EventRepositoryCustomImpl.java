@@ -0,0 +1,171 @@
+package com.nipapager.eventticketingplatform.event.repository;
+
+import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.enums.EventSortOption;
+import com.nipapager.eventticketingplatform.event.dto.EventCatalogQuery;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.user.entity.User;
+import com.nipapager.eventticketingplatform.venue.entity.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of the event catalog query
+ * Filters only on indexed columns and pages by (sort value, id) instead of OFFSET
+ */
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Event> findCatalogPage(EventCatalogQuery query) {
+        if (query.getEventIds() != null && query.getEventIds().isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> cq = cb.createQuery(Event.class);
+        Root<Event> event = cq.from(Event.class);
+
+        // Fetch the associations mapToDTO reads
+        Join<Event, Category> category = (Join<Event, Category>) event.<Event, Category>fetch("category");
+        Join<Event, Venue> venue = (Join<Event, Venue>) event.<Event, Venue>fetch("venue");
+        event.<Event, User>fetch("organizer");
+
+        List<Predicate> predicates = applyFiltersAndSort(cb, cq, event, category, venue, query);
+        cq.select(event).where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(query.getLimit())
+                .getResultList();
+    }
+
+    @Override
+    public List<EventSummaryRow> findCatalogSummaryPage(EventCatalogQuery query) {
+        if (query.getEventIds() != null && query.getEventIds().isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummaryRow> cq = cb.createQuery(EventSummaryRow.class);
+        Root<Event> event = cq.from(Event.class);
+
+        // Plain joins: only the selected venue columns are read
+        Join<Event, Category> category = event.join("category");
+        Join<Event, Venue> venue = event.join("venue");
+
+        List<Predicate> predicates = applyFiltersAndSort(cb, cq, event, category, venue, query);
+        cq.select(cb.construct(EventSummaryRow.class,
+                        event.get("id"),
+                        event.get("title"),
+                        event.get("eventDate"),
+                        event.get("eventTime"),
+                        event.get("imageUrl"),
+                        venue.get("name"),
+                        venue.get("city"),
+                        event.get("minPrice"),
+                        event.get("ticketsRemaining"),
+                        event.get("ratingSum"),
+                        event.get("ratingCount"),
+                        event.get("ratingAverage"),
+                        event.get("createdAt")))
+                .where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(query.getLimit())
+                .getResultList();
+    }
+
+    /**
+     * Build the catalog filters (including the keyset position) and set the order by
+     * @return Predicates for the where clause
+     */
+    private List<Predicate> applyFiltersAndSort(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<Event> event,
+                                                Join<Event, Category> category, Join<Event, Venue> venue,
+                                                EventCatalogQuery query) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getStatus() != null) {
+            predicates.add(cb.equal(event.get("status"), query.getStatus()));
+        }
+        if (query.getCity() != null && !query.getCity().isBlank()) {
+            predicates.add(cb.equal(venue.get("city"), query.getCity()));
+        }
+        if (query.getCategoryId() != null) {
+            predicates.add(cb.equal(category.get("id"), query.getCategoryId()));
+        }
+        if (query.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.get("eventDate"), query.getStartDate()));
+        }
+        if (query.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.get("eventDate"), query.getEndDate()));
+        }
+        if (query.getEventIds() != null) {
+            predicates.add(event.get("id").in(query.getEventIds()));
+        }
+
+        EventSortOption sort = query.getSort();
+        Path<Long> id = event.get("id");
+
+        switch (sort) {
+            case DATE -> {
+                Expression<LocalDate> key = event.get("eventDate");
+                addKeyset(cb, predicates, key, (LocalDate) query.getAfterValue(), id, query.getAfterId(), sort.isAscending());
+                cq.orderBy(order(cb, key, sort), order(cb, id, sort));
+            }
+            case PRICE -> {
+                // Events without ticket types store Event.NO_PRICE, so the raw column sorts them last
+                Expression<BigDecimal> key = event.get("minPrice");
+                addKeyset(cb, predicates, key, (BigDecimal) query.getAfterValue(), id, query.getAfterId(), sort.isAscending());
+                cq.orderBy(order(cb, key, sort), order(cb, id, sort));
+            }
+            case RATING -> {
+                Expression<Double> key = event.get("ratingAverage");
+                addKeyset(cb, predicates, key, (Double) query.getAfterValue(), id, query.getAfterId(), sort.isAscending());
+                cq.orderBy(order(cb, key, sort), order(cb, id, sort));
+            }
+            case NEWEST -> {
+                Expression<LocalDateTime> key = event.get("createdAt");
+                addKeyset(cb, predicates, key, (LocalDateTime) query.getAfterValue(), id, query.getAfterId(), sort.isAscending());
+                cq.orderBy(order(cb, key, sort), order(cb, id, sort));
+            }
+        }
+
+        return predicates;
+    }
+
+    private Order order(CriteriaBuilder cb, Expression<?> expression, EventSortOption sort) {
+        return sort.isAscending() ? cb.asc(expression) : cb.desc(expression);
+    }
+
+    /**
+     * Add "(key, id) after (value, lastId)" in the given direction
+     */
+    private <T extends Comparable<? super T>> void addKeyset(
+            CriteriaBuilder cb, List<Predicate> predicates,
+            Expression<T> key, T value, Path<Long> id, Long lastId, boolean ascending) {
+        if (value == null || lastId == null) {
+            return;
+        }
+
+        if (ascending) {
+            predicates.add(cb.or(
+                    cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(id, lastId))
+            ));
+        } else {
+            predicates.add(cb.or(
+                    cb.lessThan(key, value),
+                    cb.and(cb.equal(key, value), cb.lessThan(id, lastId))
+            ));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.nipapager.eventticketingplatform.event.repository;
+
+import com.nipapager.eventticketingplatform.event.entity.Event;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Columns of one event in the catalog list view
+ * Also carries the sort keys needed to build the next-page cursor
+ * @param minPrice Cheapest ticket type price (null when there are no ticket types)
+ */
+public record EventSummaryRow(
+        Long id,
+        String title,
+        LocalDate eventDate,
+        LocalTime eventTime,
+        String imageUrl,
+        String venueName,
+        String venueCity,
+        BigDecimal minPrice,
+        Integer ticketsRemaining,
+        Long ratingSum,
+        Long ratingCount,
+        Double ratingAverage,
+        LocalDateTime createdAt
+) {
+
+    public EventSummaryRow {
+        if (minPrice != null && minPrice.compareTo(Event.NO_PRICE) == 0) {
+            minPrice = null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.nipapager.eventticketingplatform.event.repository;
 
 import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.enums.EventStatus;
 import com.nipapager.eventticketingplatform.event.entity.TicketType;
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +22,20 @@ public interface TicketTypeRepository extends JpaRepository<TicketType, Long> {
 
     // Check if ticket type name exists for an event (to prevent duplicates like "VIP", "VIP")
     Boolean existsByEventIdAndName(Long eventId, String name);
-}
\ No newline at end of file
+
+    // Version of an event's ticket types for HTTP validators
+    @Query(value = "SELECT COUNT(*) AS rowCount, MAX(COALESCE(t.updated_at, t.created_at)) AS modifiedAt, " +
+            "COALESCE(SUM(t.quantity_available), 0) AS checksum " +
+            "FROM ticket_types t WHERE t.event_id = :eventId",
+            nativeQuery = true)
+    ResourceVersion findVersionByEventId(@Param("eventId") Long eventId);
+
+    // Tickets sold per event with the given status (rows: eventId, sold)
+    @Query("SELECT t.event.id, SUM(t.totalQuantity - t.quantityAvailable) FROM TicketType t " +
+            "WHERE t.event.status = :status GROUP BY t.event.id")
+    List<Object[]> sumSoldByEventStatus(@Param("status") EventStatus status);
+
+    // Tickets sold for one event
+    @Query("SELECT COALESCE(SUM(t.totalQuantity - t.quantityAvailable), 0) FROM TicketType t WHERE t.event.id = :eventId")
+    Long sumSoldByEventId(@Param("eventId") Long eventId);
+}
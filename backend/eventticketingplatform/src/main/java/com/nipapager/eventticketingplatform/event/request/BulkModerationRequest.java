@@ -0,0 +1,15 @@
+package com.nipapager.eventticketingplatform.event.request;
+
+import com.nipapager.eventticketingplatform.enums.ModerationAction;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Approve or reject many events at once
+ */
+@Data
+public class BulkModerationRequest {
+    private List<Long> eventIds;
+    private ModerationAction action;
+}
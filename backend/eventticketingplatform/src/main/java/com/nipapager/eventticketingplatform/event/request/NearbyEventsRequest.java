@@ -0,0 +1,44 @@
+package com.nipapager.eventticketingplatform.event.request;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Query parameters of a location search
+ * Either a point (lat, lng, radiusKm) or a box (minLat, minLng, maxLat, maxLng)
+ */
+@Data
+public class NearbyEventsRequest {
+
+    // Point and radius
+    private Double lat;
+    private Double lng;
+    private Double radiusKm;
+
+    // Bounding box (minLng > maxLng crosses the antimeridian)
+    private Double minLat;
+    private Double minLng;
+    private Double maxLat;
+    private Double maxLng;
+
+    private Long categoryId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private String cursor;
+    private Integer size;
+
+    public boolean hasPoint() {
+        return lat != null || lng != null;
+    }
+
+    public boolean hasBox() {
+        return minLat != null || minLng != null || maxLat != null || maxLng != null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.enums.EventSortOption;
+import com.nipapager.eventticketingplatform.event.dto.EventCatalogQuery;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.repository.EventSummaryRow;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors of catalog and search pages
+ * Cursor = base64url("SORT|sortValue|id") of the last event on the page
+ */
+final class CatalogCursor {
+
+    private CatalogCursor() {
+    }
+
+    static String encode(EventSortOption sort, Event last) {
+        Object sortValue = switch (sort) {
+            case DATE -> last.getEventDate();
+            case PRICE -> last.getMinPrice() != null ? last.getMinPrice().toPlainString() : Event.NO_PRICE.toPlainString();
+            case RATING -> last.getRatingAverage();
+            case NEWEST -> last.getCreatedAt();
+        };
+        return encode(sort.name(), sortValue, last.getId());
+    }
+
+    static String encode(EventSortOption sort, EventSummaryRow last) {
+        Object sortValue = switch (sort) {
+            case DATE -> last.eventDate();
+            case PRICE -> last.minPrice() != null ? last.minPrice().toPlainString() : Event.NO_PRICE.toPlainString();
+            case RATING -> last.ratingAverage();
+            case NEWEST -> last.createdAt();
+        };
+        return encode(sort.name(), sortValue, last.id());
+    }
+
+    static String encode(String sortName, Object sortValue, Long lastId) {
+        String raw = sortName + "|" + sortValue + "|" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor of the given sort into its sort value and ID
+     */
+    static String[] decode(String cursor, String sortName) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (parts.length != 3 || !parts[0].equals(sortName)) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+        return new String[]{parts[1], parts[2]};
+    }
+
+    /**
+     * Set the keyset position of a catalog query from a cursor of its sort
+     */
+    static void apply(EventCatalogQuery.EventCatalogQueryBuilder queryBuilder, EventSortOption sort, String cursor) {
+        String[] position = decode(cursor, sort.name());
+        try {
+            Comparable<?> afterValue = switch (sort) {
+                case DATE -> LocalDate.parse(position[0]);
+                case PRICE -> new BigDecimal(position[0]);
+                case RATING -> Double.valueOf(position[0]);
+                case NEWEST -> LocalDateTime.parse(position[0]);
+            };
+            queryBuilder.afterValue(afterValue).afterId(Long.parseLong(position[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.event.dto.EventBundleDTO;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
+import com.nipapager.eventticketingplatform.response.Response;
+
+/**
+ * Service interface for the composite event page payload
+ */
+public interface EventBundleService {
+
+    /**
+     * Event, ticket types, rating summary and the first page of reviews
+     * @param reviewsSize Reviews to include (capped)
+     */
+    Response<EventBundleDTO> getEventBundle(Long id, Integer reviewsSize);
+
+    /**
+     * Get ETag/Last-Modified of an approved event's bundle (null if not approved or missing)
+     */
+    CacheValidator getEventBundleValidator(Long id);
+}
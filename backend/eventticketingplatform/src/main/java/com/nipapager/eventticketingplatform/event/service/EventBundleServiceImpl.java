@@ -0,0 +1,182 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.event.dto.EventBundleDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.dto.TicketTypeDTO;
+import com.nipapager.eventticketingplatform.event.entity.TicketType;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.event.repository.TicketTypeRepository;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.review.dto.ReviewDTO;
+import com.nipapager.eventticketingplatform.review.dto.ReviewSummaryDTO;
+import com.nipapager.eventticketingplatform.review.repository.ReviewRepository;
+import com.nipapager.eventticketingplatform.review.service.ReviewService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Service implementation for the composite event page payload
+ * The event is checked once on the request thread (it needs the caller's security context);
+ * once it passes, reviews and rating summary load on a small dedicated pool while the request
+ * thread loads the ticket types
+ */
+@Service
+@Slf4j
+public class EventBundleServiceImpl implements EventBundleService {
+
+    private static final int DEFAULT_REVIEWS_SIZE = 10;
+    private static final int MAX_REVIEWS_SIZE = 50;
+
+    private final EventService eventService;
+    private final ReviewService reviewService;
+    private final EventRepository eventRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+    private final ReviewRepository reviewRepository;
+    private final ModelMapper modelMapper;
+    private final ThreadPoolTaskExecutor taskExecutor;
+
+    public EventBundleServiceImpl(EventService eventService,
+                                  ReviewService reviewService,
+                                  EventRepository eventRepository,
+                                  TicketTypeRepository ticketTypeRepository,
+                                  ReviewRepository reviewRepository,
+                                  ModelMapper modelMapper,
+                                  @Value("${event.bundle.pool-size:8}") int poolSize,
+                                  @Value("${event.bundle.queue-capacity:100}") int queueCapacity) {
+        this.eventService = eventService;
+        this.reviewService = reviewService;
+        this.eventRepository = eventRepository;
+        this.ticketTypeRepository = ticketTypeRepository;
+        this.reviewRepository = reviewRepository;
+        this.modelMapper = modelMapper;
+
+        // Own bounded pool, so bundle traffic never queues behind mail or batch jobs;
+        // when it is full the request thread runs the lookup itself
+        this.taskExecutor = new ThreadPoolTaskExecutor();
+        this.taskExecutor.setCorePoolSize(poolSize);
+        this.taskExecutor.setMaxPoolSize(poolSize);
+        this.taskExecutor.setQueueCapacity(queueCapacity);
+        this.taskExecutor.setThreadNamePrefix("event-bundle-");
+        this.taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.taskExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskExecutor.shutdown();
+    }
+
+    @Override
+    public Response<EventBundleDTO> getEventBundle(Long id, Integer reviewsSize) {
+        log.info("Fetching event bundle for event: {}", id);
+
+        // Validate reviews page size
+        int pageSize = reviewsSize != null ? reviewsSize : DEFAULT_REVIEWS_SIZE;
+        if (pageSize < 1 || pageSize > MAX_REVIEWS_SIZE) {
+            throw new BadRequestException("reviewsSize must be between 1 and " + MAX_REVIEWS_SIZE);
+        }
+
+        // Existence and visibility checks (served from the catalog cache for approved events)
+        // come first, so hidden or missing events never reach the lookups
+        EventDTO cachedEvent = eventService.getEventById(id).getData();
+
+        // Independent lookups
+        CompletableFuture<List<Object[]>> reviewRowsFuture = CompletableFuture.supplyAsync(
+                () -> reviewRepository.findLatestRowsByEventId(id, PageRequest.of(0, pageSize + 1)), taskExecutor);
+        CompletableFuture<ReviewSummaryDTO> summaryFuture = CompletableFuture.supplyAsync(
+                () -> reviewService.getReviewSummary(id).getData(), taskExecutor);
+        List<TicketType> ticketTypes = ticketTypeRepository.findByEventId(id);
+
+        // Copy so the shared cached DTO keeps its own ticket types
+        EventDTO event = modelMapper.map(cachedEvent, EventDTO.class);
+        event.setTicketTypes(ticketTypes.stream()
+                .map(ticketType -> mapTicketType(ticketType, event))
+                .toList());
+
+        List<Object[]> reviewRows = join(reviewRowsFuture);
+        boolean hasMoreReviews = reviewRows.size() > pageSize;
+        List<ReviewDTO> reviews = new ArrayList<>();
+        for (Object[] row : reviewRows.subList(0, Math.min(pageSize, reviewRows.size()))) {
+            reviews.add(mapReviewRow(row, event));
+        }
+
+        EventBundleDTO bundle = EventBundleDTO.builder()
+                .event(event)
+                .reviewSummary(join(summaryFuture))
+                .reviews(reviews)
+                .hasMoreReviews(hasMoreReviews)
+                .build();
+
+        return Response.<EventBundleDTO>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Event bundle retrieved successfully")
+                .data(bundle)
+                .build();
+    }
+
+    @Override
+    public CacheValidator getEventBundleValidator(Long id) {
+        List<ResourceVersion> versions = new ArrayList<>(
+                eventRepository.findCatalogVersions(EventStatus.APPROVED.name(), id));
+
+        // Non-approved events go through the full permission checks
+        if (versions.isEmpty() || versions.get(0).getRowCount() == 0) {
+            return null;
+        }
+        versions.add(reviewRepository.findVersionByEventId(id));
+        return CacheValidator.of("event-bundle:" + id, versions);
+    }
+
+    private TicketTypeDTO mapTicketType(TicketType ticketType, EventDTO event) {
+        TicketTypeDTO dto = modelMapper.map(ticketType, TicketTypeDTO.class);
+        dto.setEventId(event.getId());
+        dto.setEventName(event.getTitle());
+        if (dto.getDescription() == null) {
+            dto.setDescription("");
+        }
+        return dto;
+    }
+
+    private ReviewDTO mapReviewRow(Object[] row, EventDTO event) {
+        ReviewDTO dto = new ReviewDTO();
+        dto.setId((Long) row[0]);
+        dto.setUserId((Long) row[1]);
+        dto.setUserName((String) row[2]);
+        dto.setRating((Integer) row[3]);
+        dto.setComment((String) row[4]);
+        dto.setCreatedAt((LocalDateTime) row[5]);
+        dto.setUpdatedAt((LocalDateTime) row[6]);
+        dto.setEventId(event.getId());
+        dto.setEventName(event.getTitle());
+        return dto;
+    }
+
+    // Rethrow the lookup's own exception instead of the CompletionException wrapper
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.response.Response;
+
+/**
+ * Service interface for moving events and their orders forward once the event date has passed
+ */
+public interface EventLifecycleService {
+
+    /**
+     * Complete approved events dated before today, with their confirmed orders
+     * @return Number of events completed
+     */
+    Response<Integer> completePastEvents();
+}
@@ -0,0 +1,88 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.OrderStatus;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.order.repository.OrderRepository;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Completes past events and their confirmed orders
+ * Works in chunks of event IDs, one short transaction per chunk covering both the orders and the events,
+ * so a run that stops halfway leaves whole chunks done and the next run picks up the rest
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventLifecycleServiceImpl implements EventLifecycleService {
+
+    private final EventRepository eventRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${event.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public Response<Integer> completePastEvents() {
+        int completed = complete();
+
+        return Response.<Integer>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Completed " + completed + " past events")
+                .data(completed)
+                .build();
+    }
+
+    @Scheduled(cron = "${event.lifecycle.cron:0 10 0 * * *}")
+    public void scheduledComplete() {
+        complete();
+    }
+
+    private int complete() {
+        LocalDate today = LocalDate.now();
+        int completedEvents = 0;
+        int completedOrders = 0;
+
+        while (true) {
+            // Completed events drop out of the query, so every chunk starts from the front
+            List<Long> eventIds = eventRepository.findIdsByStatusAndEventDateBefore(
+                    EventStatus.APPROVED, today, PageRequest.of(0, chunkSize));
+            if (eventIds.isEmpty()) {
+                break;
+            }
+
+            int[] updated = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int orders = orderRepository.transitionStatusForEvents(
+                        eventIds, OrderStatus.CONFIRMED, OrderStatus.COMPLETED, now);
+                int events = eventRepository.transitionStatus(
+                        eventIds, List.of(EventStatus.APPROVED), EventStatus.COMPLETED, now);
+                return new int[]{events, orders};
+            });
+            completedEvents += updated[0];
+            completedOrders += updated[1];
+        }
+
+        if (completedEvents > 0) {
+            log.info("Completed {} past events and {} orders", completedEvents, completedOrders);
+            eventPublisher.publishEvent(CatalogChangedEvent.allChanged());
+        }
+        return completedEvents;
+    }
+}
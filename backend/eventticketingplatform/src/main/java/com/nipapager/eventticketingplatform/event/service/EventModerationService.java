@@ -0,0 +1,19 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.event.dto.ModerationResultDTO;
+import com.nipapager.eventticketingplatform.event.request.BulkModerationRequest;
+import com.nipapager.eventticketingplatform.response.Response;
+
+import java.util.List;
+
+/**
+ * Service interface for moderating many events in one request
+ */
+public interface EventModerationService {
+
+    /**
+     * Approve or reject a batch of events with a single status update
+     * @return One result per distinct requested ID, in request order
+     */
+    Response<List<ModerationResultDTO>> moderateEvents(BulkModerationRequest request);
+}
@@ -0,0 +1,173 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.ModerationAction;
+import com.nipapager.eventticketingplatform.enums.ModerationOutcome;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
+import com.nipapager.eventticketingplatform.event.dto.ModerationResultDTO;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.event.request.BulkModerationRequest;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.notification.service.NotificationService;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service implementation for batch event moderation
+ * Reads the current statuses in one query, changes every eligible event with one UPDATE,
+ * reads back which rows that UPDATE changed, then hands their approval emails to the
+ * notification service at once
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventModerationServiceImpl implements EventModerationService {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Response<List<ModerationResultDTO>> moderateEvents(BulkModerationRequest request) {
+        // Validate request
+        if (request.getAction() == null) {
+            throw new BadRequestException("Action is required");
+        }
+        if (request.getEventIds() == null || request.getEventIds().isEmpty()) {
+            throw new BadRequestException("At least one event ID is required");
+        }
+
+        Set<Long> eventIds = new LinkedHashSet<>(request.getEventIds());
+        eventIds.remove(null);
+        if (eventIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " events can be moderated at once");
+        }
+
+        boolean approve = request.getAction() == ModerationAction.APPROVE;
+        EventStatus targetStatus = approve ? EventStatus.APPROVED : EventStatus.REJECTED;
+        ModerationOutcome changedOutcome = approve ? ModerationOutcome.APPROVED : ModerationOutcome.REJECTED;
+        log.info("Moderating {} events: {}", eventIds.size(), request.getAction());
+
+        // Current statuses
+        Map<Long, EventStatus> statuses = new HashMap<>();
+        for (Object[] row : eventRepository.findStatusesByIdIn(eventIds)) {
+            statuses.put((Long) row[0], (EventStatus) row[1]);
+        }
+
+        // Same rules as approveEvent / rejectEvent
+        List<ModerationResultDTO> results = new ArrayList<>(eventIds.size());
+        List<Long> toChange = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            EventStatus status = statuses.get(eventId);
+            ModerationOutcome outcome;
+            if (status == null) {
+                outcome = ModerationOutcome.NOT_FOUND;
+            } else if (status == EventStatus.COMPLETED) {
+                outcome = ModerationOutcome.NOT_ALLOWED;
+            } else if (status == targetStatus) {
+                outcome = ModerationOutcome.UNCHANGED;
+            } else {
+                outcome = changedOutcome;
+                toChange.add(eventId);
+            }
+
+            results.add(ModerationResultDTO.builder()
+                    .eventId(eventId)
+                    .outcome(outcome)
+                    .previousStatus(status)
+                    .build());
+        }
+
+        Set<Long> changed = Set.of();
+        if (!toChange.isEmpty()) {
+            // The status guard skips events another admin or the lifecycle job moved in the meantime
+            List<EventStatus> fromStatuses = new ArrayList<>(List.of(EventStatus.values()));
+            fromStatuses.remove(targetStatus);
+            fromStatuses.remove(EventStatus.COMPLETED);
+
+            // Column precision, so the stamp reads back equal
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            changed = transactionTemplate.execute(status -> {
+                eventRepository.transitionStatus(toChange, fromStatuses, targetStatus, now);
+                return new HashSet<>(eventRepository.findIdsTransitionedAt(toChange, targetStatus, now));
+            });
+            log.info("Moderation changed {} of {} events to {}", changed.size(), eventIds.size(), targetStatus);
+
+            if (changed.size() < toChange.size()) {
+                downgradeSkipped(results, changedOutcome, changed);
+            }
+
+            if (!changed.isEmpty()) {
+                if (approve) {
+                    List<Event> approvedEvents = eventRepository.findByIdIn(changed);
+                    notificationService.sendEventApprovedEmails(approvedEvents);
+                }
+
+                // Per event, so the search index re-reads only these instead of rebuilding
+                changed.forEach(eventId -> eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(eventId)));
+            }
+        }
+
+        Map<ModerationOutcome, Integer> counts = new EnumMap<>(ModerationOutcome.class);
+        results.forEach(result -> counts.merge(result.getOutcome(), 1, Integer::sum));
+        Map<String, Serializable> meta = new HashMap<>();
+        counts.forEach((outcome, count) -> meta.put(outcome.name().toLowerCase(), count));
+
+        return Response.<List<ModerationResultDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Moderated " + changed.size() + " of " + eventIds.size() + " events")
+                .data(results)
+                .meta(meta)
+                .build();
+    }
+
+    /**
+     * Report events the UPDATE skipped by what they are now instead of the planned change
+     */
+    private void downgradeSkipped(List<ModerationResultDTO> results, ModerationOutcome changedOutcome, Set<Long> changed) {
+        List<Long> skipped = results.stream()
+                .filter(result -> result.getOutcome() == changedOutcome && !changed.contains(result.getEventId()))
+                .map(ModerationResultDTO::getEventId)
+                .toList();
+
+        Map<Long, EventStatus> statuses = new HashMap<>();
+        for (Object[] row : eventRepository.findStatusesByIdIn(skipped)) {
+            statuses.put((Long) row[0], (EventStatus) row[1]);
+        }
+
+        for (ModerationResultDTO result : results) {
+            if (result.getOutcome() != changedOutcome || changed.contains(result.getEventId())) {
+                continue;
+            }
+            EventStatus status = statuses.get(result.getEventId());
+            if (status == null) {
+                result.setOutcome(ModerationOutcome.NOT_FOUND);
+            } else if (status == EventStatus.COMPLETED) {
+                result.setOutcome(ModerationOutcome.NOT_ALLOWED);
+            } else {
+                result.setOutcome(ModerationOutcome.UNCHANGED);
+            }
+        }
+    }
+}
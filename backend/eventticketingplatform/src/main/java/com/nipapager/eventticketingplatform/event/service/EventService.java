@@ -1,6 +1,10 @@
 package com.nipapager.eventticketingplatform.event.service;
 
+import com.nipapager.eventticketingplatform.event.dto.CatalogCacheStatsDTO;
 import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventSummaryDTO;
+import com.nipapager.eventticketingplatform.event.request.NearbyEventsRequest;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 
 import java.time.LocalDate;
@@ -13,24 +17,74 @@ public interface EventService {
 
     Response<EventDTO> createEvent(EventDTO eventDTO);
 
-    Response<List<EventDTO>> getAllEvents();
+    /**
+     * Get one page of the event catalog
+     * @param sort date, price, rating or newest (default date)
+     * @param cursor Opaque cursor from the previous page (null for the first page)
+     * @param size Page size (capped)
+     */
+    Response<List<EventDTO>> getAllEvents(String sort, String cursor, Integer size);
+
+    /**
+     * Same page as getAllEvents in the list view (only the columns an event card needs)
+     */
+    Response<List<EventSummaryDTO>> getEventSummaries(String sort, String cursor, Integer size);
+
+    /**
+     * Get the ETag of the catalog as seen by the current user (no Last-Modified)
+     */
+    CacheValidator getCatalogValidator();
 
     Response<EventDTO> getEventById(Long id);
 
+    /**
+     * Get ETag/Last-Modified of an approved event (null if not approved or missing)
+     */
+    CacheValidator getEventValidator(Long id);
+
     Response<EventDTO> updateEvent(Long id, EventDTO eventDTO);
 
     Response<Void> deleteEvent(Long id);
 
+    /**
+     * Search approved events
+     * @param q Free text over title, description, category and venue (ranked by relevance unless a sort is given)
+     * The first page also carries city, category and date facet counts in meta
+     */
     Response<List<EventDTO>> searchEvents(
+            String q,
             String city,
             Long categoryId,
             LocalDate startDate,
-            LocalDate endDate
+            LocalDate endDate,
+            String sort,
+            String cursor,
+            Integer size
     );
 
+    /**
+     * Find approved events around a point or inside a box, nearest first
+     */
+    Response<List<EventDTO>> findNearbyEvents(NearbyEventsRequest request);
+
     Response<EventDTO> approveEvent(Long id);
 
     Response<EventDTO> rejectEvent(Long id);
 
     Response<List<EventDTO>> getMyEvents();
+
+    /**
+     * Get the most recent completed events of an organizer (public)
+     */
+    Response<List<EventDTO>> getOrganizerPastEvents(Long organizerId, Integer size);
+
+    /**
+     * Get hit/miss statistics of the catalog cache (admin)
+     */
+    Response<CatalogCacheStatsDTO> getCatalogCacheStats();
+
+    /**
+     * Drop every cached catalog entry (admin)
+     */
+    Response<Void> clearCatalogCache();
 }
\ No newline at end of file
@@ -2,17 +2,36 @@ package com.nipapager.eventticketingplatform.event.service;
 
 import com.nipapager.eventticketingplatform.category.entity.Category;
 import com.nipapager.eventticketingplatform.category.repository.CategoryRepository;
+import com.nipapager.eventticketingplatform.config.ModelMapperConfig;
+import com.nipapager.eventticketingplatform.enums.EventChangeType;
+import com.nipapager.eventticketingplatform.enums.EventSortOption;
 import com.nipapager.eventticketingplatform.enums.EventStatus;
 import com.nipapager.eventticketingplatform.enums.UserRole;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
+import com.nipapager.eventticketingplatform.event.cache.EventCatalogCache;
+import com.nipapager.eventticketingplatform.event.cache.SearchResultCache;
+import com.nipapager.eventticketingplatform.event.dto.CatalogCacheStatsDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventCatalogQuery;
 import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.dto.EventSummaryDTO;
 import com.nipapager.eventticketingplatform.event.entity.Event;
 import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.event.repository.EventSummaryRow;
+import com.nipapager.eventticketingplatform.event.request.NearbyEventsRequest;
 import com.nipapager.eventticketingplatform.exception.BadRequestException;
 import com.nipapager.eventticketingplatform.exception.ForbiddenException;
 import com.nipapager.eventticketingplatform.exception.NotFoundException;
+import com.nipapager.eventticketingplatform.notification.service.NotificationFanOutService;
 import com.nipapager.eventticketingplatform.notification.service.NotificationService;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
 import com.nipapager.eventticketingplatform.response.Response;
-import com.nipapager.eventticketingplatform.review.repository.ReviewRepository;
+import com.nipapager.eventticketingplatform.search.index.CatalogDocument;
+import com.nipapager.eventticketingplatform.search.index.EventSearchIndex;
+import com.nipapager.eventticketingplatform.search.index.GeoHit;
+import com.nipapager.eventticketingplatform.search.index.SearchFacets;
+import com.nipapager.eventticketingplatform.search.index.SearchHit;
+import com.nipapager.eventticketingplatform.search.index.TextAnalyzer;
 import com.nipapager.eventticketingplatform.user.entity.User;
 import com.nipapager.eventticketingplatform.user.service.UserService;
 import com.nipapager.eventticketingplatform.venue.entity.Venue;
@@ -20,14 +39,27 @@ import com.nipapager.eventticketingplatform.venue.repository.VenueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Service implementation for event operations
@@ -44,7 +76,28 @@ public class EventServiceImpl implements EventService {
     private final UserService userService;
     private final ModelMapper modelMapper;
     private final NotificationService notificationService;
-    private final ReviewRepository reviewRepository;
+    private final NotificationFanOutService notificationFanOutService;
+    private final EventCatalogCache eventCatalogCache;
+    private final SearchResultCache searchResultCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventSearchIndex eventSearchIndex;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final String DISTANCE_SORT = "distance";
+
+    private static final double DEFAULT_RADIUS_KM = 10;
+
+    @Value("${search.geo.max-radius-km:200}")
+    private double maxRadiusKm;
+
+    // Text matches handed to the database when sorting by something other than relevance
+    private static final int MAX_SORTED_TEXT_MATCHES = 1000;
+
+    // City and category facet values returned with search results
+    private static final int MAX_FACET_VALUES = 10;
 
     @Override
     public Response<EventDTO> createEvent(EventDTO eventDTO) {
@@ -80,6 +133,9 @@ public class EventServiceImpl implements EventService {
 
         notificationService.sendEventCreatedEmail(savedEvent);
 
+        // Pending events are not in the public catalog, only drop a stale ID entry
+        eventPublisher.publishEvent(CatalogChangedEvent.contentChanged(savedEvent.getId()));
+
         // Map to DTO
         EventDTO savedDTO = mapToDTO(savedEvent);
 
@@ -91,66 +147,123 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    public Response<List<EventDTO>> getAllEvents() {
-        log.info("Fetching all events");
+    public Response<List<EventDTO>> getAllEvents(String sort, String cursor, Integer size) {
+        log.info("Fetching events page (sort: {}, size: {})", sort, size);
 
-        List<Event> events;
+        // Admin sees all events, everyone else only approved events
+        EventCatalogQuery.EventCatalogQueryBuilder query = EventCatalogQuery.builder()
+                .status(isCurrentUserAdmin() ? null : EventStatus.APPROVED);
 
-        // Check if user is authenticated
-        boolean isAuthenticated = SecurityContextHolder.getContext().getAuthentication() != null
-                && SecurityContextHolder.getContext().getAuthentication().isAuthenticated()
-                && !(SecurityContextHolder.getContext().getAuthentication() instanceof AnonymousAuthenticationToken);
+        return findCatalogPage(query, sort, cursor, size, "Events retrieved successfully");
+    }
 
-        if (isAuthenticated) {
-            User currentUser = userService.getCurrentLoggedInUser();
-            boolean isAdmin = isUserAdmin(currentUser);
+    @Override
+    public Response<List<EventSummaryDTO>> getEventSummaries(String sort, String cursor, Integer size) {
+        log.info("Fetching event summaries page (sort: {}, size: {})", sort, size);
+
+        EventSortOption sortOption = parseSort(sort);
+        int pageSize = resolvePageSize(size);
+
+        // Same visibility and keyset rules as the full catalog
+        EventCatalogQuery.EventCatalogQueryBuilder queryBuilder = EventCatalogQuery.builder()
+                .status(isCurrentUserAdmin() ? null : EventStatus.APPROVED)
+                .sort(sortOption)
+                .limit(pageSize + 1);
+        if (cursor != null && !cursor.isBlank()) {
+            CatalogCursor.apply(queryBuilder, sortOption, cursor);
+        }
 
-            if (isAdmin) {
-                // Admin sees all events
-                events = eventRepository.findAll();
-                log.info("Admin fetching all events (including pending/rejected)");
-            } else {
-                // Authenticated users see only approved events
-                events = eventRepository.findByStatus(EventStatus.APPROVED);
-                log.info("Authenticated user fetching approved events only");
-            }
-        } else {
-            // Public users see only approved events
-            events = eventRepository.findByStatus(EventStatus.APPROVED);
-            log.info("Public user fetching approved events only");
+        List<EventSummaryRow> rows = eventRepository.findCatalogSummaryPage(queryBuilder.build());
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
         }
 
-        // Map to DTOs
-        List<EventDTO> eventDTOs = events.stream()
-                .map(this::mapToDTO)
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("size", pageSize);
+        meta.put("sort", sortOption.name().toLowerCase());
+        meta.put("hasMore", hasMore);
+        meta.put("view", "summary");
+        if (hasMore) {
+            meta.put("nextCursor", CatalogCursor.encode(sortOption, rows.get(rows.size() - 1)));
+        }
+
+        List<EventSummaryDTO> summaries = rows.stream()
+                .map(row -> EventSummaryDTO.builder()
+                        .id(row.id())
+                        .title(row.title())
+                        .eventDate(row.eventDate())
+                        .eventTime(row.eventTime())
+                        .imageUrl(row.imageUrl())
+                        .venueName(row.venueName())
+                        .venueCity(row.venueCity())
+                        .minPrice(row.minPrice())
+                        .ticketsRemaining(row.ticketsRemaining())
+                        .soldOut(row.minPrice() != null && row.ticketsRemaining() == 0)
+                        .averageRating(row.ratingCount() != null && row.ratingCount() > 0
+                                ? Math.round((double) row.ratingSum() / row.ratingCount() * 10.0) / 10.0
+                                : null)
+                        .build())
                 .toList();
 
-        return Response.<List<EventDTO>>builder()
+        return Response.<List<EventSummaryDTO>>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("Events retrieved successfully")
-                .data(eventDTOs)
+                .data(summaries)
+                .meta(meta)
                 .build();
     }
 
+    @Override
+    public CacheValidator getCatalogValidator() {
+        // Every catalog change bumps the cache generation after commit, so no table has to be scanned
+        EventStatus status = isCurrentUserAdmin() ? null : EventStatus.APPROVED;
+        return CacheValidator.of("events:" + status, eventCatalogCache.catalogVersion());
+    }
+
+    @Override
+    public CacheValidator getEventValidator(Long id) {
+        List<ResourceVersion> versions = eventRepository.findCatalogVersions(EventStatus.APPROVED.name(), id);
+
+        // Non-approved events go through the full permission checks
+        if (versions.isEmpty() || versions.get(0).getRowCount() == 0) {
+            return null;
+        }
+        return CacheValidator.of("event:" + id, versions);
+    }
+
     @Override
     public Response<EventDTO> getEventById(Long id) {
         log.info("Fetching event with id: {}", id);
 
+        // Approved events are served from the catalog cache
+        EventDTO cachedDTO = eventCatalogCache.getEvent(id);
+        if (cachedDTO != null) {
+            return Response.<EventDTO>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .message("Event retrieved successfully")
+                    .data(cachedDTO)
+                    .build();
+        }
+        long cacheGeneration = eventCatalogCache.generation();
+
         // Find event
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
 
-        // Check if event is approved OR if user is admin/organizer
+        // Check if event is public (approved or completed) OR if user is admin/organizer
+        boolean isPublic = event.getStatus() == EventStatus.APPROVED || event.getStatus() == EventStatus.COMPLETED;
         boolean isAuthenticated = SecurityContextHolder.getContext().getAuthentication() != null
                 && SecurityContextHolder.getContext().getAuthentication().isAuthenticated()
                 && !(SecurityContextHolder.getContext().getAuthentication() instanceof AnonymousAuthenticationToken);
 
-        if (event.getStatus() != EventStatus.APPROVED && !isAuthenticated) {
+        if (!isPublic && !isAuthenticated) {
             // Non-approved events require authentication
             throw new ForbiddenException("This event is not available");
         }
 
-        if (event.getStatus() != EventStatus.APPROVED && isAuthenticated) {
+        if (!isPublic && isAuthenticated) {
             User currentUser = userService.getCurrentLoggedInUser();
             boolean isAdmin = isUserAdmin(currentUser);
             boolean isOrganizer = event.getOrganizer().getId().equals(currentUser.getId());
@@ -163,6 +276,10 @@ public class EventServiceImpl implements EventService {
         // Map to DTO
         EventDTO eventDTO = mapToDTO(event);
 
+        if (event.getStatus() == EventStatus.APPROVED) {
+            eventCatalogCache.putEvent(eventDTO, cacheGeneration);
+        }
+
         return Response.<EventDTO>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("Event retrieved successfully")
@@ -190,6 +307,10 @@ public class EventServiceImpl implements EventService {
             throw new BadRequestException("Cannot update past event");
         }
 
+        // Remember what ticket holders care about
+        LocalDate previousDate = event.getEventDate();
+        Long previousVenueId = event.getVenue().getId();
+
         // Update fields if provided
         if (eventDTO.getTitle() != null && !eventDTO.getTitle().isEmpty()) {
             event.setTitle(eventDTO.getTitle());
@@ -228,6 +349,18 @@ public class EventServiceImpl implements EventService {
         Event savedEvent = eventRepository.save(event);
         log.info("Event updated successfully: {}", savedEvent.getId());
 
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(savedEvent.getId()));
+
+        // Tell ticket holders about date/venue changes
+        boolean dateChanged = !savedEvent.getEventDate().equals(previousDate);
+        boolean venueChanged = !savedEvent.getVenue().getId().equals(previousVenueId);
+        if (savedEvent.getStatus() == EventStatus.APPROVED && (dateChanged || venueChanged)) {
+            EventChangeType changeType = dateChanged && venueChanged
+                    ? EventChangeType.RESCHEDULED_AND_VENUE_CHANGED
+                    : dateChanged ? EventChangeType.RESCHEDULED : EventChangeType.VENUE_CHANGED;
+            notificationFanOutService.scheduleEventChange(savedEvent, changeType);
+        }
+
         // Map to DTO
         EventDTO updatedDTO = mapToDTO(savedEvent);
 
@@ -250,13 +383,26 @@ public class EventServiceImpl implements EventService {
         User currentUser = userService.getCurrentLoggedInUser();
         checkEventEditPermission(event, currentUser);
 
+        if (event.getStatus() == EventStatus.COMPLETED) {
+            throw new BadRequestException("Completed events cannot be cancelled");
+        }
+
+        // Only approved events can have ticket holders
+        boolean hadTicketSales = event.getStatus() == EventStatus.APPROVED;
+
         // Soft delete - set status to CANCELLED
         event.setStatus(EventStatus.CANCELLED);
         event.setUpdatedAt(LocalDateTime.now());
-        eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
 
         log.info("Event cancelled successfully: {}", id);
 
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(id));
+
+        if (hadTicketSales) {
+            notificationFanOutService.scheduleEventChange(savedEvent, EventChangeType.CANCELLED);
+        }
+
         return Response.<Void>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("Event cancelled successfully")
@@ -265,31 +411,136 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public Response<List<EventDTO>> searchEvents(
+            String q,
             String city,
             Long categoryId,
             LocalDate startDate,
-            LocalDate endDate) {
+            LocalDate endDate,
+            String sort,
+            String cursor,
+            Integer size) {
+
+        log.info("Searching events - q: {}, city: {}, category: {}, dates: {} to {}, sort: {}",
+                q, city, categoryId, startDate, endDate, sort);
+
+        // Same search spelled differently shares one cache entry
+        String cacheKey = String.join("|",
+                q == null ? "" : String.join(" ", TextAnalyzer.normalize(q).trim().split("\\s+")),
+                city == null ? "" : city.trim().toLowerCase(Locale.ROOT),
+                String.valueOf(categoryId),
+                String.valueOf(startDate),
+                String.valueOf(endDate),
+                sort == null ? "" : sort.trim().toLowerCase(Locale.ROOT),
+                cursor == null ? "" : cursor.trim(),
+                String.valueOf(resolvePageSize(size)));
+
+        return searchResultCache.get(cacheKey, () -> runSearch(q, city == null ? null : city.trim(),
+                categoryId, startDate, endDate, sort, cursor, size));
+    }
 
-        log.info("Searching events - city: {}, category: {}, dates: {} to {}",
-                city, categoryId, startDate, endDate);
+    /**
+     * Run a search without the result cache
+     */
+    private Response<List<EventDTO>> runSearch(String q, String city, Long categoryId, LocalDate startDate,
+                                               LocalDate endDate, String sort, String cursor, Integer size) {
+        // Search with filters (only approved events)
+        EventCatalogQuery.EventCatalogQueryBuilder query = EventCatalogQuery.builder()
+                .status(EventStatus.APPROVED)
+                .city(city)
+                .categoryId(categoryId)
+                .startDate(startDate)
+                .endDate(endDate);
+
+        Response<List<EventDTO>> response;
+        if (q == null || q.isBlank()) {
+            response = findCatalogPage(query, sort, cursor, size, "Events found");
+        } else {
+            response = findTextMatchPage(query, q, city, categoryId, startDate, endDate, sort, cursor, size);
+        }
 
-        // Convert LocalDate to LocalDateTime
-        LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
-        LocalDateTime endDateTime = endDate != null ? endDate.atTime(23, 59, 59) : null;
+        // Facets describe the whole result set, so only the first page carries them
+        if (cursor == null || cursor.isBlank()) {
+            SearchFacets facets = eventSearchIndex.facets(q, city, categoryId, startDate, endDate,
+                    LocalDate.now(), MAX_FACET_VALUES);
+            Map<String, Serializable> meta = new HashMap<>(response.getMeta());  // Page meta may be cached
+            meta.put("facets", facets);
+            response.setMeta(meta);
+        }
 
-        // Search with filters (only approved events)
-        List<Event> events = eventRepository.searchEvents(city, categoryId, startDateTime, endDateTime);
+        return response;
+    }
 
-        // Map to DTOs
-        List<EventDTO> eventDTOs = events.stream()
-                .map(this::mapToDTO)
+    /**
+     * Page through text matches, by relevance or by a catalog sort
+     */
+    private Response<List<EventDTO>> findTextMatchPage(EventCatalogQuery.EventCatalogQueryBuilder query, String q,
+                                                       String city, Long categoryId, LocalDate startDate,
+                                                       LocalDate endDate, String sort, String cursor, Integer size) {
+        // Text matches come from the search index, filtered on the indexed fields
+        Predicate<CatalogDocument> filter = document ->
+                (city == null || city.isBlank() || city.equalsIgnoreCase(document.city()))
+                        && (categoryId == null || categoryId.equals(document.categoryId()))
+                        && (startDate == null || !document.eventDate().isBefore(startDate))
+                        && (endDate == null || !document.eventDate().isAfter(endDate));
+        List<SearchHit> hits = eventSearchIndex.search(q, filter);
+
+        if (sort == null || sort.isBlank() || sort.equalsIgnoreCase(RELEVANCE_SORT)) {
+            return findRelevancePage(hits, cursor, size);
+        }
+
+        // Any other sort runs in the database over the best matches
+        List<Long> matchingIds = hits.stream()
+                .limit(MAX_SORTED_TEXT_MATCHES)
+                .map(SearchHit::eventId)
                 .toList();
+        query.eventIds(matchingIds);
 
-        return Response.<List<EventDTO>>builder()
-                .statusCode(HttpStatus.OK.value())
-                .message("Events found: " + eventDTOs.size())
-                .data(eventDTOs)
-                .build();
+        return findCatalogPage(query, sort, cursor, size, "Events found");
+    }
+
+    @Override
+    public Response<List<EventDTO>> findNearbyEvents(NearbyEventsRequest request) {
+        log.info("Searching events by location: {}", request);
+
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        Long categoryId = request.getCategoryId();
+        Predicate<CatalogDocument> filter = document ->
+                (categoryId == null || categoryId.equals(document.categoryId()))
+                        && (startDate == null || !document.eventDate().isBefore(startDate))
+                        && (endDate == null || !document.eventDate().isAfter(endDate));
+
+        List<GeoHit> hits;
+        if (request.hasPoint() && !request.hasBox()) {
+            if (request.getLat() == null || request.getLng() == null) {
+                throw new BadRequestException("Both lat and lng are required");
+            }
+            validateCoordinates(request.getLat(), request.getLng());
+
+            double radiusKm = request.getRadiusKm() != null ? request.getRadiusKm() : DEFAULT_RADIUS_KM;
+            if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+                throw new BadRequestException("radiusKm must be between 0 and " + maxRadiusKm);
+            }
+            hits = eventSearchIndex.searchNearby(request.getLat(), request.getLng(), radiusKm, filter);
+        } else if (request.hasBox() && !request.hasPoint()) {
+            if (request.getMinLat() == null || request.getMinLng() == null
+                    || request.getMaxLat() == null || request.getMaxLng() == null) {
+                throw new BadRequestException("minLat, minLng, maxLat and maxLng are all required");
+            }
+            validateCoordinates(request.getMinLat(), request.getMinLng());
+            validateCoordinates(request.getMaxLat(), request.getMaxLng());
+            if (request.getMinLat() > request.getMaxLat()) {
+                throw new BadRequestException("minLat must not be greater than maxLat");
+            }
+            hits = eventSearchIndex.searchInBox(request.getMinLat(), request.getMinLng(),
+                    request.getMaxLat(), request.getMaxLng(), filter);
+        } else {
+            throw new BadRequestException("Provide either lat/lng/radiusKm or minLat/minLng/maxLat/maxLng");
+        }
+
+        return findRankedPage(hits, GeoHit::eventId, GeoHit::distanceKm, true, DISTANCE_SORT,
+                request.getCursor(), request.getSize(), "Events found",
+                (dto, hit) -> dto.setDistanceKm(Math.round(hit.distanceKm() * 100.0) / 100.0));
     }
 
     @Override
@@ -304,6 +555,9 @@ public class EventServiceImpl implements EventService {
         if (event.getStatus() == EventStatus.APPROVED) {
             throw new BadRequestException("Event is already approved");
         }
+        if (event.getStatus() == EventStatus.COMPLETED) {
+            throw new BadRequestException("Completed events cannot be approved");
+        }
 
         // Approve event
         event.setStatus(EventStatus.APPROVED);
@@ -312,6 +566,8 @@ public class EventServiceImpl implements EventService {
 
         log.info("Event approved successfully: {}", id);
 
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(id));
+
         notificationService.sendEventApprovedEmail(savedEvent);
 
         // Map to DTO
@@ -332,6 +588,10 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
 
+        if (event.getStatus() == EventStatus.COMPLETED) {
+            throw new BadRequestException("Completed events cannot be rejected");
+        }
+
         // Reject event
         event.setStatus(EventStatus.REJECTED);
         event.setUpdatedAt(LocalDateTime.now());
@@ -339,6 +599,8 @@ public class EventServiceImpl implements EventService {
 
         log.info("Event rejected successfully: {}", id);
 
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(id));
+
         // Map to DTO
         EventDTO eventDTO = mapToDTO(savedEvent);
 
@@ -360,9 +622,7 @@ public class EventServiceImpl implements EventService {
         List<Event> events = eventRepository.findByOrganizerId(organizer.getId());
 
         // Map to DTOs
-        List<EventDTO> eventDTOs = events.stream()
-                .map(this::mapToDTO)
-                .toList();
+        List<EventDTO> eventDTOs = mapToDTOs(events);
 
         return Response.<List<EventDTO>>builder()
                 .statusCode(HttpStatus.OK.value())
@@ -371,13 +631,246 @@ public class EventServiceImpl implements EventService {
                 .build();
     }
 
+    @Override
+    public Response<List<EventDTO>> getOrganizerPastEvents(Long organizerId, Integer size) {
+        log.info("Fetching past events of organizer {}", organizerId);
+
+        // Completed events drop out of the public catalog, so they are fetched by status here
+        List<Event> events = eventRepository.findByOrganizerIdAndStatusOrderByEventDateDescIdDesc(
+                organizerId, EventStatus.COMPLETED, PageRequest.of(0, resolvePageSize(size)));
+
+        return Response.<List<EventDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Past events retrieved successfully")
+                .data(mapToDTOs(events))
+                .build();
+    }
+
+    @Override
+    public Response<CatalogCacheStatsDTO> getCatalogCacheStats() {
+        CatalogCacheStatsDTO stats = eventCatalogCache.getStats();
+        stats.setSearchResults(searchResultCache.getStats());
+
+        return Response.<CatalogCacheStatsDTO>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Catalog cache statistics retrieved successfully")
+                .data(stats)
+                .build();
+    }
+
+    @Override
+    public Response<Void> clearCatalogCache() {
+        log.info("Clearing catalog cache");
+        eventCatalogCache.clear();
+        searchResultCache.clear();
+
+        return Response.<Void>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Catalog cache cleared")
+                .build();
+    }
+
     // ========== HELPER METHODS ==========
 
     /**
-     * Map Event entity to EventDTO
+     * Run a catalog query one keyset page at a time
+     * Fetches one extra row to know whether another page exists
+     */
+    private Response<List<EventDTO>> findCatalogPage(EventCatalogQuery.EventCatalogQueryBuilder queryBuilder,
+                                                     String sort, String cursor, Integer size, String message) {
+        EventSortOption sortOption = parseSort(sort);
+        int pageSize = resolvePageSize(size);
+
+        queryBuilder.sort(sortOption).limit(pageSize + 1);
+        if (cursor != null && !cursor.isBlank()) {
+            CatalogCursor.apply(queryBuilder, sortOption, cursor);
+        }
+
+        EventCatalogQuery query = queryBuilder.build();
+
+        // Only the public (approved) catalog is cached
+        String cacheKey = query.getStatus() == EventStatus.APPROVED && query.getEventIds() == null
+                ? catalogCacheKey(query) : null;
+        if (cacheKey != null) {
+            EventCatalogCache.CachedPage cachedPage = eventCatalogCache.getPage(cacheKey);
+            if (cachedPage != null) {
+                return Response.<List<EventDTO>>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message(message)
+                        .data(cachedPage.events())
+                        .meta(cachedPage.meta())
+                        .build();
+            }
+        }
+        long cacheGeneration = eventCatalogCache.generation();
+
+        List<Event> events = eventRepository.findCatalogPage(query);
+
+        boolean hasMore = events.size() > pageSize;
+        if (hasMore) {
+            events = events.subList(0, pageSize);
+        }
+
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("size", pageSize);
+        meta.put("sort", sortOption.name().toLowerCase());
+        meta.put("hasMore", hasMore);
+        if (hasMore) {
+            meta.put("nextCursor", CatalogCursor.encode(sortOption, events.get(events.size() - 1)));
+        }
+
+        List<EventDTO> eventDTOs = mapToDTOs(events);
+        if (cacheKey != null) {
+            eventCatalogCache.putPage(cacheKey, new EventCatalogCache.CachedPage(eventDTOs, meta), cacheGeneration);
+        }
+
+        return Response.<List<EventDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message(message)
+                .data(eventDTOs)
+                .meta(meta)
+                .build();
+    }
+
+    /**
+     * Page through search hits ranked by relevance
+     * Cursor holds the score and ID of the last hit, so pages stay stable while the index is unchanged
+     */
+    private Response<List<EventDTO>> findRelevancePage(List<SearchHit> hits, String cursor, Integer size) {
+        return findRankedPage(hits, SearchHit::eventId, SearchHit::score, false,
+                RELEVANCE_SORT, cursor, size, "Events found", (dto, hit) -> { });
+    }
+
+    /**
+     * Page through hits already ordered by a rank value (then ID) and load their events
+     * @param ascending Whether lower rank values come first
+     * @param decorate Copies hit data (e.g. distance) onto each DTO
+     */
+    private <T> Response<List<EventDTO>> findRankedPage(List<T> hits, Function<T, Long> eventIdOf,
+                                                        ToDoubleFunction<T> rankOf, boolean ascending,
+                                                        String sortName, String cursor, Integer size,
+                                                        String message, BiConsumer<EventDTO, T> decorate) {
+        int pageSize = resolvePageSize(size);
+
+        int start = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = CatalogCursor.decode(cursor, sortName.toUpperCase());
+            try {
+                double afterRank = Double.parseDouble(position[0]);
+                long afterId = Long.parseLong(position[1]);
+                while (start < hits.size()) {
+                    double rank = rankOf.applyAsDouble(hits.get(start));
+                    boolean before = ascending ? rank < afterRank : rank > afterRank;
+                    if (!before && !(rank == afterRank && eventIdOf.apply(hits.get(start)) <= afterId)) {
+                        break;
+                    }
+                    start++;
+                }
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        int end = Math.min(start + pageSize, hits.size());
+        List<T> pageHits = hits.subList(start, end);
+        boolean hasMore = end < hits.size();
+
+        // Load the page and keep the hit order (skip events unapproved since indexing)
+        Map<Long, Event> eventsById = new HashMap<>();
+        if (!pageHits.isEmpty()) {
+            eventRepository.findByIdIn(pageHits.stream().map(eventIdOf).toList())
+                    .forEach(event -> eventsById.put(event.getId(), event));
+        }
+        List<EventDTO> eventDTOs = new ArrayList<>();
+        for (T hit : pageHits) {
+            Event event = eventsById.get(eventIdOf.apply(hit));
+            if (event != null && event.getStatus() == EventStatus.APPROVED) {
+                EventDTO dto = mapToListDTO(event);
+                decorate.accept(dto, hit);
+                eventDTOs.add(dto);
+            }
+        }
+
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("size", pageSize);
+        meta.put("sort", sortName);
+        meta.put("hasMore", hasMore);
+        meta.put("totalMatches", hits.size());
+        if (hasMore) {
+            T last = pageHits.get(pageHits.size() - 1);
+            meta.put("nextCursor", CatalogCursor.encode(sortName.toUpperCase(), rankOf.applyAsDouble(last), eventIdOf.apply(last)));
+        }
+
+        return Response.<List<EventDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message(message)
+                .data(eventDTOs)
+                .meta(meta)
+                .build();
+    }
+
+    private String catalogCacheKey(EventCatalogQuery query) {
+        return String.join("|",
+                String.valueOf(query.getStatus()),
+                String.valueOf(query.getCity()),
+                String.valueOf(query.getCategoryId()),
+                String.valueOf(query.getStartDate()),
+                String.valueOf(query.getEndDate()),
+                String.valueOf(query.getSort()),
+                String.valueOf(query.getAfterValue()),
+                String.valueOf(query.getAfterId()),
+                String.valueOf(query.getLimit()));
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Coordinates out of range");
+        }
+    }
+
+    private EventSortOption parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return EventSortOption.DATE;
+        }
+        try {
+            return EventSortOption.valueOf(sort.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid sort option: " + sort + " (use date, price, rating or newest)");
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Map a list of events to DTOs
+     * Rating stats and the ticket summary are columns of the event row, so this adds no queries per event
+     */
+    private List<EventDTO> mapToDTOs(List<Event> events) {
+        return events.stream()
+                .map(this::mapToListDTO)
+                .toList();
+    }
+
+    /**
+     * Map Event entity to EventDTO for list responses (without ticket types)
+     */
+    private EventDTO mapToListDTO(Event event) {
+        return fillDetails(modelMapper.map(event, EventDTO.class, ModelMapperConfig.EVENT_LIST_MAPPING), event);
+    }
+
+    /**
+     * Map Event entity to EventDTO, ticket types included
      */
     private EventDTO mapToDTO(Event event) {
-        EventDTO dto = modelMapper.map(event, EventDTO.class);
+        return fillDetails(modelMapper.map(event, EventDTO.class), event);
+    }
+
+    private EventDTO fillDetails(EventDTO dto, Event event) {
 
         // Set category details
         dto.setCategoryId(event.getCategory().getId());
@@ -398,11 +891,14 @@ public class EventServiceImpl implements EventService {
         dto.setOrganizerId(event.getOrganizer().getId());
         dto.setOrganizerName(event.getOrganizer().getName());
 
-        // Review info
-        Double avgRating = reviewRepository.getAverageRatingForEvent(event.getId());
-        Long reviewCount = reviewRepository.getReviewCountForEvent(event.getId());
-        dto.setAverageRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : null);
-        dto.setReviewCount(reviewCount != null ? reviewCount : 0L);
+        // Review info (maintained on the event row)
+        dto.setAverageRating(event.getAverageRating());
+        dto.setReviewCount(event.getRatingCount() != null ? event.getRatingCount() : 0L);
+
+        // Ticket summary (maintained on the event row)
+        dto.setMinPrice(event.getMinPrice());
+        dto.setTicketsRemaining(event.getTicketsRemaining());
+        dto.setSoldOut(event.isSoldOut());
 
         return dto;
     }
@@ -420,6 +916,20 @@ public class EventServiceImpl implements EventService {
         }
     }
 
+    /**
+     * Check if the caller of the current request is admin
+     * Reads the authorities resolved by the security filter, so no user lookup is needed
+     */
+    private boolean isCurrentUserAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> UserRole.ROLE_ADMIN.name().equals(authority.getAuthority()));
+    }
+
     /**
      * Check if user is admin
      */
@@ -0,0 +1,18 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.event.dto.EventSalesDTO;
+import com.nipapager.eventticketingplatform.response.Response;
+
+import java.util.List;
+
+/**
+ * Service interface for the organizer sales dashboard
+ */
+public interface OrganizerDashboardService {
+
+    /**
+     * Tickets sold, revenue and remaining stock per ticket type for every event of the current user
+     * Newest event date first; totals across all events are in meta
+     */
+    Response<List<EventSalesDTO>> getMyEventSales();
+}
@@ -0,0 +1,100 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.PaymentStatus;
+import com.nipapager.eventticketingplatform.event.dto.EventSalesDTO;
+import com.nipapager.eventticketingplatform.event.dto.TicketTypeSalesDTO;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.user.entity.User;
+import com.nipapager.eventticketingplatform.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service implementation for the organizer sales dashboard
+ * Built from one grouped query over the organizer's events, ticket types and order items
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrganizerDashboardServiceImpl implements OrganizerDashboardService {
+
+    private final EventRepository eventRepository;
+    private final UserService userService;
+
+    @Override
+    public Response<List<EventSalesDTO>> getMyEventSales() {
+        log.info("Fetching sales dashboard for current organizer");
+
+        // Get current user
+        User organizer = userService.getCurrentLoggedInUser();
+
+        // Rows arrive grouped by event, so events keep the query order
+        Map<Long, EventSalesDTO> events = new LinkedHashMap<>();
+        for (Object[] row : eventRepository.findTicketSalesByOrganizerId(organizer.getId(), PaymentStatus.COMPLETED)) {
+            EventSalesDTO event = events.computeIfAbsent((Long) row[0], eventId -> EventSalesDTO.builder()
+                    .eventId(eventId)
+                    .title((String) row[1])
+                    .eventDate((LocalDate) row[2])
+                    .status((EventStatus) row[3])
+                    .ticketsSold(0L)
+                    .revenue(BigDecimal.ZERO)
+                    .ticketsRemaining(0)
+                    .ticketTypes(new ArrayList<>())
+                    .build());
+
+            // Event without ticket types
+            if (row[4] == null) {
+                continue;
+            }
+
+            TicketTypeSalesDTO ticketType = TicketTypeSalesDTO.builder()
+                    .ticketTypeId((Long) row[4])
+                    .name((String) row[5])
+                    .price((BigDecimal) row[6])
+                    .totalQuantity((Integer) row[7])
+                    .quantityAvailable((Integer) row[8])
+                    .ticketsSold(((Number) row[9]).longValue())
+                    .revenue(toBigDecimal(row[10]))
+                    .build();
+
+            event.getTicketTypes().add(ticketType);
+            event.setTicketsSold(event.getTicketsSold() + ticketType.getTicketsSold());
+            event.setRevenue(event.getRevenue().add(ticketType.getRevenue()));
+            event.setTicketsRemaining(event.getTicketsRemaining() + ticketType.getQuantityAvailable());
+        }
+
+        List<EventSalesDTO> sales = new ArrayList<>(events.values());
+
+        long totalTicketsSold = sales.stream().mapToLong(EventSalesDTO::getTicketsSold).sum();
+        BigDecimal totalRevenue = sales.stream().map(EventSalesDTO::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add);
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("totalEvents", sales.size());
+        meta.put("totalTicketsSold", totalTicketsSold);
+        meta.put("totalRevenue", totalRevenue);
+
+        return Response.<List<EventSalesDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Event sales retrieved successfully")
+                .data(sales)
+                .meta(meta)
+                .build();
+    }
+
+    // SUM over a product of integer and decimal columns may come back as another Number type
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
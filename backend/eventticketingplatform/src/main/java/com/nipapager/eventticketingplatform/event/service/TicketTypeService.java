@@ -1,6 +1,7 @@
 package com.nipapager.eventticketingplatform.event.service;
 
 import com.nipapager.eventticketingplatform.event.dto.TicketTypeDTO;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 
 import java.util.List;
@@ -14,6 +15,11 @@ public interface TicketTypeService {
 
     Response<List<TicketTypeDTO>> getTicketTypesByEventId(Long eventId);
 
+    /**
+     * Get ETag/Last-Modified of an event's ticket types without loading them
+     */
+    CacheValidator getTicketTypesValidator(Long eventId);
+
     Response<TicketTypeDTO> getTicketTypeById(Long id);
 
     Response<TicketTypeDTO> updateTicketType(Long id, TicketTypeDTO ticketTypeDTO);
@@ -2,6 +2,7 @@ package com.nipapager.eventticketingplatform.event.service;
 
 import com.nipapager.eventticketingplatform.enums.EventStatus;
 import com.nipapager.eventticketingplatform.enums.UserRole;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
 import com.nipapager.eventticketingplatform.event.dto.TicketTypeDTO;
 import com.nipapager.eventticketingplatform.event.entity.Event;
 import com.nipapager.eventticketingplatform.event.entity.TicketType;
@@ -10,12 +11,14 @@ import com.nipapager.eventticketingplatform.event.repository.TicketTypeRepositor
 import com.nipapager.eventticketingplatform.exception.BadRequestException;
 import com.nipapager.eventticketingplatform.exception.ForbiddenException;
 import com.nipapager.eventticketingplatform.exception.NotFoundException;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 import com.nipapager.eventticketingplatform.user.entity.User;
 import com.nipapager.eventticketingplatform.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +36,7 @@ public class TicketTypeServiceImpl implements TicketTypeService {
     private final EventRepository eventRepository;
     private final UserService userService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -66,7 +70,9 @@ public class TicketTypeServiceImpl implements TicketTypeService {
         ticketType.setCreatedAt(LocalDateTime.now());
 
         // Save ticket type
-        TicketType savedTicketType = ticketTypeRepository.save(ticketType);
+        TicketType savedTicketType = ticketTypeRepository.saveAndFlush(ticketType);
+        eventRepository.refreshTicketSummary(eventId);
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(eventId));
         log.info("Ticket type created successfully with ID: {} (description: {})",
                 savedTicketType.getId(),
                 savedTicketType.getDescription() != null ? "Yes" : "No");
@@ -105,6 +111,11 @@ public class TicketTypeServiceImpl implements TicketTypeService {
                 .build();
     }
 
+    @Override
+    public CacheValidator getTicketTypesValidator(Long eventId) {
+        return CacheValidator.of("ticket-types:" + eventId, ticketTypeRepository.findVersionByEventId(eventId));
+    }
+
     @Override
     public Response<TicketTypeDTO> getTicketTypeById(Long id) {
         log.info("Fetching ticket type with id: {}", id);
@@ -171,7 +182,9 @@ public class TicketTypeServiceImpl implements TicketTypeService {
         ticketType.setUpdatedAt(LocalDateTime.now());
 
         // Save updated ticket type
-        TicketType savedTicketType = ticketTypeRepository.save(ticketType);
+        TicketType savedTicketType = ticketTypeRepository.saveAndFlush(ticketType);
+        eventRepository.refreshTicketSummary(event.getId());
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(event.getId()));
         log.info("Ticket type updated successfully: {}", savedTicketType.getId());
 
         // Map to DTO
@@ -205,6 +218,9 @@ public class TicketTypeServiceImpl implements TicketTypeService {
 
         // Delete ticket type
         ticketTypeRepository.deleteById(id);
+        ticketTypeRepository.flush();
+        eventRepository.refreshTicketSummary(event.getId());
+        eventPublisher.publishEvent(CatalogChangedEvent.listingChanged(event.getId()));
         log.info("Ticket type deleted successfully: {}", id);
 
         return Response.<Void>builder()
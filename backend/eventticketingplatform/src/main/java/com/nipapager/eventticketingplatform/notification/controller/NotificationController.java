@@ -0,0 +1,48 @@
+package com.nipapager.eventticketingplatform.notification.controller;
+
+import com.nipapager.eventticketingplatform.notification.dto.NotificationDTO;
+import com.nipapager.eventticketingplatform.notification.request.MarkNotificationsReadRequest;
+import com.nipapager.eventticketingplatform.notification.service.NotificationFeedService;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the current user's in-app notification feed
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationFeedService notificationFeedService;
+
+    @GetMapping
+    public ResponseEntity<Response<List<NotificationDTO>>> getMyNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Response<List<NotificationDTO>> response = notificationFeedService.getMyNotifications(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<Response<Long>> getUnreadCount() {
+        Response<Long> response = notificationFeedService.getUnreadCount();
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/read")
+    public ResponseEntity<Response<Integer>> markAsRead(@RequestBody MarkNotificationsReadRequest request) {
+        Response<Integer> response = notificationFeedService.markAsRead(request.getNotificationIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/read-all")
+    public ResponseEntity<Response<Integer>> markAllAsRead() {
+        Response<Integer> response = notificationFeedService.markAllAsRead();
+        return ResponseEntity.ok(response);
+    }
+}
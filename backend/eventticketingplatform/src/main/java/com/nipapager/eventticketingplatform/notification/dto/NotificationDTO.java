@@ -25,6 +25,10 @@ public class NotificationDTO {
 
     private String status;
 
+    private Boolean isRead;
+
+    private LocalDateTime readAt;
+
     private LocalDateTime sentAt;
 
     private LocalDateTime createdAt;
@@ -0,0 +1,31 @@
+package com.nipapager.eventticketingplatform.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of a queued notification waiting for email delivery
+ * Carries only what the email needs, so the delivery worker never loads user or event entities
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedEmailDTO {
+
+    private Long notificationId;
+
+    private Long userId;
+
+    private Long eventId;
+
+    private String recipientEmail;
+
+    private String recipientName;
+
+    private String subject;
+
+    private String message;
+
+    private Integer deliveryAttempts;
+}
@@ -2,6 +2,7 @@ package com.nipapager.eventticketingplatform.notification.entity;
 
 import com.nipapager.eventticketingplatform.enums.NotificationStatus;
 import com.nipapager.eventticketingplatform.enums.NotificationType;
+import com.nipapager.eventticketingplatform.event.entity.Event;
 import com.nipapager.eventticketingplatform.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -18,18 +19,29 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_notifications_status", columnList = "status, id"),
+        @Index(name = "idx_notifications_type_created", columnList = "type, created_at, id")
+})
 public class Notification {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @ToString.Exclude
     private User user;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    @ToString.Exclude
+    private Event event;  // Related event (set for event change notifications)
+
+    private String subject;  // Email subject of queued notifications
+
     @Column(nullable = false, columnDefinition = "TEXT")
     private String message;
 
@@ -41,6 +53,14 @@ public class Notification {
     @Column(nullable = false)
     private NotificationStatus status;
 
+    @Column(nullable = false)
+    private Boolean isRead;  // In-app feed read flag
+
+    private LocalDateTime readAt;
+
+    @Column(nullable = false)
+    private Integer deliveryAttempts;
+
     private LocalDateTime sentAt;
 
     private LocalDateTime createdAt;
@@ -50,6 +70,12 @@ public class Notification {
         if (status == null) {
             status = NotificationStatus.PENDING;
         }
+        if (isRead == null) {
+            isRead = false;
+        }
+        if (deliveryAttempts == null) {
+            deliveryAttempts = 0;
+        }
         createdAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
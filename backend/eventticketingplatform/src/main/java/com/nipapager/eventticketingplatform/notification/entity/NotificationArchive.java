@@ -0,0 +1,57 @@
+package com.nipapager.eventticketingplatform.notification.entity;
+
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a notification moved out of the hot notifications table
+ * Rows are written by the retention job with INSERT ... SELECT, keeping the original notification ID
+ * The message is stored with MySQL COMPRESS() - read it back with UNCOMPRESS(compressed_message)
+ * Maps to 'notifications_archive' table in database
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_notifications_archive_user_created", columnList = "user_id, created_at")
+})
+public class NotificationArchive {
+
+    @Id
+    private Long id;  // Original notification ID
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationStatus status;
+
+    private String subject;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    @ToString.Exclude
+    private byte[] compressedMessage;
+
+    private Boolean isRead;
+
+    private LocalDateTime sentAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,25 @@
+package com.nipapager.eventticketingplatform.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entity holding the unread notification counter of a user
+ * Kept in step with the notifications table so the unread badge is a primary key lookup
+ * Maps to 'notification_counters' table in database
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_counters")
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+}
@@ -0,0 +1,77 @@
+package com.nipapager.eventticketingplatform.notification.entity;
+
+import com.nipapager.eventticketingplatform.enums.EventChangeType;
+import com.nipapager.eventticketingplatform.enums.FanOutJobStatus;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a fan-out of one event change to all ticket holders
+ * lastUserId is the keyset cursor - it is committed together with each batch so a restart resumes where it stopped
+ * Maps to 'notification_fan_out_jobs' table in database
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_fan_out_jobs", indexes = {
+        @Index(name = "idx_fan_out_jobs_status", columnList = "status, id")
+})
+public class NotificationFanOutJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @ToString.Exclude
+    private Event event;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private EventChangeType changeType;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FanOutJobStatus status;
+
+    @Column(nullable = false)
+    private Long lastUserId;  // Highest holder user ID already enqueued
+
+    @Column(nullable = false)
+    private Integer enqueuedCount;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (status == null) {
+            status = FanOutJobStatus.PENDING;
+        }
+        if (lastUserId == null) {
+            lastUserId = 0L;
+        }
+        if (enqueuedCount == null) {
+            enqueuedCount = 0;
+        }
+        createdAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
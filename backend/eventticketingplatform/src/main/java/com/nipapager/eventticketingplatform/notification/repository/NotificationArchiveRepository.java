@@ -0,0 +1,33 @@
+package com.nipapager.eventticketingplatform.notification.repository;
+
+import com.nipapager.eventticketingplatform.notification.entity.NotificationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for NotificationArchive entity
+ */
+@Repository
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    // Copy notifications into the archive, compressing the message in the database
+    @Modifying
+    @Query(value = "INSERT INTO notifications_archive " +
+            "(id, user_id, event_id, type, status, subject, compressed_message, is_read, sent_at, created_at, archived_at) " +
+            "SELECT n.id, n.user_id, n.event_id, n.type, n.status, n.subject, COMPRESS(n.message), " +
+            "n.is_read, n.sent_at, n.created_at, :archivedAt " +
+            "FROM notifications n WHERE n.id IN :ids",
+            nativeQuery = true)
+    int copyFromNotifications(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Decompressed message of an archived notification
+    @Query(value = "SELECT CAST(UNCOMPRESS(a.compressed_message) AS CHAR) FROM notifications_archive a WHERE a.id = :id",
+            nativeQuery = true)
+    String findMessageById(@Param("id") Long id);
+}
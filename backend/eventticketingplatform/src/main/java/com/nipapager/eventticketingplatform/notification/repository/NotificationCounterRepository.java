@@ -0,0 +1,38 @@
+package com.nipapager.eventticketingplatform.notification.repository;
+
+import com.nipapager.eventticketingplatform.notification.entity.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for NotificationCounter entity
+ * Counters are only changed through atomic upserts, never read-modify-write
+ */
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    // Add delta to the unread counter of a user (creates the row on first use, never goes below zero)
+    @Modifying
+    @Query(value = "INSERT INTO notification_counters (user_id, unread_count) VALUES (:userId, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + :delta, 0)",
+            nativeQuery = true)
+    int adjustUnreadCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // Add one unread notification for each user in a single statement (fan-out batch)
+    @Modifying
+    @Query(value = "INSERT INTO notification_counters (user_id, unread_count) " +
+            "SELECT u.id, 1 FROM users u WHERE u.id IN :userIds " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1",
+            nativeQuery = true)
+    int incrementUnreadCounts(@Param("userIds") List<Long> userIds);
+
+    // Get unread counter of a user
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCountByUserId(@Param("userId") Long userId);
+}
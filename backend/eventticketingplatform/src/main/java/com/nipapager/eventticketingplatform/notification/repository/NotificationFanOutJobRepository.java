@@ -0,0 +1,19 @@
+package com.nipapager.eventticketingplatform.notification.repository;
+
+import com.nipapager.eventticketingplatform.enums.FanOutJobStatus;
+import com.nipapager.eventticketingplatform.notification.entity.NotificationFanOutJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for NotificationFanOutJob entity
+ */
+@Repository
+public interface NotificationFanOutJobRepository extends JpaRepository<NotificationFanOutJob, Long> {
+
+    // Oldest unfinished jobs first
+    List<NotificationFanOutJob> findByStatusInOrderByIdAsc(List<FanOutJobStatus> statuses, Pageable pageable);
+}
@@ -1,10 +1,19 @@
 package com.nipapager.eventticketingplatform.notification.repository;
 
-import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import com.nipapager.eventticketingplatform.notification.dto.QueuedEmailDTO;
 import com.nipapager.eventticketingplatform.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Repository interface for Notification entity
  * Provides database operations for notifications
@@ -12,4 +21,101 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-}
\ No newline at end of file
+    // First page of a user's feed (newest first, served by idx_notifications_user_created)
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.status <> :excludedStatus " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeed(
+            @Param("userId") Long userId,
+            @Param("excludedStatus") NotificationStatus excludedStatus,
+            Pageable pageable
+    );
+
+    // Next page of a user's feed - keyset on (createdAt, id) instead of OFFSET
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.status <> :excludedStatus AND " +
+            "(n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedBefore(
+            @Param("userId") Long userId,
+            @Param("excludedStatus") NotificationStatus excludedStatus,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // Mark selected unread notifications of a user as read
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+            "WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = false")
+    int markAsRead(@Param("userId") Long userId, @Param("ids") List<Long> ids, @Param("readAt") LocalDateTime readAt);
+
+    // Mark all unread notifications of a user as read
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+            "WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    // Enqueue one notification per user in a single statement (fan-out batch)
+    @Modifying
+    @Query(value = "INSERT INTO notifications " +
+            "(user_id, event_id, subject, message, type, status, is_read, delivery_attempts, created_at) " +
+            "SELECT u.id, :eventId, :subject, :message, :type, :status, false, 0, :createdAt " +
+            "FROM users u WHERE u.id IN :userIds",
+            nativeQuery = true)
+    int enqueueForUsers(
+            @Param("userIds") List<Long> userIds,
+            @Param("eventId") Long eventId,
+            @Param("subject") String subject,
+            @Param("message") String message,
+            @Param("type") String type,
+            @Param("status") String status,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    // Oldest queued emails first (served by idx_notifications_status)
+    @Query("SELECT new com.nipapager.eventticketingplatform.notification.dto.QueuedEmailDTO(" +
+            "n.id, u.id, e.id, u.email, u.name, n.subject, n.message, n.deliveryAttempts) " +
+            "FROM Notification n JOIN n.user u LEFT JOIN n.event e " +
+            "WHERE n.status = :status AND n.subject IS NOT NULL ORDER BY n.id")
+    List<QueuedEmailDTO> findQueuedEmails(@Param("status") NotificationStatus status, Pageable pageable);
+
+    // Record a successful delivery
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :status, n.sentAt = :sentAt, " +
+            "n.deliveryAttempts = n.deliveryAttempts + 1 WHERE n.id = :id")
+    int markDelivered(@Param("id") Long id, @Param("status") NotificationStatus status, @Param("sentAt") LocalDateTime sentAt);
+
+    // Record a failed delivery attempt (stays queued)
+    @Modifying
+    @Query("UPDATE Notification n SET n.deliveryAttempts = n.deliveryAttempts + 1 WHERE n.id = :id")
+    int incrementDeliveryAttempts(@Param("id") Long id);
+
+    // Give up on delivery - returns 1 only if the notification was still unread
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :status, n.isRead = true, " +
+            "n.deliveryAttempts = n.deliveryAttempts + 1 WHERE n.id = :id AND n.isRead = false")
+    int markUnreadDeliveryFailed(@Param("id") Long id, @Param("status") NotificationStatus status);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = :status, " +
+            "n.deliveryAttempts = n.deliveryAttempts + 1 WHERE n.id = :id")
+    int markDeliveryFailed(@Param("id") Long id, @Param("status") NotificationStatus status);
+
+    // Oldest expired notifications of a type (served by idx_notifications_type_created)
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.createdAt < :cutoff " +
+            "AND n.status <> :excludedStatus ORDER BY n.createdAt, n.id")
+    List<Long> findExpiredIds(
+            @Param("type") NotificationType type,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("excludedStatus") NotificationStatus excludedStatus,
+            Pageable pageable
+    );
+
+    // Unread feed items per user among the given notifications (rows: userId, count)
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n " +
+            "WHERE n.id IN :ids AND n.isRead = false AND n.status <> :excludedStatus GROUP BY n.user.id")
+    List<Object[]> countUnreadByUser(@Param("ids") List<Long> ids, @Param("excludedStatus") NotificationStatus excludedStatus);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,14 @@
+package com.nipapager.eventticketingplatform.notification.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request for marking several notifications as read at once
+ */
+@Data
+public class MarkNotificationsReadRequest {
+
+    private List<Long> notificationIds;
+}
@@ -0,0 +1,78 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.notification.dto.QueuedEmailDTO;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationCounterRepository;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Delivers queued notifications by email at a bounded rate
+ * At most batch-size emails are sent per interval, so large fan-outs drain steadily instead of flooding SMTP
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDeliveryWorker {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.delivery.batch-size:20}")
+    private int batchSize;
+
+    @Value("${notification.delivery.max-attempts:3}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${notification.delivery.interval-ms:1000}")
+    public void deliverQueuedNotifications() {
+        List<QueuedEmailDTO> queuedEmails = notificationRepository.findQueuedEmails(
+                NotificationStatus.PENDING, PageRequest.of(0, batchSize));
+
+        for (QueuedEmailDTO queuedEmail : queuedEmails) {
+            boolean sent = notificationService.sendQueuedEmail(queuedEmail);
+            try {
+                if (sent) {
+                    transactionTemplate.executeWithoutResult(status -> notificationRepository.markDelivered(
+                            queuedEmail.getNotificationId(), NotificationStatus.SENT, LocalDateTime.now()));
+                } else {
+                    transactionTemplate.executeWithoutResult(status -> recordFailedAttempt(queuedEmail));
+                }
+            } catch (Exception e) {
+                log.error("Failed to update delivery state of notification {}", queuedEmail.getNotificationId(), e);
+            }
+        }
+    }
+
+    /**
+     * Keep the notification queued until max attempts, then mark it failed
+     * A failed notification leaves the feed, so its unread count is released
+     */
+    private void recordFailedAttempt(QueuedEmailDTO queuedEmail) {
+        Long notificationId = queuedEmail.getNotificationId();
+
+        if (queuedEmail.getDeliveryAttempts() + 1 < maxAttempts) {
+            notificationRepository.incrementDeliveryAttempts(notificationId);
+            return;
+        }
+
+        int wasUnread = notificationRepository.markUnreadDeliveryFailed(notificationId, NotificationStatus.FAILED);
+        if (wasUnread > 0) {
+            notificationCounterRepository.adjustUnreadCount(queuedEmail.getUserId(), -1);
+        } else {
+            notificationRepository.markDeliveryFailed(notificationId, NotificationStatus.FAILED);
+        }
+        log.warn("Giving up on notification {} after {} attempts", notificationId, maxAttempts);
+    }
+}
@@ -0,0 +1,102 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.enums.DigestEntryType;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.user.entity.User;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory buffer collecting non-transactional notifications per recipient
+ * A digest window opens with the first entry for a recipient; due digests are drained and sent as one email
+ */
+@Component
+public class NotificationDigestBuffer {
+
+    private final Map<Long, PendingDigest> pendingDigests = new ConcurrentHashMap<>();
+
+    /**
+     * Add an entry to the recipient's open digest
+     * @return Number of entries now waiting for this recipient
+     */
+    public int add(User recipient, DigestEntryType type, Event event) {
+        PendingDigest digest = pendingDigests.compute(recipient.getId(), (userId, existing) -> {
+            PendingDigest target = existing != null ? existing : new PendingDigest(recipient);
+            target.entries.add(new DigestEntry(type, event));
+            return target;
+        });
+        return digest.size();
+    }
+
+    /**
+     * Remove and return the digest of one recipient (null if none is open)
+     */
+    public PendingDigest drain(Long userId) {
+        return pendingDigests.remove(userId);
+    }
+
+    /**
+     * Remove and return every digest whose window has elapsed
+     */
+    public List<PendingDigest> drainDue(long windowMillis) {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        List<PendingDigest> due = new ArrayList<>();
+
+        for (Long userId : pendingDigests.keySet()) {
+            pendingDigests.computeIfPresent(userId, (id, digest) -> {
+                if (digest.openedAtMillis <= cutoff) {
+                    due.add(digest);
+                    return null;
+                }
+                return digest;
+            });
+        }
+        return due;
+    }
+
+    /**
+     * Remove and return every open digest (used on shutdown)
+     */
+    public List<PendingDigest> drainAll() {
+        List<PendingDigest> all = new ArrayList<>();
+        for (Long userId : pendingDigests.keySet()) {
+            PendingDigest digest = pendingDigests.remove(userId);
+            if (digest != null) {
+                all.add(digest);
+            }
+        }
+        return all;
+    }
+
+    public record DigestEntry(DigestEntryType type, Event event) {
+    }
+
+    /**
+     * Entries waiting for one recipient
+     * Only mutated inside ConcurrentHashMap.compute, and read after it has been removed from the map
+     */
+    @Getter
+    public static class PendingDigest {
+
+        private final User recipient;
+        private final List<DigestEntry> entries = new ArrayList<>();
+        private final long openedAtMillis = System.currentTimeMillis();
+
+        private PendingDigest(User recipient) {
+            this.recipient = recipient;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        public long count(DigestEntryType type) {
+            return entries.stream().filter(entry -> entry.type() == type).count();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.enums.EventChangeType;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+
+/**
+ * Service interface for fanning out event changes to ticket holders
+ */
+public interface NotificationFanOutService {
+
+    /**
+     * Create a fan-out job for an event change
+     * Holders are enqueued later in batches by processPendingJobs
+     * @param event Changed event (already saved)
+     * @param changeType What changed
+     */
+    void scheduleEventChange(Event event, EventChangeType changeType);
+
+    /**
+     * Enqueue the next batches of holders of the oldest unfinished job
+     */
+    void processPendingJobs();
+}
@@ -0,0 +1,152 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.enums.EventChangeType;
+import com.nipapager.eventticketingplatform.enums.FanOutJobStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import com.nipapager.eventticketingplatform.enums.OrderStatus;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.notification.entity.NotificationFanOutJob;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationCounterRepository;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationFanOutJobRepository;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationRepository;
+import com.nipapager.eventticketingplatform.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFanOutServiceImpl implements NotificationFanOutService {
+
+    // Orders that hold valid tickets
+    private static final List<OrderStatus> HOLDER_STATUSES = List.of(OrderStatus.CONFIRMED, OrderStatus.COMPLETED);
+
+    private static final List<FanOutJobStatus> UNFINISHED_STATUSES = List.of(FanOutJobStatus.PENDING, FanOutJobStatus.RUNNING);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+
+    private final NotificationFanOutJobRepository fanOutJobRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.fanout.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.fanout.max-batches-per-tick:10}")
+    private int maxBatchesPerTick;
+
+    @Override
+    public void scheduleEventChange(Event event, EventChangeType changeType) {
+        NotificationFanOutJob job = NotificationFanOutJob.builder()
+                .event(event)
+                .changeType(changeType)
+                .subject(buildSubject(event, changeType))
+                .message(buildMessage(event, changeType))
+                .build();
+
+        NotificationFanOutJob savedJob = fanOutJobRepository.save(job);
+        log.info("Fan-out job {} scheduled for event {} ({})", savedJob.getId(), event.getId(), changeType);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${notification.fanout.interval-ms:2000}")
+    public void processPendingJobs() {
+        List<NotificationFanOutJob> jobs = fanOutJobRepository.findByStatusInOrderByIdAsc(
+                UNFINISHED_STATUSES, PageRequest.of(0, 1));
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Long jobId = jobs.get(0).getId();
+
+        // Bounded work per tick keeps the database and the delivery worker breathing
+        for (int i = 0; i < maxBatchesPerTick; i++) {
+            try {
+                Boolean hasMore = transactionTemplate.execute(status -> processBatch(jobId));
+                if (!Boolean.TRUE.equals(hasMore)) {
+                    return;
+                }
+            } catch (Exception e) {
+                // Batch rolled back together with its cursor - it is retried on the next tick
+                log.error("Fan-out batch failed for job {}", jobId, e);
+                return;
+            }
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Enqueue one batch of holders and advance the cursor in the same transaction
+     * @return true if the job may have more holders
+     */
+    private boolean processBatch(Long jobId) {
+        NotificationFanOutJob job = fanOutJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == FanOutJobStatus.COMPLETED) {
+            return false;
+        }
+
+        Long eventId = job.getEvent().getId();
+        List<Long> holderIds = orderRepository.findTicketHolderIdsAfter(
+                eventId, HOLDER_STATUSES, job.getLastUserId(), PageRequest.of(0, batchSize));
+
+        if (holderIds.isEmpty()) {
+            job.setStatus(FanOutJobStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            fanOutJobRepository.save(job);
+            log.info("Fan-out job {} completed: {} notifications enqueued", jobId, job.getEnqueuedCount());
+            return false;
+        }
+
+        int enqueued = notificationRepository.enqueueForUsers(
+                holderIds,
+                eventId,
+                job.getSubject(),
+                job.getMessage(),
+                NotificationType.EVENT_UPDATE.name(),
+                NotificationStatus.PENDING.name(),
+                LocalDateTime.now()
+        );
+        notificationCounterRepository.incrementUnreadCounts(holderIds);
+
+        job.setLastUserId(holderIds.get(holderIds.size() - 1));
+        job.setEnqueuedCount(job.getEnqueuedCount() + enqueued);
+        job.setStatus(FanOutJobStatus.RUNNING);
+        fanOutJobRepository.save(job);
+
+        log.debug("Fan-out job {}: enqueued {} notifications (cursor {})", jobId, enqueued, job.getLastUserId());
+        return holderIds.size() == batchSize;
+    }
+
+    private String buildSubject(Event event, EventChangeType changeType) {
+        if (changeType == EventChangeType.CANCELLED) {
+            return "Event Cancelled - " + event.getTitle();
+        }
+        return "Event Update - " + event.getTitle();
+    }
+
+    private String buildMessage(Event event, EventChangeType changeType) {
+        String date = event.getEventDate().format(DATE_FORMAT);
+        String venue = event.getVenue().getName() + ", " + event.getVenue().getCity();
+
+        return switch (changeType) {
+            case RESCHEDULED -> "\"%s\" has been rescheduled to %s.".formatted(event.getTitle(), date);
+            case VENUE_CHANGED -> "\"%s\" has moved to %s.".formatted(event.getTitle(), venue);
+            case RESCHEDULED_AND_VENUE_CHANGED -> "\"%s\" has been rescheduled to %s and moved to %s."
+                    .formatted(event.getTitle(), date, venue);
+            case CANCELLED -> "\"%s\" on %s has been cancelled.".formatted(event.getTitle(), date);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import com.nipapager.eventticketingplatform.notification.dto.NotificationDTO;
+import com.nipapager.eventticketingplatform.notification.entity.Notification;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.user.entity.User;
+
+import java.util.List;
+
+/**
+ * Service interface for the in-app notification feed
+ */
+public interface NotificationFeedService {
+
+    /**
+     * Persist a notification and keep the unread counter of the user in step
+     * @param user Recipient
+     * @param message Notification message
+     * @param type Notification type
+     * @param status Delivery status (FAILED records stay out of the feed)
+     * @return Saved notification
+     */
+    Notification recordNotification(User user, String message, NotificationType type, NotificationStatus status);
+
+    /**
+     * Get a page of the current user's feed, newest first
+     * @param cursor Opaque cursor from the previous page (null for the first page)
+     * @param size Page size
+     * @return Notifications with nextCursor in meta when more pages exist
+     */
+    Response<List<NotificationDTO>> getMyNotifications(String cursor, Integer size);
+
+    Response<Long> getUnreadCount();
+
+    Response<Integer> markAsRead(List<Long> notificationIds);
+
+    Response<Integer> markAllAsRead();
+}
@@ -0,0 +1,215 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.notification.dto.NotificationDTO;
+import com.nipapager.eventticketingplatform.notification.entity.Notification;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationCounterRepository;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationRepository;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.user.entity.User;
+import com.nipapager.eventticketingplatform.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFeedServiceImpl implements NotificationFeedService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final UserService userService;
+
+    @Override
+    @Transactional
+    public Notification recordNotification(User user, String message, NotificationType type, NotificationStatus status) {
+        boolean failed = status == NotificationStatus.FAILED;
+
+        Notification notification = Notification.builder()
+                .user(user)
+                .message(message)
+                .type(type)
+                .status(status)
+                .isRead(failed)  // Failed records never show up in the feed, so never count as unread
+                .sentAt(status == NotificationStatus.SENT ? LocalDateTime.now() : null)
+                .build();
+
+        Notification savedNotification = notificationRepository.save(notification);
+
+        // Increment counter in the same transaction as the insert
+        if (!failed) {
+            notificationCounterRepository.adjustUnreadCount(user.getId(), 1);
+        }
+
+        return savedNotification;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Response<List<NotificationDTO>> getMyNotifications(String cursor, Integer size) {
+        User user = userService.getCurrentLoggedInUser();
+        int pageSize = resolvePageSize(size);
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findFeed(
+                    user.getId(), NotificationStatus.FAILED, pageRequest);
+        } else {
+            FeedCursor feedCursor = decodeCursor(cursor);
+            notifications = notificationRepository.findFeedBefore(
+                    user.getId(), NotificationStatus.FAILED, feedCursor.createdAt(), feedCursor.id(), pageRequest);
+        }
+
+        boolean hasMore = notifications.size() > pageSize;
+        if (hasMore) {
+            notifications = notifications.subList(0, pageSize);
+        }
+
+        List<NotificationDTO> notificationDTOs = notifications.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("size", pageSize);
+        meta.put("hasMore", hasMore);
+        if (hasMore) {
+            Notification last = notifications.get(notifications.size() - 1);
+            meta.put("nextCursor", encodeCursor(last.getCreatedAt(), last.getId()));
+        }
+
+        return Response.<List<NotificationDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Notifications retrieved successfully")
+                .data(notificationDTOs)
+                .meta(meta)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Response<Long> getUnreadCount() {
+        User user = userService.getCurrentLoggedInUser();
+
+        Long unreadCount = notificationCounterRepository.findUnreadCountByUserId(user.getId())
+                .orElse(0L);
+
+        return Response.<Long>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Unread count retrieved successfully")
+                .data(unreadCount)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public Response<Integer> markAsRead(List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new BadRequestException("Notification IDs are required");
+        }
+        if (notificationIds.size() > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Cannot mark more than " + MAX_PAGE_SIZE + " notifications at once");
+        }
+
+        User user = userService.getCurrentLoggedInUser();
+
+        // Only rows that were actually unread are updated, so the counter moves by exactly that amount
+        int updated = notificationRepository.markAsRead(user.getId(), notificationIds, LocalDateTime.now());
+        if (updated > 0) {
+            notificationCounterRepository.adjustUnreadCount(user.getId(), -updated);
+        }
+
+        return Response.<Integer>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Notifications marked as read")
+                .data(updated)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public Response<Integer> markAllAsRead() {
+        User user = userService.getCurrentLoggedInUser();
+
+        int updated = notificationRepository.markAllAsRead(user.getId(), LocalDateTime.now());
+        if (updated > 0) {
+            notificationCounterRepository.adjustUnreadCount(user.getId(), -updated);
+        }
+
+        return Response.<Integer>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("All notifications marked as read")
+                .data(updated)
+                .build();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Encode keyset position as an opaque URL-safe token
+     */
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FeedCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Map notification to DTO without touching the lazy user association
+     */
+    private NotificationDTO mapToDTO(Notification notification) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(notification.getId());
+        dto.setMessage(notification.getMessage());
+        dto.setType(notification.getType().name());
+        dto.setStatus(notification.getStatus().name());
+        dto.setIsRead(notification.getIsRead());
+        dto.setReadAt(notification.getReadAt());
+        dto.setSentAt(notification.getSentAt());
+        dto.setCreatedAt(notification.getCreatedAt());
+        return dto;
+    }
+
+    private record FeedCursor(LocalDateTime createdAt, Long id) {
+    }
+}
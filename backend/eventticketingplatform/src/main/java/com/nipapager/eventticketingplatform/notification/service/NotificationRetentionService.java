@@ -0,0 +1,13 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+/**
+ * Service interface for notification retention
+ */
+public interface NotificationRetentionService {
+
+    /**
+     * Move notifications older than their type's retention window into the archive
+     * @return Number of notifications archived
+     */
+    int archiveExpiredNotifications();
+}
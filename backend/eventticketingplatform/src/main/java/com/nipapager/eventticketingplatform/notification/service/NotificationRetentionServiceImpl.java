@@ -0,0 +1,83 @@
+package com.nipapager.eventticketingplatform.notification.service;
+
+import com.nipapager.eventticketingplatform.config.NotificationRetentionProperties;
+import com.nipapager.eventticketingplatform.enums.NotificationStatus;
+import com.nipapager.eventticketingplatform.enums.NotificationType;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationArchiveRepository;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationCounterRepository;
+import com.nipapager.eventticketingplatform.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationRetentionProperties retentionProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public int archiveExpiredNotifications() {
+        if (!retentionProperties.isEnabled()) {
+            return 0;
+        }
+
+        int batchesLeft = retentionProperties.getMaxBatchesPerRun();
+        int archived = 0;
+
+        for (NotificationType type : NotificationType.values()) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionProperties.getRetentionDays(type));
+
+            while (batchesLeft > 0) {
+                batchesLeft--;
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(type, cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                if (moved < retentionProperties.getBatchSize()) {
+                    break;
+                }
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} expired notifications", archived);
+        }
+        return archived;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Copy one batch to the archive and delete it from the hot table in the same transaction
+     * Queued (PENDING) notifications are never archived
+     */
+    private int archiveBatch(NotificationType type, LocalDateTime cutoff) {
+        List<Long> ids = notificationRepository.findExpiredIds(
+                type, cutoff, NotificationStatus.PENDING, PageRequest.of(0, retentionProperties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Archived items leave the feed, so release their unread counts
+        for (Object[] row : notificationRepository.countUnreadByUser(ids, NotificationStatus.FAILED)) {
+            notificationCounterRepository.adjustUnreadCount((Long) row[0], -((Long) row[1]));
+        }
+
+        notificationArchiveRepository.copyFromNotifications(ids, LocalDateTime.now());
+        return notificationRepository.deleteByIds(ids);
+    }
+}
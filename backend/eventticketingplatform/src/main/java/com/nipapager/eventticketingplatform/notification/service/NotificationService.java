@@ -1,8 +1,9 @@
 package com.nipapager.eventticketingplatform.notification.service;
 
+import com.nipapager.eventticketingplatform.notification.dto.QueuedEmailDTO;
 import com.nipapager.eventticketingplatform.order.entity.Order;
-import com.nipapager.eventticketingplatform.order.entity.OrderItem;
 import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
 import com.nipapager.eventticketingplatform.user.entity.User;
 
 import java.util.List;
@@ -17,10 +18,14 @@ public interface NotificationService {
     void sendOrganizerUpgradeEmail(User user);
 
     // Order-related emails
-    void sendTicketPurchaseEmail(Order order);
+    void sendTicketPurchaseEmail(Order order, List<TicketArtifact> ticketArtifacts);
     void sendRefundEmail(Order order);
 
     // Event-related emails
     void sendEventCreatedEmail(Event event);
     void sendEventApprovedEmail(Event event);
+    void sendEventApprovedEmails(List<Event> events);
+
+    // Queued emails (sent synchronously by the delivery worker, returns false on failure)
+    boolean sendQueuedEmail(QueuedEmailDTO queuedEmail);
 }
\ No newline at end of file
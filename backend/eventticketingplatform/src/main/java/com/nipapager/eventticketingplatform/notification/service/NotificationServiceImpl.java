@@ -1,13 +1,15 @@
 package com.nipapager.eventticketingplatform.notification.service;
 
+import com.nipapager.eventticketingplatform.enums.DigestEntryType;
 import com.nipapager.eventticketingplatform.enums.NotificationStatus;
 import com.nipapager.eventticketingplatform.enums.NotificationType;
 import com.nipapager.eventticketingplatform.event.entity.Event;
-import com.nipapager.eventticketingplatform.notification.entity.Notification;
-import com.nipapager.eventticketingplatform.notification.repository.NotificationRepository;
+import com.nipapager.eventticketingplatform.notification.dto.QueuedEmailDTO;
 import com.nipapager.eventticketingplatform.order.entity.Order;
 import com.nipapager.eventticketingplatform.order.entity.OrderItem;
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
 import com.nipapager.eventticketingplatform.user.entity.User;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -17,10 +19,13 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,7 +33,8 @@ import java.time.format.DateTimeFormatter;
 public class NotificationServiceImpl implements NotificationService {
 
     private final JavaMailSender mailSender;
-    private final NotificationRepository notificationRepository;
+    private final NotificationFeedService notificationFeedService;
+    private final NotificationDigestBuffer notificationDigestBuffer;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -42,6 +48,15 @@ public class NotificationServiceImpl implements NotificationService {
     @Value("${app.support.email}")
     private String supportEmail;
 
+    @Value("${notification.digest.enabled:true}")
+    private boolean digestEnabled;
+
+    @Value("${notification.digest.window-seconds:60}")
+    private long digestWindowSeconds;
+
+    @Value("${notification.digest.max-entries:25}")
+    private int digestMaxEntries;
+
     @Override
     @Async
     public void sendWelcomeEmail(User user) {
@@ -76,13 +91,13 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     @Async
-    public void sendTicketPurchaseEmail(Order order) {
+    public void sendTicketPurchaseEmail(Order order, List<TicketArtifact> ticketArtifacts) {
         try {
             String subject = "Your Tickets for " + order.getEvent().getTitle() + " 🎟️";
-            String content = buildTicketPurchaseEmailContent(order);
+            String content = buildTicketPurchaseEmailContent(order, ticketArtifacts);
 
             // Send email with QR code attachments
-            sendHtmlEmailWithQRCodes(order.getUser().getEmail(), subject, content, order);
+            sendHtmlEmailWithQRCodes(order.getUser().getEmail(), subject, content, ticketArtifacts);
 
             saveNotification(order.getUser(),
                     "Ticket purchase confirmation for " + order.getEvent().getTitle(),
@@ -119,6 +134,74 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Async
     public void sendEventCreatedEmail(Event event) {
+        if (digestEnabled) {
+            addToDigest(event, DigestEntryType.EVENT_CREATED);
+            return;
+        }
+        deliverEventCreatedEmail(event);
+    }
+
+    @Override
+    @Async
+    public void sendEventApprovedEmail(Event event) {
+        if (digestEnabled) {
+            addToDigest(event, DigestEntryType.EVENT_APPROVED);
+            return;
+        }
+        deliverEventApprovedEmail(event);
+    }
+
+    @Override
+    @Async
+    public void sendEventApprovedEmails(List<Event> events) {
+        for (Event event : events) {
+            if (digestEnabled) {
+                addToDigest(event, DigestEntryType.EVENT_APPROVED);
+            } else {
+                deliverEventApprovedEmail(event);
+            }
+        }
+        log.info("Queued event approved emails for {} events", events.size());
+    }
+
+    /**
+     * Send organizer digests whose window has elapsed
+     */
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval-ms:5000}")
+    public void flushDueDigests() {
+        for (NotificationDigestBuffer.PendingDigest digest : notificationDigestBuffer.drainDue(digestWindowSeconds * 1000)) {
+            sendDigest(digest);
+        }
+    }
+
+    /**
+     * Do not lose buffered digests on shutdown
+     */
+    @PreDestroy
+    public void flushAllDigests() {
+        for (NotificationDigestBuffer.PendingDigest digest : notificationDigestBuffer.drainAll()) {
+            sendDigest(digest);
+        }
+    }
+
+    @Override
+    public boolean sendQueuedEmail(QueuedEmailDTO queuedEmail) {
+        try {
+            String content = buildEventChangeEmailContent(queuedEmail);
+            sendHtmlEmail(queuedEmail.getRecipientEmail(), queuedEmail.getSubject(), content);
+
+            log.debug("Queued notification {} sent to: {}", queuedEmail.getNotificationId(), queuedEmail.getRecipientEmail());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to send queued notification {} to: {}",
+                    queuedEmail.getNotificationId(), queuedEmail.getRecipientEmail(), e);
+            return false;
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void deliverEventCreatedEmail(Event event) {
         try {
             String subject = "Event Submitted for Approval - " + event.getTitle();
             String content = buildEventCreatedEmailContent(event);
@@ -136,9 +219,7 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
-    @Override
-    @Async
-    public void sendEventApprovedEmail(Event event) {
+    private void deliverEventApprovedEmail(Event event) {
         try {
             String subject = "Event Approved! " + event.getTitle() + " ✅";
             String content = buildEventApprovedEmailContent(event);
@@ -156,7 +237,51 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
-    // ========== HELPER METHODS ==========
+    private void addToDigest(Event event, DigestEntryType type) {
+        User organizer = event.getOrganizer();
+        int waiting = notificationDigestBuffer.add(organizer, type, event);
+
+        // A full digest goes out right away instead of waiting for the window
+        if (waiting >= digestMaxEntries) {
+            NotificationDigestBuffer.PendingDigest digest = notificationDigestBuffer.drain(organizer.getId());
+            if (digest != null) {
+                sendDigest(digest);
+            }
+        }
+    }
+
+    /**
+     * Send one email (and write one notification row) for all buffered updates of a recipient
+     * A digest with a single entry is sent as the regular email
+     */
+    private void sendDigest(NotificationDigestBuffer.PendingDigest digest) {
+        if (digest.size() == 1) {
+            NotificationDigestBuffer.DigestEntry entry = digest.getEntries().get(0);
+            if (entry.type() == DigestEntryType.EVENT_CREATED) {
+                deliverEventCreatedEmail(entry.event());
+            } else {
+                deliverEventApprovedEmail(entry.event());
+            }
+            return;
+        }
+
+        User recipient = digest.getRecipient();
+        long created = digest.count(DigestEntryType.EVENT_CREATED);
+        long approved = digest.count(DigestEntryType.EVENT_APPROVED);
+        String summary = "Event digest: %d submitted, %d approved".formatted(created, approved);
+
+        try {
+            String subject = "Your Event Updates (" + digest.size() + ")";
+            String content = buildEventDigestEmailContent(digest);
+            sendHtmlEmail(recipient.getEmail(), subject, content);
+
+            saveNotification(recipient, summary, NotificationType.EVENT_UPDATE);
+            log.info("Event digest with {} updates sent to: {}", digest.size(), recipient.getEmail());
+        } catch (Exception e) {
+            log.error("Failed to send event digest to: {}", recipient.getEmail(), e);
+            saveFailedNotification(recipient, summary + " - email failed", NotificationType.EVENT_UPDATE);
+        }
+    }
 
     private void sendHtmlEmail(String to, String subject, String htmlContent) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
@@ -170,7 +295,8 @@ public class NotificationServiceImpl implements NotificationService {
         mailSender.send(message);
     }
 
-    private void sendHtmlEmailWithQRCodes(String to, String subject, String htmlContent, Order order) throws MessagingException {
+    private void sendHtmlEmailWithQRCodes(String to, String subject, String htmlContent,
+                                          List<TicketArtifact> ticketArtifacts) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
@@ -179,48 +305,25 @@ public class NotificationServiceImpl implements NotificationService {
         helper.setSubject(subject);
         helper.setText(htmlContent, true);
 
-        // Attach QR codes as inline images
-        int qrIndex = 0;
-        for (OrderItem item : order.getOrderItems()) {
-            if (item.getQrCodeUrl() != null && !item.getQrCodeUrl().isEmpty()) {
-                try {
-                    // Extract Base64 data (remove "data:image/png;base64," prefix if exists)
-                    String base64Data = item.getQrCodeUrl();
-                    if (base64Data.startsWith("data:image")) {
-                        base64Data = base64Data.substring(base64Data.indexOf(",") + 1);
-                    }
-
-                    // Decode Base64 to bytes
-                    byte[] qrCodeBytes = java.util.Base64.getDecoder().decode(base64Data);
-
-                    // Create ByteArrayResource
-                    ByteArrayResource qrResource = new ByteArrayResource(qrCodeBytes);
-
-                    // Add as inline attachment with Content-ID
-                    String contentId = "qrcode-" + qrIndex;
-                    helper.addInline(contentId, qrResource, "image/png");
-
-                    qrIndex++;
-                } catch (Exception e) {
-                    log.error("Failed to attach QR code for item {}: {}", item.getId(), e.getMessage());
-                }
-            }
+        // Attach QR codes as inline images - ByteArrayResource wraps the rendered bytes without copying
+        for (TicketArtifact ticketArtifact : ticketArtifacts) {
+            helper.addInline(qrContentId(ticketArtifact.getTicketCode()),
+                    new ByteArrayResource(ticketArtifact.getQrCodeImage()), "image/png");
         }
 
         mailSender.send(message);
     }
 
+    /**
+     * Content-ID of the inline QR image for a ticket
+     */
+    private String qrContentId(String ticketCode) {
+        return "qrcode-" + ticketCode;
+    }
+
     private void saveNotification(User user, String message, NotificationType type) {
         try {
-            Notification notification = Notification.builder()
-                    .user(user)
-                    .message(message)
-                    .type(type)
-                    .status(NotificationStatus.SENT)
-                    .sentAt(LocalDateTime.now())
-                    .build();
-
-            notificationRepository.save(notification);
+            notificationFeedService.recordNotification(user, message, type, NotificationStatus.SENT);
         } catch (Exception e) {
             log.error("Failed to save notification record", e);
         }
@@ -228,14 +331,7 @@ public class NotificationServiceImpl implements NotificationService {
 
     private void saveFailedNotification(User user, String message, NotificationType type) {
         try {
-            Notification notification = Notification.builder()
-                    .user(user)
-                    .message(message)
-                    .type(type)
-                    .status(NotificationStatus.FAILED)
-                    .build();
-
-            notificationRepository.save(notification);
+            notificationFeedService.recordNotification(user, message, type, NotificationStatus.FAILED);
         } catch (Exception e) {
             log.error("Failed to save failed notification record", e);
         }
@@ -315,12 +411,18 @@ public class NotificationServiceImpl implements NotificationService {
         """.formatted(user.getName(), appUrl, appName, appName, supportEmail, supportEmail);
     }
 
-    private String buildTicketPurchaseEmailContent(Order order) {
+    private String buildTicketPurchaseEmailContent(Order order, List<TicketArtifact> ticketArtifacts) {
         StringBuilder ticketsHtml = new StringBuilder();
-        int qrIndex = 0;
+
+        // Tickets that have a rendered QR image
+        Set<String> ticketCodesWithQR = ticketArtifacts.stream()
+                .map(TicketArtifact::getTicketCode)
+                .collect(Collectors.toSet());
 
         for (OrderItem item : order.getOrderItems()) {
-            String qrImageSrc = item.getQrCodeUrl() != null ? "cid:qrcode-" + qrIndex : "";
+            String qrImageSrc = ticketCodesWithQR.contains(item.getTicketCode())
+                    ? "cid:" + qrContentId(item.getTicketCode())
+                    : "";
 
             ticketsHtml.append("""
         <div style="background: #f9fafb; padding: 20px; margin: 16px 0; border-radius: 8px; border-left: 3px solid #10b981;">
@@ -343,8 +445,6 @@ public class NotificationServiceImpl implements NotificationService {
                             ? "<div style=\"margin-left: 20px;\"><img src=\"" + qrImageSrc + "\" alt=\"QR Code\" style=\"width: 120px; height: 120px; border: 2px solid #e5e7eb; border-radius: 8px;\" /></div>"
                             : ""
             ));
-
-            qrIndex++;
         }
 
         return """
@@ -568,4 +668,127 @@ public class NotificationServiceImpl implements NotificationService {
                 supportEmail
         );
     }
-}
\ No newline at end of file
+
+    private String buildEventChangeEmailContent(QueuedEmailDTO queuedEmail) {
+        String eventLink = queuedEmail.getEventId() != null
+                ? "<a href=\"%s/events/%d\" class=\"button\">View Event</a>".formatted(appUrl, queuedEmail.getEventId())
+                : "";
+
+        return """
+        <!DOCTYPE html>
+        <html>
+        <head>
+            <style>
+                body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Arial, sans-serif; line-height: 1.6; color: #1f2937; margin: 0; padding: 0; }
+                .container { max-width: 600px; margin: 40px auto; padding: 0; }
+                .header { background: #6366f1; color: white; padding: 40px 30px; text-align: center; }
+                .content { background: white; padding: 40px 30px; }
+                .button { display: inline-block; padding: 14px 28px; background: #6366f1; color: white; text-decoration: none; border-radius: 6px; margin: 20px 0; }
+                .update-box { background: #eef2ff; padding: 16px; border-radius: 8px; border-left: 4px solid #6366f1; margin: 20px 0; }
+                .footer { text-align: center; padding: 20px; color: #6b7280; font-size: 14px; }
+            </style>
+        </head>
+        <body>
+            <div class="container">
+                <div class="header">
+                    <h1 style="margin: 0; font-size: 28px;">%s</h1>
+                </div>
+                <div class="content">
+                    <p>Hi %s,</p>
+                    <p>There is an update about an event you have tickets for.</p>
+                    
+                    <div class="update-box">
+                        <p style="margin: 0; font-weight: 600; color: #3730a3;">%s</p>
+                    </div>
+                    
+                    %s
+                    
+                    <p>Questions? Just reply to this email.</p>
+                    <p>— The %s Team</p>
+                </div>
+                <div class="footer">
+                    <p>%s | <a href="mailto:%s" style="color: #6366f1;">%s</a></p>
+                </div>
+            </div>
+        </body>
+        </html>
+        """.formatted(
+                queuedEmail.getSubject(),
+                queuedEmail.getRecipientName(),
+                queuedEmail.getMessage(),
+                eventLink,
+                appName,
+                appName,
+                supportEmail,
+                supportEmail
+        );
+    }
+
+    private String buildEventDigestEmailContent(NotificationDigestBuffer.PendingDigest digest) {
+        StringBuilder updatesHtml = new StringBuilder();
+
+        for (NotificationDigestBuffer.DigestEntry entry : digest.getEntries()) {
+            Event event = entry.event();
+            boolean approved = entry.type() == DigestEntryType.EVENT_APPROVED;
+
+            updatesHtml.append("""
+        <div style="background: #f9fafb; padding: 16px 20px; margin: 12px 0; border-radius: 8px; border-left: 3px solid %s;">
+            <p style="margin: 0; font-weight: 600;"><a href="%s/events/%d" style="color: #1f2937; text-decoration: none;">%s</a></p>
+            <p style="margin: 6px 0 0 0; color: #6b7280; font-size: 14px;">%s · %s</p>
+            <p style="margin: 6px 0 0 0; font-size: 14px; color: %s;">%s</p>
+        </div>
+        """.formatted(
+                    approved ? "#10b981" : "#f59e0b",
+                    appUrl,
+                    event.getId(),
+                    event.getTitle(),
+                    event.getEventDate().format(DateTimeFormatter.ofPattern("MMMM d, yyyy")),
+                    event.getVenue().getName(),
+                    approved ? "#065f46" : "#92400e",
+                    approved ? "Approved - live & ready for bookings" : "Submitted - pending review"
+            ));
+        }
+
+        return """
+        <!DOCTYPE html>
+        <html>
+        <head>
+            <style>
+                body { font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Arial, sans-serif; line-height: 1.6; color: #1f2937; margin: 0; padding: 0; }
+                .container { max-width: 600px; margin: 40px auto; padding: 0; }
+                .header { background: #6366f1; color: white; padding: 40px 30px; text-align: center; }
+                .content { background: white; padding: 40px 30px; }
+                .footer { text-align: center; padding: 20px; color: #6b7280; font-size: 14px; }
+            </style>
+        </head>
+        <body>
+            <div class="container">
+                <div class="header">
+                    <h1 style="margin: 0; font-size: 28px;">Your Event Updates</h1>
+                </div>
+                <div class="content">
+                    <p>Hi %s,</p>
+                    <p>Here is what happened with your events recently.</p>
+                    
+                    %s
+                    
+                    <p>Thanks for using %s!</p>
+                    <p>— The %s Team</p>
+                </div>
+                <div class="footer">
+                    <p>%s | <a href="mailto:%s" style="color: #6366f1;">%s</a></p>
+                </div>
+            </div>
+        </body>
+        </html>
+        """.formatted(
+                digest.getRecipient().getName(),
+                updatesHtml.toString(),
+                appName,
+                appName,
+                appName,
+                supportEmail,
+                supportEmail
+        );
+    }
+}
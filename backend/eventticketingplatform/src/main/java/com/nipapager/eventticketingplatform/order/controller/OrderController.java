@@ -1,6 +1,7 @@
 package com.nipapager.eventticketingplatform.order.controller;
 
 import com.nipapager.eventticketingplatform.order.dto.OrderDTO;
+import com.nipapager.eventticketingplatform.order.dto.OrderSummaryDTO;
 import com.nipapager.eventticketingplatform.order.request.OrderRequest;
 import com.nipapager.eventticketingplatform.order.service.OrderService;
 import com.nipapager.eventticketingplatform.response.Response;
@@ -33,6 +34,12 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/my-orders", params = "view=summary")
+    public ResponseEntity<Response<List<OrderSummaryDTO>>> getMyOrderSummaries() {
+        Response<List<OrderSummaryDTO>> response = orderService.getMyOrderSummaries();
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<OrderDTO>> getOrderById(@PathVariable Long id) {
         Response<OrderDTO> response = orderService.getOrderById(id);
@@ -26,7 +26,7 @@ public class OrderItemDTO {
 
     private BigDecimal pricePerTicket;
 
-    private String qrCodeUrl;  // Base64 QR code image
+    private String qrCodeUrl;  // URL of the QR code image
 
     private String ticketCode;  // Unique ticket code
 
@@ -0,0 +1,28 @@
+package com.nipapager.eventticketingplatform.order.dto;
+
+import com.nipapager.eventticketingplatform.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * List view of an order (view=summary)
+ * No items or payment lookup, just what the order history row shows
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDTO {
+    private Long id;
+    private Long eventId;
+    private String eventTitle;
+    private LocalDate eventDate;
+    private BigDecimal totalAmount;
+    private OrderStatus status;
+    private Long ticketCount;
+    private LocalDateTime orderDate;
+}
@@ -19,7 +19,9 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_event_status_user", columnList = "event_id, status, user_id")
+})
 public class Order {
 
     @Id
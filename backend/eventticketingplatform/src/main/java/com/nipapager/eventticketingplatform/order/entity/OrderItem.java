@@ -6,6 +6,7 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Entity representing individual items in an order
@@ -40,8 +41,7 @@ public class OrderItem {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal pricePerTicket;  // Price at time of purchase
 
-    @Column(columnDefinition = "TEXT")
-    private String qrCodeUrl;  // Base64 encoded QR code - Generated after payment completion
+    private String qrCodeUrl;  // URL of the QR code image (see TicketArtifact) - Generated after payment completion
 
     @Column(unique = true)
     private String ticketCode;  // Unique code generated after payment
@@ -51,6 +51,13 @@ public class OrderItem {
 
     private LocalDateTime createdAt;
 
+    /**
+     * Tickets across the given items of an order
+     */
+    public static int totalQuantity(List<OrderItem> orderItems) {
+        return orderItems.stream().mapToInt(OrderItem::getQuantity).sum();
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
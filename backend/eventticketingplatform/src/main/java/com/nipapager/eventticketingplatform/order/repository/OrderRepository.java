@@ -1,10 +1,18 @@
 package com.nipapager.eventticketingplatform.order.repository;
 
 import com.nipapager.eventticketingplatform.enums.OrderStatus;
+import com.nipapager.eventticketingplatform.enums.PaymentStatus;
+import com.nipapager.eventticketingplatform.order.dto.OrderSummaryDTO;
 import com.nipapager.eventticketingplatform.order.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +36,53 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     // Find orders by user and status
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
-}
\ No newline at end of file
+
+    // Distinct ticket holders of an event after a user ID cursor (keyset over idx_orders_event_status_user)
+    @Query("SELECT DISTINCT o.user.id FROM Order o " +
+            "WHERE o.event.id = :eventId AND o.status IN :statuses AND o.user.id > :afterUserId " +
+            "ORDER BY o.user.id")
+    List<Long> findTicketHolderIdsAfter(
+            @Param("eventId") Long eventId,
+            @Param("statuses") List<OrderStatus> statuses,
+            @Param("afterUserId") Long afterUserId,
+            Pageable pageable
+    );
+
+    // List view of a user's orders, newest first, selecting only its columns
+    @Query("SELECT new com.nipapager.eventticketingplatform.order.dto.OrderSummaryDTO(" +
+            "o.id, e.id, e.title, e.eventDate, o.totalAmount, o.status, " +
+            "(SELECT COALESCE(SUM(i.quantity), 0) FROM OrderItem i WHERE i.order = o), o.orderDate) " +
+            "FROM Order o JOIN o.event e WHERE o.user.id = :userId ORDER BY o.orderDate DESC, o.id DESC")
+    List<OrderSummaryDTO> findSummariesByUserId(@Param("userId") Long userId);
+
+    // Events a user has bought and in how many orders, refunded orders excluded (rows: eventId, orders)
+    // Refunds keep the order status and only mark the payment, so the payment is checked too
+    @Query("SELECT o.event.id, COUNT(o) FROM Order o WHERE o.user.id = :userId AND o.status IN :statuses " +
+            "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.order = o AND p.status = :refunded) " +
+            "GROUP BY o.event.id ORDER BY o.event.id")
+    List<Object[]> countOrdersPerEventByUserId(
+            @Param("userId") Long userId,
+            @Param("statuses") List<OrderStatus> statuses,
+            @Param("refunded") PaymentStatus refunded
+    );
+
+    // Every (buyer, event) pair, refunded orders excluded, grouped by buyer (rows: userId, eventId)
+    @Query("SELECT DISTINCT o.user.id, o.event.id FROM Order o WHERE o.status IN :statuses " +
+            "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.order = o AND p.status = :refunded) " +
+            "ORDER BY o.user.id, o.event.id")
+    List<Object[]> findBuyerEventPairs(
+            @Param("statuses") List<OrderStatus> statuses,
+            @Param("refunded") PaymentStatus refunded
+    );
+
+    // Move the orders of a batch of events from one status to another (idx_orders_event_status_user)
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :toStatus, o.updatedAt = :now " +
+            "WHERE o.event.id IN :eventIds AND o.status = :fromStatus")
+    int transitionStatusForEvents(
+            @Param("eventIds") Collection<Long> eventIds,
+            @Param("fromStatus") OrderStatus fromStatus,
+            @Param("toStatus") OrderStatus toStatus,
+            @Param("now") LocalDateTime now
+    );
+}
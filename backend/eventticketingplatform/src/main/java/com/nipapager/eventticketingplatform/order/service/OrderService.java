@@ -1,6 +1,7 @@
 package com.nipapager.eventticketingplatform.order.service;
 
 import com.nipapager.eventticketingplatform.order.dto.OrderDTO;
+import com.nipapager.eventticketingplatform.order.dto.OrderSummaryDTO;
 import com.nipapager.eventticketingplatform.order.request.OrderRequest;
 import com.nipapager.eventticketingplatform.response.Response;
 
@@ -15,6 +16,11 @@ public interface OrderService {
 
     Response<List<OrderDTO>> getMyOrders();
 
+    /**
+     * Current user's orders in the list view (no items or payment status)
+     */
+    Response<List<OrderSummaryDTO>> getMyOrderSummaries();
+
     Response<OrderDTO> getOrderById(Long id);
 
     Response<OrderDTO> confirmOrder(Long id);
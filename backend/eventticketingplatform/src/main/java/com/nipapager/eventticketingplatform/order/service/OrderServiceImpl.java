@@ -1,9 +1,11 @@
 package com.nipapager.eventticketingplatform.order.service;
 
+import com.nipapager.eventticketingplatform.analytics.service.SalesRollupUpdater;
 import com.nipapager.eventticketingplatform.enums.EventStatus;
 import com.nipapager.eventticketingplatform.enums.OrderStatus;
 import com.nipapager.eventticketingplatform.enums.PaymentStatus;
 import com.nipapager.eventticketingplatform.enums.UserRole;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
 import com.nipapager.eventticketingplatform.event.entity.Event;
 import com.nipapager.eventticketingplatform.event.entity.TicketType;
 import com.nipapager.eventticketingplatform.event.repository.EventRepository;
@@ -13,6 +15,7 @@ import com.nipapager.eventticketingplatform.exception.ForbiddenException;
 import com.nipapager.eventticketingplatform.exception.NotFoundException;
 import com.nipapager.eventticketingplatform.notification.service.NotificationService;
 import com.nipapager.eventticketingplatform.order.dto.OrderDTO;
+import com.nipapager.eventticketingplatform.order.dto.OrderSummaryDTO;
 import com.nipapager.eventticketingplatform.order.dto.OrderItemDTO;
 import com.nipapager.eventticketingplatform.order.entity.Order;
 import com.nipapager.eventticketingplatform.order.entity.OrderItem;
@@ -21,11 +24,13 @@ import com.nipapager.eventticketingplatform.order.request.OrderRequest;
 import com.nipapager.eventticketingplatform.payment.entity.Payment;
 import com.nipapager.eventticketingplatform.payment.repository.PaymentRepository;
 import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.trending.service.TicketsConfirmedEvent;
 import com.nipapager.eventticketingplatform.user.entity.User;
 import com.nipapager.eventticketingplatform.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -54,6 +59,8 @@ public class OrderServiceImpl implements OrderService {
     private final ModelMapper modelMapper;
     private final NotificationService notificationService;
     private final PaymentRepository paymentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SalesRollupUpdater salesRollupUpdater;
 
     @Override
     @Transactional
@@ -127,6 +134,8 @@ public class OrderServiceImpl implements OrderService {
 
         // Save order (cascade will save order items)
         Order savedOrder = orderRepository.save(order);
+        eventRepository.adjustTicketsRemaining(event.getId(), -OrderItem.totalQuantity(orderItems));
+        eventPublisher.publishEvent(CatalogChangedEvent.contentChanged(event.getId()));
         log.info("Order created successfully with ID: {} (Total: {})", savedOrder.getId(), totalAmount);
 
         // Map to DTO
@@ -161,6 +170,23 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
+    @Override
+    public Response<List<OrderSummaryDTO>> getMyOrderSummaries() {
+        log.info("Fetching order summaries for current user");
+
+        // Get current user
+        User user = userService.getCurrentLoggedInUser();
+
+        // Projection query - no items, payments or user rows loaded
+        List<OrderSummaryDTO> summaries = orderRepository.findSummariesByUserId(user.getId());
+
+        return Response.<List<OrderSummaryDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Your orders retrieved successfully")
+                .data(summaries)
+                .build();
+    }
+
     @Override
     public Response<OrderDTO> getOrderById(Long id) {
         log.info("Fetching order with id: {}", id);
@@ -206,6 +232,8 @@ public class OrderServiceImpl implements OrderService {
         order.setUpdatedAt(LocalDateTime.now());
 
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(new TicketsConfirmedEvent(order.getEvent().getId(),
+                order.getUser().getId(), OrderItem.totalQuantity(order.getOrderItems())));
         log.info("Order confirmed successfully: {}", id);
 
         // Map to DTO
@@ -256,6 +284,8 @@ public class OrderServiceImpl implements OrderService {
         order.setUpdatedAt(LocalDateTime.now());
 
         Order savedOrder = orderRepository.save(order);
+        eventRepository.adjustTicketsRemaining(order.getEvent().getId(), OrderItem.totalQuantity(order.getOrderItems()));
+        eventPublisher.publishEvent(CatalogChangedEvent.contentChanged(order.getEvent().getId()));
         log.info("Order cancelled successfully: {}", id);
 
         // Map to DTO
@@ -408,8 +438,12 @@ public class OrderServiceImpl implements OrderService {
         }
 
         // Update payment status to REFUNDED
+        boolean wasCompleted = payment.getStatus() == PaymentStatus.COMPLETED;
         payment.setStatus(PaymentStatus.REFUNDED);
         paymentRepository.save(payment);
+        if (wasCompleted) {
+            salesRollupUpdater.recordRefund(order, payment.getPaymentDate());
+        }
         log.info("Payment {} status updated to REFUNDED", payment.getId());
 
         // Invalidate all tickets (QR codes won't work)
@@ -429,6 +463,8 @@ public class OrderServiceImpl implements OrderService {
         // Update order timestamp
         order.setUpdatedAt(LocalDateTime.now());
         Order savedOrder = orderRepository.save(order);
+        eventRepository.adjustTicketsRemaining(order.getEvent().getId(), OrderItem.totalQuantity(order.getOrderItems()));
+        eventPublisher.publishEvent(CatalogChangedEvent.contentChanged(order.getEvent().getId()));
 
         log.info("Order {} refunded successfully by admin", id);
 
@@ -19,7 +19,9 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_status_date", columnList = "status, payment_date")
+})
 public class Payment {
 
     @Id
@@ -1,11 +1,16 @@
 package com.nipapager.eventticketingplatform.payment.repository;
 
 import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.enums.PaymentStatus;
 import com.nipapager.eventticketingplatform.order.entity.Order;
 import com.nipapager.eventticketingplatform.payment.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +20,13 @@ import java.util.Optional;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrder(Order order);
+
+    // Tickets per payment in a status since a time, for replaying recent sales (idx_payments_status_date)
+    // (rows: eventId, paymentDate, tickets)
+    @Query("SELECT o.event.id, p.paymentDate, SUM(i.quantity) FROM Payment p JOIN p.order o JOIN o.orderItems i " +
+            "WHERE p.status = :status AND p.paymentDate >= :since GROUP BY p.id, o.event.id, p.paymentDate")
+    List<Object[]> sumTicketsByPaymentDateSince(
+            @Param("status") PaymentStatus status,
+            @Param("since") LocalDateTime since
+    );
 }
\ No newline at end of file
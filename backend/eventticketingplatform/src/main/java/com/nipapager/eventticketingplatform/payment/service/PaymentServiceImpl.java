@@ -1,9 +1,11 @@
 package com.nipapager.eventticketingplatform.payment.service;
 
+import com.nipapager.eventticketingplatform.analytics.service.SalesRollupUpdater;
 import com.nipapager.eventticketingplatform.enums.EventStatus;
 import com.nipapager.eventticketingplatform.enums.OrderStatus;
 import com.nipapager.eventticketingplatform.enums.PaymentMethod;
 import com.nipapager.eventticketingplatform.enums.PaymentStatus;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
 import com.nipapager.eventticketingplatform.event.entity.Event;
 import com.nipapager.eventticketingplatform.event.entity.TicketType;
 import com.nipapager.eventticketingplatform.event.repository.EventRepository;
@@ -18,8 +20,11 @@ import com.nipapager.eventticketingplatform.payment.dto.CheckoutResponse;
 import com.nipapager.eventticketingplatform.payment.dto.CreateCheckoutRequest;
 import com.nipapager.eventticketingplatform.payment.entity.Payment;
 import com.nipapager.eventticketingplatform.payment.repository.PaymentRepository;
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
+import com.nipapager.eventticketingplatform.qrcode.repository.TicketArtifactRepository;
 import com.nipapager.eventticketingplatform.qrcode.service.QRCodeService;
 import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.trending.service.TicketsConfirmedEvent;
 import com.nipapager.eventticketingplatform.user.entity.User;
 import com.nipapager.eventticketingplatform.user.service.UserService;
 import com.stripe.exception.SignatureVerificationException;
@@ -30,6 +35,7 @@ import com.stripe.param.checkout.SessionCreateParams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,6 +60,9 @@ public class PaymentServiceImpl implements PaymentService {
     private final UserService userService;
     private final NotificationService notificationService;
     private final QRCodeService qrCodeService;  // ADD THIS
+    private final TicketArtifactRepository ticketArtifactRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SalesRollupUpdater salesRollupUpdater;
 
     @Value("${stripe.api.key}")
     private String stripeApiKey;
@@ -160,6 +169,9 @@ public class PaymentServiceImpl implements PaymentService {
 
             // Save order temporarily
             Order savedOrder = orderRepository.save(order);
+            eventRepository.adjustTicketsRemaining(event.getId(),
+                    -OrderItem.totalQuantity(orderItems));
+            eventPublisher.publishEvent(CatalogChangedEvent.contentChanged(event.getId()));
 
             // Create Stripe checkout session
             Map<String, String> metadata = new HashMap<>();
@@ -265,34 +277,21 @@ public class PaymentServiceImpl implements PaymentService {
             order.setUpdatedAt(LocalDateTime.now());
             log.info("Order {} status updated to CONFIRMED", order.getId());
 
-            // Generate QR codes for tickets
+            // Issue tickets - each QR code is rendered once into raw PNG bytes
             log.info("Generating QR codes for {} order items", order.getOrderItems().size());
+            List<TicketArtifact> ticketArtifacts = new ArrayList<>();
             for (OrderItem orderItem : order.getOrderItems()) {
-                // Generate unique ticket code
-                String ticketCode = qrCodeService.generateTicketCode(order.getId(), orderItem.getId());
-
-                // Generate QR code with ticket information
-                String qrData = String.format(
-                        "TICKET:%s|EVENT:%s|USER:%s|DATE:%s|VENUE:%s",
-                        ticketCode,
-                        order.getEvent().getTitle(),
-                        order.getUser().getEmail(),
-                        order.getEvent().getEventDate(),
-                        order.getEvent().getVenue().getName()
-                );
-
-                String qrCodeBase64 = qrCodeService.generateQRCodeBase64(qrData);
-
-                // Update order item
-                orderItem.setTicketCode(ticketCode);
-                orderItem.setQrCodeUrl(qrCodeBase64);
-                orderItem.setIsValid(true);
+                TicketArtifact ticketArtifact = qrCodeService.issueTicket(order, orderItem);
+                ticketArtifacts.add(ticketArtifact);
 
-                log.info("Generated QR code for ticket: {} (Item ID: {})", ticketCode, orderItem.getId());
+                log.info("Generated QR code for ticket: {} (Item ID: {})", ticketArtifact.getTicketCode(), orderItem.getId());
             }
 
             orderRepository.save(order);
+            ticketArtifactRepository.saveAll(ticketArtifacts);
             log.info("Order {} saved with QR codes", order.getId());
+            eventPublisher.publishEvent(new TicketsConfirmedEvent(order.getEvent().getId(), order.getUser().getId(),
+                    OrderItem.totalQuantity(order.getOrderItems())));
 
             // Create payment record
             Payment payment = Payment.builder()
@@ -306,11 +305,12 @@ public class PaymentServiceImpl implements PaymentService {
                     .build();
 
             paymentRepository.save(payment);
+            salesRollupUpdater.recordPayment(order, payment.getPaymentDate());
             log.info("Payment record created for order {}", order.getId());
 
             // Send ticket purchase email (with QR codes)
             try {
-                notificationService.sendTicketPurchaseEmail(order);
+                notificationService.sendTicketPurchaseEmail(order, ticketArtifacts);
                 log.info("Confirmation email sent to: {}", order.getUser().getEmail());
             } catch (Exception e) {
                 log.error("Failed to send confirmation email: {}", e.getMessage());
@@ -348,6 +348,9 @@ public class PaymentServiceImpl implements PaymentService {
             }
 
             orderRepository.save(order);
+            eventRepository.adjustTicketsRemaining(order.getEvent().getId(),
+                    OrderItem.totalQuantity(order.getOrderItems()));
+            eventPublisher.publishEvent(CatalogChangedEvent.contentChanged(order.getEvent().getId()));
             log.info("Order {} cancelled due to expired Stripe session", order.getId());
         }
     }
@@ -0,0 +1,34 @@
+package com.nipapager.eventticketingplatform.qrcode.controller;
+
+import com.nipapager.eventticketingplatform.qrcode.service.QRCodeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Controller serving ticket QR code images
+ * Public by a random access token (not the ticket code) so that <img> tags can load it without a JWT
+ */
+@RestController
+@RequestMapping("/api/tickets")
+@RequiredArgsConstructor
+public class TicketQRCodeController {
+
+    private final QRCodeService qrCodeService;
+
+    @GetMapping("/{accessToken}/qr-code")
+    public ResponseEntity<byte[]> getQRCode(@PathVariable String accessToken) {
+        byte[] qrCodeImage = qrCodeService.getQRCodeImage(accessToken);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate())
+                .body(qrCodeImage);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nipapager.eventticketingplatform.qrcode.entity;
+
+import com.nipapager.eventticketingplatform.order.entity.OrderItem;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding the rendered QR code image of an issued ticket
+ * The PNG bytes are rendered once and shared by persistence, HTTP serving and email attachments
+ * Kept apart from order_items so order listings never load image data
+ * Maps to 'ticket_artifacts' table in database
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ticket_artifacts")
+public class TicketArtifact {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_item_id", nullable = false, unique = true)
+    @ToString.Exclude
+    private OrderItem orderItem;
+
+    @Column(nullable = false, unique = true)
+    private String ticketCode;
+
+    // Random secret of the public QR code URL; the ticket code carries sequential IDs and only 32 random bits
+    @Column(nullable = false, unique = true, length = 43)
+    @ToString.Exclude
+    private String accessToken;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    @ToString.Exclude
+    private byte[] qrCodeImage;  // Raw PNG bytes
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
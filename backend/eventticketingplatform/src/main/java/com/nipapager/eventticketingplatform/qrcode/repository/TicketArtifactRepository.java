@@ -0,0 +1,22 @@
+package com.nipapager.eventticketingplatform.qrcode.repository;
+
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for TicketArtifact entity
+ * Provides database operations for rendered ticket QR codes
+ */
+@Repository
+public interface TicketArtifactRepository extends JpaRepository<TicketArtifact, Long> {
+
+    // Load only the PNG bytes of a valid ticket (no order/event graph)
+    @Query("SELECT a.qrCodeImage FROM TicketArtifact a " +
+            "WHERE a.accessToken = :accessToken AND a.orderItem.isValid = true")
+    Optional<byte[]> findValidQRCodeImage(@Param("accessToken") String accessToken);
+}
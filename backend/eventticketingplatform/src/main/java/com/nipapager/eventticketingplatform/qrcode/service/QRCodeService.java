@@ -1,16 +1,20 @@
 package com.nipapager.eventticketingplatform.qrcode.service;
 
+import com.nipapager.eventticketingplatform.order.entity.Order;
+import com.nipapager.eventticketingplatform.order.entity.OrderItem;
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
+
 /**
  * Service interface for QR code generation
  */
 public interface QRCodeService {
 
     /**
-     * Generate QR code as Base64 string
+     * Generate QR code as raw PNG bytes
      * @param data Data to encode in QR code
-     * @return Base64 encoded QR code image (data:image/png;base64,...)
+     * @return PNG image bytes
      */
-    String generateQRCodeBase64(String data);
+    byte[] generateQRCodeImage(String data);
 
     /**
      * Generate unique ticket code
@@ -19,4 +23,20 @@ public interface QRCodeService {
      * @return Unique ticket code (format: EVT-{orderId}-{itemId}-{random})
      */
     String generateTicketCode(Long orderId, Long orderItemId);
-}
\ No newline at end of file
+
+    /**
+     * Issue a ticket for an order item: assigns the ticket code and QR URL
+     * and renders the QR image exactly once
+     * @param order Confirmed order
+     * @param orderItem Order item to issue
+     * @return Unsaved artifact holding the PNG bytes
+     */
+    TicketArtifact issueTicket(Order order, OrderItem orderItem);
+
+    /**
+     * Get QR code image of a valid ticket
+     * @param accessToken Access token from the ticket's QR code URL
+     * @return PNG image bytes
+     */
+    byte[] getQRCodeImage(String accessToken);
+}
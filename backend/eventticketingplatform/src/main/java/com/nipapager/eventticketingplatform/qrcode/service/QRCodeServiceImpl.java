@@ -5,22 +5,39 @@ import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import com.nipapager.eventticketingplatform.exception.NotFoundException;
+import com.nipapager.eventticketingplatform.order.entity.Order;
+import com.nipapager.eventticketingplatform.order.entity.OrderItem;
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
+import com.nipapager.eventticketingplatform.qrcode.repository.TicketArtifactRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class QRCodeServiceImpl implements QRCodeService {
 
     private static final int QR_CODE_SIZE = 300; // pixels
+    private static final int ACCESS_TOKEN_BYTES = 32; // 256 bits, 43 base64url characters
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final TicketArtifactRepository ticketArtifactRepository;
+
+    @Value("${app.api.url}")
+    private String apiUrl;
 
     @Override
-    public String generateQRCodeBase64(String data) {
+    public byte[] generateQRCodeImage(String data) {
         try {
             QRCodeWriter qrCodeWriter = new QRCodeWriter();
             BitMatrix bitMatrix = qrCodeWriter.encode(data, BarcodeFormat.QR_CODE, QR_CODE_SIZE, QR_CODE_SIZE);
@@ -28,10 +45,7 @@ public class QRCodeServiceImpl implements QRCodeService {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
 
-            byte[] qrCodeBytes = outputStream.toByteArray();
-            String base64Image = Base64.getEncoder().encodeToString(qrCodeBytes);
-
-            return "data:image/png;base64," + base64Image;
+            return outputStream.toByteArray();
 
         } catch (WriterException | IOException e) {
             log.error("Failed to generate QR code", e);
@@ -45,4 +59,60 @@ public class QRCodeServiceImpl implements QRCodeService {
         String randomPart = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         return String.format("EVT-%d-%d-%s", orderId, orderItemId, randomPart);
     }
-}
\ No newline at end of file
+
+    @Override
+    public TicketArtifact issueTicket(Order order, OrderItem orderItem) {
+        // Generate unique ticket code
+        String ticketCode = generateTicketCode(order.getId(), orderItem.getId());
+
+        // Generate QR code with ticket information
+        String qrData = String.format(
+                "TICKET:%s|EVENT:%s|USER:%s|DATE:%s|VENUE:%s",
+                ticketCode,
+                order.getEvent().getTitle(),
+                order.getUser().getEmail(),
+                order.getEvent().getEventDate(),
+                order.getEvent().getVenue().getName()
+        );
+
+        // Render once - the same byte array is persisted, served and attached to emails
+        byte[] qrCodeImage = generateQRCodeImage(qrData);
+
+        // The image is the admission credential, so its public URL needs an unguessable secret
+        String accessToken = generateAccessToken();
+
+        // Update order item
+        orderItem.setTicketCode(ticketCode);
+        orderItem.setQrCodeUrl(buildQRCodeUrl(accessToken));
+        orderItem.setIsValid(true);
+
+        return TicketArtifact.builder()
+                .orderItem(orderItem)
+                .ticketCode(ticketCode)
+                .accessToken(accessToken)
+                .qrCodeImage(qrCodeImage)
+                .build();
+    }
+
+    @Override
+    public byte[] getQRCodeImage(String accessToken) {
+        return ticketArtifactRepository.findValidQRCodeImage(accessToken)
+                .orElseThrow(() -> new NotFoundException("Ticket not found"));
+    }
+
+    /**
+     * Generate the random secret of a ticket's public QR code URL
+     */
+    private String generateAccessToken() {
+        byte[] bytes = new byte[ACCESS_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Build public URL of the QR code image for a ticket
+     */
+    private String buildQRCodeUrl(String accessToken) {
+        return apiUrl + "/api/tickets/" + accessToken + "/qr-code";
+    }
+}
@@ -0,0 +1,33 @@
+package com.nipapager.eventticketingplatform.recommendation.controller;
+
+import com.nipapager.eventticketingplatform.recommendation.dto.RecommendedEventDTO;
+import com.nipapager.eventticketingplatform.recommendation.service.RecommendationService;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for event recommendations
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    @GetMapping("/{id}/also-bought")
+    public ResponseEntity<Response<List<RecommendedEventDTO>>> getAlsoBought(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit) {
+        Response<List<RecommendedEventDTO>> response = recommendationService.getAlsoBought(id, limit);
+        return ResponseEntity.ok(response);
+    }
+}
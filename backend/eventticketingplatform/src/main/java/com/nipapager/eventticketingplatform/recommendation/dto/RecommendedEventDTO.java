@@ -0,0 +1,26 @@
+package com.nipapager.eventticketingplatform.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * An event bought by buyers of another event
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedEventDTO {
+    private Long eventId;
+    private String title;
+    private LocalDate eventDate;
+    private String categoryName;
+    private String venueName;
+    private String city;
+    private Double score;          // Cosine similarity of the buyer sets, 0..1
+    private Integer sharedBuyers;  // Users who bought both
+}
@@ -0,0 +1,224 @@
+package com.nipapager.eventticketingplatform.recommendation.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "Customers also bought" graph built from the set of events each user has bought tickets for
+ * Similarity of two events is shared buyers / sqrt(buyers of a x buyers of b) (cosine over buyer sets)
+ * Raw counts are kept so single purchases can be applied incrementally; the top neighbours of every event
+ * are precomputed so a lookup is one map read
+ */
+@Component
+@Slf4j
+public class CoPurchaseGraph {
+
+    // Baskets per fork-join leaf task
+    private static final int BASKETS_PER_TASK = 512;
+
+    private final int neighboursPerEvent;
+    private final int minSharedBuyers;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Counts counts = new Counts();
+    private long generation;  // Bumped by every rebuild
+
+    // Read without the lock; entries are immutable and replaced whole
+    private volatile Map<Long, Neighbours> neighbours = new ConcurrentHashMap<>();
+
+    public CoPurchaseGraph(@Value("${recommendations.neighbours-per-event:20}") int neighboursPerEvent,
+                           @Value("${recommendations.min-shared-buyers:1}") int minSharedBuyers) {
+        this.neighboursPerEvent = neighboursPerEvent;
+        this.minSharedBuyers = minSharedBuyers;
+    }
+
+    /**
+     * Top neighbours of an event, best first
+     */
+    public Neighbours neighbours(long eventId) {
+        return neighbours.getOrDefault(eventId, Neighbours.EMPTY);
+    }
+
+    /**
+     * Rebuild from scratch; pair counting fans out over the common fork-join pool
+     * @param baskets Distinct event IDs bought by each user
+     * @return Generation of the new graph
+     */
+    public long replaceAll(List<long[]> baskets) {
+        Counts newCounts = ForkJoinPool.commonPool().invoke(new CountTask(baskets, 0, baskets.size()));
+
+        Map<Long, Neighbours> newNeighbours = new ConcurrentHashMap<>();
+        new ArrayList<>(newCounts.shared.keySet()).parallelStream().forEach(eventId ->
+                newNeighbours.put(eventId, topNeighbours(newCounts, eventId)));
+        newNeighbours.values().removeIf(entry -> entry.size() == 0);
+
+        long newGeneration;
+        lock.writeLock().lock();
+        try {
+            counts = newCounts;
+            neighbours = newNeighbours;
+            newGeneration = ++generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Co-purchase graph rebuilt from {} buyers: {} events with neighbours",
+                baskets.size(), newNeighbours.size());
+        return newGeneration;
+    }
+
+    /**
+     * Apply one user's first purchase of an event
+     * Neighbour lists of the event and of the user's other events are refreshed now; other lists that
+     * include the event drift slightly (its buyer count grew) until the next rebuild
+     * @param eventId Newly bought event
+     * @param otherEventIds Events the user had already bought
+     * @return Generation of the graph the purchase was applied to (a later rebuild drops it unless it was counted)
+     */
+    public long recordPurchase(long eventId, long[] otherEventIds) {
+        Map<Long, Neighbours> updated = new HashMap<>();
+
+        lock.writeLock().lock();
+        try {
+            counts.buyers.add(eventId, 1);
+            for (long other : otherEventIds) {
+                if (other != eventId) {
+                    counts.addPair(eventId, other);
+                }
+            }
+
+            updated.put(eventId, topNeighbours(counts, eventId));
+            for (long other : otherEventIds) {
+                if (other != eventId) {
+                    updated.put(other, topNeighbours(counts, other));
+                }
+            }
+
+            // Published under the lock so a concurrent rebuild cannot be overwritten with older lists
+            updated.forEach((id, entry) -> {
+                if (entry.size() == 0) {
+                    neighbours.remove(id);
+                } else {
+                    neighbours.put(id, entry);
+                }
+            });
+            return generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Neighbours topNeighbours(Counts source, long eventId) {
+        LongIntCountMap shared = source.shared.get(eventId);
+        if (shared == null) {
+            return Neighbours.EMPTY;
+        }
+
+        int buyers = source.buyers.get(eventId);
+        List<Candidate> candidates = new ArrayList<>();
+        shared.forEach((other, together) -> {
+            if (together >= minSharedBuyers) {
+                double score = together / Math.sqrt((double) buyers * source.buyers.get(other));
+                candidates.add(new Candidate(other, (float) score, together));
+            }
+        });
+
+        // Best score first, then most shared buyers, then lowest ID for a stable order
+        candidates.sort((a, b) -> a.score != b.score ? Float.compare(b.score, a.score)
+                : a.sharedBuyers != b.sharedBuyers ? Integer.compare(b.sharedBuyers, a.sharedBuyers)
+                : Long.compare(a.eventId, b.eventId));
+
+        int size = Math.min(neighboursPerEvent, candidates.size());
+        long[] eventIds = new long[size];
+        float[] scores = new float[size];
+        int[] sharedBuyers = new int[size];
+        for (int i = 0; i < size; i++) {
+            Candidate candidate = candidates.get(i);
+            eventIds[i] = candidate.eventId;
+            scores[i] = candidate.score;
+            sharedBuyers[i] = candidate.sharedBuyers;
+        }
+        return new Neighbours(eventIds, scores, sharedBuyers);
+    }
+
+    private record Candidate(long eventId, float score, int sharedBuyers) {
+    }
+
+    /**
+     * Buyers per event and buyers per pair of events (stored in both directions)
+     */
+    private static final class Counts {
+        private final LongIntCountMap buyers = new LongIntCountMap();
+        private final Map<Long, LongIntCountMap> shared = new HashMap<>();
+
+        void addBasket(long[] eventIds) {
+            for (int i = 0; i < eventIds.length; i++) {
+                buyers.add(eventIds[i], 1);
+                for (int j = i + 1; j < eventIds.length; j++) {
+                    addPair(eventIds[i], eventIds[j]);
+                }
+            }
+        }
+
+        void addPair(long a, long b) {
+            shared.computeIfAbsent(a, id -> new LongIntCountMap()).add(b, 1);
+            shared.computeIfAbsent(b, id -> new LongIntCountMap()).add(a, 1);
+        }
+
+        void addAll(Counts other) {
+            buyers.addAll(other.buyers);
+            other.shared.forEach((eventId, pairs) -> {
+                LongIntCountMap existing = shared.putIfAbsent(eventId, pairs);
+                if (existing != null) {
+                    existing.addAll(pairs);
+                }
+            });
+        }
+    }
+
+    /**
+     * Counts a range of baskets, splitting in half until the range is small enough
+     */
+    private static final class CountTask extends RecursiveTask<Counts> {
+        private final List<long[]> baskets;
+        private final int from;
+        private final int to;
+
+        private CountTask(List<long[]> baskets, int from, int to) {
+            this.baskets = baskets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Counts compute() {
+            if (to - from <= BASKETS_PER_TASK) {
+                Counts result = new Counts();
+                for (int i = from; i < to; i++) {
+                    result.addBasket(baskets.get(i));
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(baskets, from, middle);
+            left.fork();
+            Counts right = new CountTask(baskets, middle, to).compute();
+            Counts result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+}
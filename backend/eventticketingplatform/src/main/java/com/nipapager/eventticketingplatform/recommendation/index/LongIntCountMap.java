@@ -0,0 +1,101 @@
+package com.nipapager.eventticketingplatform.recommendation.index;
+
+/**
+ * Open-addressing map of positive long keys to int counts, stored in two flat arrays
+ * Avoids a boxed Long and Integer per entry, which dominates memory for co-purchase counts
+ * Not thread-safe
+ */
+class LongIntCountMap {
+
+    private static final long EMPTY = 0;  // Entity IDs start at 1
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntCountMap() {
+        this(8);
+    }
+
+    LongIntCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    /**
+     * Add delta to the key's count (starting from 0)
+     * @return New count
+     */
+    int add(long key, int delta) {
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+            values[slot] = delta;
+            if (size * 2 > keys.length) {
+                resize();
+            }
+            return delta;
+        }
+        values[slot] += delta;
+        return values[slot];
+    }
+
+    /**
+     * Count for the key, 0 if absent
+     */
+    int get(long key) {
+        int slot = slotOf(key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                visitor.visit(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Add every count of another map into this one
+     */
+    void addAll(LongIntCountMap other) {
+        other.forEach(this::add);
+    }
+
+    // Slot holding the key, or the empty slot where it would go (linear probing)
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                int newSlot = slotOf(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                values[newSlot] = oldValues[slot];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long key, int value);
+    }
+}
@@ -0,0 +1,16 @@
+package com.nipapager.eventticketingplatform.recommendation.index;
+
+/**
+ * Most co-purchased events for one event, best first, as parallel primitive arrays
+ * @param eventIds Neighbour event IDs
+ * @param scores Cosine similarity of the two events' buyer sets
+ * @param sharedBuyers Users who bought both
+ */
+public record Neighbours(long[] eventIds, float[] scores, int[] sharedBuyers) {
+
+    public static final Neighbours EMPTY = new Neighbours(new long[0], new float[0], new int[0]);
+
+    public int size() {
+        return eventIds.length;
+    }
+}
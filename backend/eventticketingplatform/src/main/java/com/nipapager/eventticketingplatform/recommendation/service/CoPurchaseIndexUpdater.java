@@ -0,0 +1,137 @@
+package com.nipapager.eventticketingplatform.recommendation.service;
+
+import com.nipapager.eventticketingplatform.enums.OrderStatus;
+import com.nipapager.eventticketingplatform.enums.PaymentStatus;
+import com.nipapager.eventticketingplatform.order.repository.OrderRepository;
+import com.nipapager.eventticketingplatform.recommendation.index.CoPurchaseGraph;
+import com.nipapager.eventticketingplatform.trending.service.TicketsConfirmedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the co-purchase graph in step with confirmed orders
+ * Applies each buyer's first purchase of an event as it commits; the scheduled rebuild also picks up
+ * cancellations and refunds, which are not applied incrementally
+ * Purchases applied while a rebuild runs are replayed onto the rebuilt graph unless its query already saw them
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoPurchaseIndexUpdater {
+
+    private static final List<OrderStatus> PURCHASED = List.of(OrderStatus.CONFIRMED, OrderStatus.COMPLETED);
+
+    // Orders by (userId, eventId), the order of findBuyerEventPairs rows
+    private static final Comparator<Object[]> BY_BUYER_AND_EVENT = Comparator
+            .<Object[], Long>comparing(row -> (Long) row[0])
+            .thenComparing(row -> (Long) row[1]);
+
+    private final OrderRepository orderRepository;
+    private final CoPurchaseGraph coPurchaseGraph;
+
+    // Guards pendingPurchases; purchases are applied and queued under it so none slips past the replay
+    private final Object pendingLock = new Object();
+
+    // Purchases applied since the running rebuild started (null when no rebuild is running)
+    private List<PendingPurchase> pendingPurchases;
+
+    // Most recent events kept per buyer, so a single heavy buyer does not add thousands of pairs
+    @Value("${recommendations.max-events-per-user:50}")
+    private int maxEventsPerUser;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsConfirmed(TicketsConfirmedEvent confirmed) {
+        List<Object[]> rows = orderRepository.countOrdersPerEventByUserId(
+                confirmed.userId(), PURCHASED, PaymentStatus.REFUNDED);
+
+        List<Long> otherEventIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long eventId = (Long) row[0];
+            long orders = (Long) row[1];
+            if (eventId.equals(confirmed.eventId())) {
+                if (orders > 1) {
+                    // Repeat purchase, the buyer is already counted
+                    return;
+                }
+            } else {
+                otherEventIds.add(eventId);
+            }
+        }
+
+        long[] otherEvents = toBasket(otherEventIds);
+        synchronized (pendingLock) {
+            long generation = coPurchaseGraph.recordPurchase(confirmed.eventId(), otherEvents);
+            if (pendingPurchases != null) {
+                pendingPurchases.add(new PendingPurchase(confirmed.userId(), confirmed.eventId(), otherEvents, generation));
+            }
+        }
+    }
+
+    /**
+     * Recount every buyer's events and swap the graph
+     */
+    @Scheduled(cron = "${recommendations.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        synchronized (pendingLock) {
+            pendingPurchases = new ArrayList<>();
+        }
+        List<Object[]> rows = orderRepository.findBuyerEventPairs(PURCHASED, PaymentStatus.REFUNDED);
+
+        // Rows are sorted by buyer, so each buyer's events are contiguous
+        List<long[]> baskets = new ArrayList<>();
+        List<Long> basket = new ArrayList<>();
+        Long currentUserId = null;
+        for (Object[] row : rows) {
+            Long userId = (Long) row[0];
+            if (!userId.equals(currentUserId) && !basket.isEmpty()) {
+                baskets.add(toBasket(basket));
+                basket.clear();
+            }
+            currentUserId = userId;
+            basket.add((Long) row[1]);
+        }
+        if (!basket.isEmpty()) {
+            baskets.add(toBasket(basket));
+        }
+
+        long rebuiltGeneration = coPurchaseGraph.replaceAll(baskets);
+
+        // The swap drops purchases applied to the old graph meanwhile; replay those the query did not see
+        // (a purchase committed just before the query can reach the listener after the rebuild started)
+        synchronized (pendingLock) {
+            for (PendingPurchase purchase : pendingPurchases) {
+                Object[] key = {purchase.userId(), purchase.eventId()};
+                if (purchase.generation() != rebuiltGeneration
+                        && Collections.binarySearch(rows, key, BY_BUYER_AND_EVENT) < 0) {
+                    coPurchaseGraph.recordPurchase(purchase.eventId(), purchase.otherEventIds());
+                }
+            }
+            pendingPurchases = null;
+        }
+    }
+
+    // Event IDs ascending, so the tail is the newest events
+    private long[] toBasket(List<Long> eventIds) {
+        int from = Math.max(0, eventIds.size() - maxEventsPerUser);
+        return eventIds.subList(from, eventIds.size()).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private record PendingPurchase(Long userId, Long eventId, long[] otherEventIds, long generation) {
+    }
+}
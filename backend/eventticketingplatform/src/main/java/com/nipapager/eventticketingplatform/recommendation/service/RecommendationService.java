@@ -0,0 +1,20 @@
+package com.nipapager.eventticketingplatform.recommendation.service;
+
+import com.nipapager.eventticketingplatform.recommendation.dto.RecommendedEventDTO;
+import com.nipapager.eventticketingplatform.response.Response;
+
+import java.util.List;
+
+/**
+ * Service interface for "customers also bought" recommendations
+ */
+public interface RecommendationService {
+
+    /**
+     * Upcoming approved events most often bought together with the given one
+     * Served from the in-memory co-purchase graph and search index, without database access
+     * @param eventId Approved event
+     * @param limit Max events
+     */
+    Response<List<RecommendedEventDTO>> getAlsoBought(Long eventId, Integer limit);
+}
@@ -0,0 +1,76 @@
+package com.nipapager.eventticketingplatform.recommendation.service;
+
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.exception.NotFoundException;
+import com.nipapager.eventticketingplatform.recommendation.dto.RecommendedEventDTO;
+import com.nipapager.eventticketingplatform.recommendation.index.CoPurchaseGraph;
+import com.nipapager.eventticketingplatform.recommendation.index.Neighbours;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.search.index.CatalogDocument;
+import com.nipapager.eventticketingplatform.search.index.EventSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service implementation for "customers also bought" recommendations
+ * Neighbour lists are precomputed per event; only approved, upcoming events are returned
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final int DEFAULT_LIMIT = 6;
+    private static final int MAX_LIMIT = 20;
+
+    private final CoPurchaseGraph coPurchaseGraph;
+    private final EventSearchIndex eventSearchIndex;
+
+    @Override
+    public Response<List<RecommendedEventDTO>> getAlsoBought(Long eventId, Integer limit) {
+        // Validate limit
+        int size = limit != null ? limit : DEFAULT_LIMIT;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        // Only approved events are listed publicly (and indexed)
+        if (eventSearchIndex.get(eventId) == null) {
+            throw new NotFoundException("Event not found");
+        }
+
+        Neighbours neighbours = coPurchaseGraph.neighbours(eventId);
+        LocalDate today = LocalDate.now();
+
+        List<RecommendedEventDTO> recommendations = new ArrayList<>();
+        for (int i = 0; i < neighbours.size() && recommendations.size() < size; i++) {
+            CatalogDocument document = eventSearchIndex.get(neighbours.eventIds()[i]);
+            if (document == null || document.eventDate().isBefore(today)) {
+                continue;
+            }
+
+            recommendations.add(RecommendedEventDTO.builder()
+                    .eventId(document.eventId())
+                    .title(document.title())
+                    .eventDate(document.eventDate())
+                    .categoryName(document.categoryName())
+                    .venueName(document.venueName())
+                    .city(document.city())
+                    .score((double) neighbours.scores()[i])
+                    .sharedBuyers(neighbours.sharedBuyers()[i])
+                    .build());
+        }
+
+        return Response.<List<RecommendedEventDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Recommendations retrieved successfully")
+                .data(recommendations)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.nipapager.eventticketingplatform.response;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * ETag and Last-Modified of a GET resource, computed from ResourceVersion aggregates or a version string
+ * @param etag Weak entity tag
+ * @param lastModified Epoch millis of the latest change (-1 if unknown)
+ */
+public record CacheValidator(String etag, long lastModified) {
+
+    /**
+     * Build a validator from the versions of every table the response is mapped from
+     * @param scope Anything else the body depends on (e.g. caller visibility)
+     */
+    public static CacheValidator of(String scope, List<? extends ResourceVersion> versions) {
+        StringBuilder fingerprint = new StringBuilder(scope);
+        LocalDateTime latest = null;
+
+        for (ResourceVersion version : versions) {
+            fingerprint.append('|').append(version.getRowCount())
+                    .append(':').append(version.getModifiedAt())
+                    .append(':').append(version.getChecksum());
+
+            if (version.getModifiedAt() != null && (latest == null || version.getModifiedAt().isAfter(latest))) {
+                latest = version.getModifiedAt();
+            }
+        }
+
+        String hash = DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+        long lastModified = latest != null ? latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+
+        return new CacheValidator("W/\"" + hash + "\"", lastModified);
+    }
+
+    public static CacheValidator of(String scope, ResourceVersion version) {
+        return of(scope, List.of(version));
+    }
+
+    /**
+     * Build an ETag-only validator from a version that changes with the resource
+     * @param scope Anything else the body depends on (e.g. caller visibility)
+     */
+    public static CacheValidator of(String scope, String version) {
+        String hash = DigestUtils.md5DigestAsHex((scope + "|" + version).getBytes(StandardCharsets.UTF_8));
+        return new CacheValidator("W/\"" + hash + "\"", -1);
+    }
+}
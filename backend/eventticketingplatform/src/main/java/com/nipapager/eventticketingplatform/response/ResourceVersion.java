@@ -0,0 +1,19 @@
+package com.nipapager.eventticketingplatform.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate fingerprint of a table (or a slice of it) used to build HTTP validators
+ * Filled by native aggregate queries, so no entity is loaded
+ */
+public interface ResourceVersion {
+
+    // Number of rows (catches deletes)
+    Long getRowCount();
+
+    // Latest updated_at / created_at of the rows
+    LocalDateTime getModifiedAt();
+
+    // Sum of counters that change without touching updated_at (0 if none)
+    Long getChecksum();
+}
@@ -3,9 +3,11 @@ package com.nipapager.eventticketingplatform.review.controller;
 import com.nipapager.eventticketingplatform.response.Response;
 import com.nipapager.eventticketingplatform.review.dto.ReviewDTO;
 import com.nipapager.eventticketingplatform.review.dto.ReviewSummaryDTO;
+import com.nipapager.eventticketingplatform.review.service.RatingStatsRepairService;
 import com.nipapager.eventticketingplatform.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,6 +21,7 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final RatingStatsRepairService ratingStatsRepairService;
 
     @PostMapping
     public ResponseEntity<Response<ReviewDTO>> createReview(@RequestBody ReviewDTO reviewDTO) {
@@ -69,4 +72,11 @@ public class ReviewController {
         Response<ReviewDTO> response = reviewService.getUserReviewForEvent(eventId);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/admin/rebuild-stats")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<Response<Integer>> rebuildRatingStats() {
+        Response<Integer> response = ratingStatsRepairService.rebuildRatingStats();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -4,10 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReviewSummaryDTO {
     private Double averageRating;
     private Long totalReviews;
+    private Map<Integer, Long> ratingDistribution;  // Stars (5..1) -> number of reviews
 }
\ No newline at end of file
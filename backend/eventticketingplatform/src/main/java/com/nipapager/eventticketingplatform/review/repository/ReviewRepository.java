@@ -1,6 +1,8 @@
 package com.nipapager.eventticketingplatform.review.repository;
 
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
 import com.nipapager.eventticketingplatform.review.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,4 +36,16 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // Get review count for an event
     @Query("SELECT COUNT(r) FROM Review r WHERE r.event.id = :eventId")
     Long getReviewCountForEvent(@Param("eventId") Long eventId);
-}
\ No newline at end of file
+
+    // Newest reviews of an event without loading users (rows: id, userId, userName, rating, comment, createdAt, updatedAt)
+    @Query("SELECT r.id, u.id, u.name, r.rating, r.comment, r.createdAt, r.updatedAt " +
+            "FROM Review r JOIN r.user u WHERE r.event.id = :eventId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Object[]> findLatestRowsByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    // Version of an event's reviews for HTTP validators
+    @Query(value = "SELECT COUNT(*) AS rowCount, MAX(COALESCE(r.updated_at, r.created_at)) AS modifiedAt, " +
+            "COALESCE(SUM(r.rating), 0) AS checksum " +
+            "FROM reviews r WHERE r.event_id = :eventId",
+            nativeQuery = true)
+    ResourceVersion findVersionByEventId(@Param("eventId") Long eventId);
+}
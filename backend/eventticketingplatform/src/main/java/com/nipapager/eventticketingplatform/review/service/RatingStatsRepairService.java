@@ -0,0 +1,15 @@
+package com.nipapager.eventticketingplatform.review.service;
+
+import com.nipapager.eventticketingplatform.response.Response;
+
+/**
+ * Service interface for rebuilding event rating statistics from the reviews table
+ */
+public interface RatingStatsRepairService {
+
+    /**
+     * Recompute rating sum, count and histogram of every event from scratch
+     * @return Number of events processed
+     */
+    Response<Integer> rebuildRatingStats();
+}
@@ -0,0 +1,65 @@
+package com.nipapager.eventticketingplatform.review.service;
+
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.response.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds the incrementally maintained rating statistics on events
+ * Works through event ID ranges, one short transaction per chunk
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RatingStatsRepairServiceImpl implements RatingStatsRepairService {
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${review.stats.repair.chunk-size:1000}")
+    private long chunkSize;
+
+    @Override
+    public Response<Integer> rebuildRatingStats() {
+        int processed = rebuild();
+
+        return Response.<Integer>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Rating statistics rebuilt for " + processed + " events")
+                .data(processed)
+                .build();
+    }
+
+    @Scheduled(cron = "${review.stats.repair.cron:0 0 4 * * SUN}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private int rebuild() {
+        Long maxId = eventRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int processed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            long to = Math.min(fromId + chunkSize - 1, maxId);
+            Integer updated = transactionTemplate.execute(status -> eventRepository.recomputeRatingStats(from, to));
+            processed += updated != null ? updated : 0;
+        }
+
+        log.info("Rating statistics rebuilt for {} events", processed);
+        eventPublisher.publishEvent(CatalogChangedEvent.allChanged());
+        return processed;
+    }
+}
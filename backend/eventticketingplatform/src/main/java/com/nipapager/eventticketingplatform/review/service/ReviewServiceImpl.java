@@ -2,6 +2,7 @@ package com.nipapager.eventticketingplatform.review.service;
 
 import com.nipapager.eventticketingplatform.enums.OrderStatus;
 import com.nipapager.eventticketingplatform.enums.UserRole;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
 import com.nipapager.eventticketingplatform.event.entity.Event;
 import com.nipapager.eventticketingplatform.event.repository.EventRepository;
 import com.nipapager.eventticketingplatform.exception.BadRequestException;
@@ -19,12 +20,16 @@ import com.nipapager.eventticketingplatform.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -42,8 +47,10 @@ public class ReviewServiceImpl implements ReviewService {
     private final OrderRepository orderRepository;
     private final UserService userService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public Response<ReviewDTO> createReview(ReviewDTO reviewDTO) {
         log.info("Creating review for event: {}", reviewDTO.getEventId());
 
@@ -73,6 +80,7 @@ public class ReviewServiceImpl implements ReviewService {
 
         // Save review
         Review savedReview = reviewRepository.save(review);
+        applyRatingChange(event.getId(), savedReview.getRating(), 1);
         log.info("Review created successfully with ID: {}", savedReview.getId());
 
         // Map to DTO
@@ -128,6 +136,7 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Transactional
     public Response<ReviewDTO> updateReview(Long id, ReviewDTO reviewDTO) {
         log.info("Updating review with id: {}", id);
 
@@ -141,6 +150,8 @@ public class ReviewServiceImpl implements ReviewService {
             throw new ForbiddenException("You can only update your own reviews");
         }
 
+        Integer previousRating = review.getRating();
+
         // Update rating if provided
         if (reviewDTO.getRating() != null) {
             if (reviewDTO.getRating() < 1 || reviewDTO.getRating() > 5) {
@@ -158,6 +169,12 @@ public class ReviewServiceImpl implements ReviewService {
 
         // Save updated review
         Review savedReview = reviewRepository.save(review);
+
+        // Move the review between histogram buckets
+        if (!previousRating.equals(savedReview.getRating())) {
+            applyRatingChange(savedReview.getEvent().getId(), previousRating, -1);
+            applyRatingChange(savedReview.getEvent().getId(), savedReview.getRating(), 1);
+        }
         log.info("Review updated successfully: {}", savedReview.getId());
 
         // Map to DTO
@@ -171,6 +188,7 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Transactional
     public Response<Void> deleteReview(Long id) {
         log.info("Deleting review with id: {}", id);
 
@@ -189,7 +207,8 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         // Delete review
-        reviewRepository.deleteById(id);
+        reviewRepository.delete(review);
+        applyRatingChange(review.getEvent().getId(), review.getRating(), -1);
         log.info("Review deleted successfully: {}", id);
 
         return Response.<Void>builder()
@@ -237,6 +256,24 @@ public class ReviewServiceImpl implements ReviewService {
         return dto;
     }
 
+    /**
+     * Add (direction 1) or remove (direction -1) one rating from the event's statistics
+     */
+    private void applyRatingChange(Long eventId, int rating, int direction) {
+        eventRepository.adjustRatingStats(
+                eventId,
+                (long) rating * direction,
+                direction,
+                rating == 1 ? direction : 0,
+                rating == 2 ? direction : 0,
+                rating == 3 ? direction : 0,
+                rating == 4 ? direction : 0,
+                rating == 5 ? direction : 0
+        );
+        eventRepository.refreshRatingAverage(eventId);
+        eventPublisher.publishEvent(CatalogChangedEvent.ratingChanged(eventId));
+    }
+
     /**
      * Validate user can review this event
      */
@@ -269,17 +306,21 @@ public class ReviewServiceImpl implements ReviewService {
     public Response<ReviewSummaryDTO> getReviewSummary(Long eventId) {
         log.info("Fetching review summary for event: {}", eventId);
 
-        // Validate event exists
-        if (!eventRepository.existsById(eventId)) {
-            throw new NotFoundException("Event not found");
-        }
+        // Find event (rating statistics live on the event row)
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NotFoundException("Event not found"));
 
-        Double averageRating = reviewRepository.getAverageRatingForEvent(eventId);
-        Long totalReviews = reviewRepository.getReviewCountForEvent(eventId);
+        Map<Integer, Long> ratingDistribution = new LinkedHashMap<>();
+        ratingDistribution.put(5, event.getRating5Count());
+        ratingDistribution.put(4, event.getRating4Count());
+        ratingDistribution.put(3, event.getRating3Count());
+        ratingDistribution.put(2, event.getRating2Count());
+        ratingDistribution.put(1, event.getRating1Count());
 
         ReviewSummaryDTO summary = new ReviewSummaryDTO();
-        summary.setAverageRating(averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0);
-        summary.setTotalReviews(totalReviews != null ? totalReviews : 0L);
+        summary.setAverageRating(event.getAverageRating() != null ? event.getAverageRating() : 0.0);
+        summary.setTotalReviews(event.getRatingCount());
+        summary.setRatingDistribution(ratingDistribution);
 
         return Response.<ReviewSummaryDTO>builder()
                 .statusCode(HttpStatus.OK.value())
@@ -0,0 +1,32 @@
+package com.nipapager.eventticketingplatform.search.controller;
+
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.search.index.Suggestion;
+import com.nipapager.eventticketingplatform.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for search box features
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Response<List<Suggestion>>> suggest(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        Response<List<Suggestion>> response = searchService.suggest(q, limit);
+        return ResponseEntity.ok(response);
+    }
+}
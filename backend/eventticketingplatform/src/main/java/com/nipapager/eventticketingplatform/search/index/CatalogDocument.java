@@ -0,0 +1,44 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import com.nipapager.eventticketingplatform.event.entity.Event;
+
+import java.time.LocalDate;
+
+/**
+ * Searchable snapshot of an approved event
+ * Holds the text that is indexed plus the fields search filters need, so filtering never hits the database
+ */
+public record CatalogDocument(
+        Long eventId,
+        String title,
+        String description,
+        Long categoryId,
+        String categoryName,
+        Long venueId,
+        String venueName,
+        String city,
+        LocalDate eventDate,
+        Double latitude,
+        Double longitude
+) {
+
+    public static CatalogDocument from(Event event) {
+        return new CatalogDocument(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getCategory().getId(),
+                event.getCategory().getName(),
+                event.getVenue().getId(),
+                event.getVenue().getName(),
+                event.getVenue().getCity(),
+                event.getEventDate(),
+                event.getVenue().getLatitude(),
+                event.getVenue().getLongitude()
+        );
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import com.nipapager.eventticketingplatform.enums.DateFacetBucket;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of matching events in one date range
+ * @param startDate Filter value for startDate
+ * @param endDate Filter value for endDate (null when open-ended)
+ */
+public record DateFacetCount(DateFacetBucket bucket, LocalDate startDate, LocalDate endDate, long count)
+        implements Serializable {
+}
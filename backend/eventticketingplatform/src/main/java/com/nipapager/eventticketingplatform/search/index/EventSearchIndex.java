@@ -0,0 +1,409 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import com.nipapager.eventticketingplatform.enums.DateFacetBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-process inverted index over approved events, ranked with BM25
+ * Title terms weigh more than description, category and venue terms
+ * Venue coordinates are kept in a lat/lon grid for radius and bounding-box queries
+ * Facet counts come from the indexed fields in one pass over the matches
+ * Readers share a lock; single-event updates and full rebuilds take it exclusively
+ */
+@Component
+@Slf4j
+public class EventSearchIndex {
+
+    // BM25 parameters (standard defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TEXT_WEIGHT = 1;
+
+    private static final Comparator<FacetCount> FACET_ORDER = Comparator.comparingLong(FacetCount::count).reversed()
+            .thenComparing(FacetCount::label);
+
+    private static final Comparator<GeoHit> GEO_ORDER = Comparator.comparingDouble(GeoHit::distanceKm)
+            .thenComparing(GeoHit::eventId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Term -> (event ID -> weighted term frequency)
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    // Event ID -> indexed document
+    private Map<Long, IndexedDocument> documents = new HashMap<>();
+
+    private long totalLength;
+
+    private final double geoCellSizeDegrees;
+
+    // Venue location -> event IDs
+    private GeoGrid geoGrid;
+
+    public EventSearchIndex(@Value("${search.geo.cell-size-degrees:0.1}") double geoCellSizeDegrees) {
+        this.geoCellSizeDegrees = geoCellSizeDegrees;
+        this.geoGrid = new GeoGrid(geoCellSizeDegrees);
+    }
+
+    /**
+     * Add or replace one event
+     */
+    public void put(CatalogDocument document) {
+        IndexedDocument indexed = analyze(document);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.eventId());
+            addInternal(indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove one event (no-op if not indexed)
+     */
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole index; the new one is built before the lock is taken
+     */
+    public void replaceAll(List<CatalogDocument> allDocuments) {
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, IndexedDocument> newDocuments = new HashMap<>();
+        GeoGrid newGeoGrid = new GeoGrid(geoCellSizeDegrees);
+        long newTotalLength = 0;
+
+        for (CatalogDocument document : allDocuments) {
+            IndexedDocument indexed = analyze(document);
+            newDocuments.put(document.eventId(), indexed);
+            newTotalLength += indexed.length();
+            indexed.termFrequencies().forEach((term, tf) ->
+                    newPostings.computeIfAbsent(term, t -> new HashMap<>()).put(document.eventId(), tf));
+            if (document.hasLocation()) {
+                newGeoGrid.add(document.eventId(), document.latitude(), document.longitude());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            geoGrid = newGeoGrid;
+            totalLength = newTotalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index rebuilt with {} events and {} terms", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * Rank events matching any query term
+     * @param query Free text
+     * @param filter Applied to each candidate before scoring
+     * @return Hits by descending score, then ascending event ID
+     */
+    public List<SearchHit> search(String query, Predicate<CatalogDocument> filter) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+
+                int df = termPostings.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+
+                for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+                    IndexedDocument document = documents.get(posting.getKey());
+                    if (!filter.test(document.source())) {
+                        continue;
+                    }
+
+                    int tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * document.length() / averageLength);
+                    double termScore = idf * tf * (K1 + 1) / (tf + norm);
+                    scores.merge(posting.getKey(), termScore, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> hits = new ArrayList<>(scores.size());
+        scores.forEach((eventId, score) -> hits.add(new SearchHit(eventId, score)));
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::eventId));
+        return hits;
+    }
+
+    /**
+     * Events whose venue lies within the radius
+     * @return Hits by ascending distance, then ascending event ID
+     */
+    public List<GeoHit> searchNearby(double latitude, double longitude, double radiusKm,
+                                     Predicate<CatalogDocument> filter) {
+        List<GeoHit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Long eventId : geoGrid.candidatesWithin(latitude, longitude, radiusKm)) {
+                CatalogDocument document = documents.get(eventId).source();
+                double distance = GeoGrid.distanceKm(latitude, longitude, document.latitude(), document.longitude());
+                if (distance <= radiusKm && filter.test(document)) {
+                    hits.add(new GeoHit(eventId, distance));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(GEO_ORDER);
+        return hits;
+    }
+
+    /**
+     * Events whose venue lies inside the box (minLongitude > maxLongitude crosses the antimeridian)
+     * @return Hits by ascending distance from the box center, then ascending event ID
+     */
+    public List<GeoHit> searchInBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                                    Predicate<CatalogDocument> filter) {
+        boolean wraps = minLongitude > maxLongitude;
+        double centerLatitude = (minLatitude + maxLatitude) / 2;
+        double centerLongitude = GeoGrid.normalizeLongitude(wraps
+                ? (minLongitude + maxLongitude + 360) / 2
+                : (minLongitude + maxLongitude) / 2);
+
+        List<GeoHit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Long eventId : geoGrid.candidatesInBox(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+                CatalogDocument document = documents.get(eventId).source();
+                boolean inLatitude = document.latitude() >= minLatitude && document.latitude() <= maxLatitude;
+                boolean inLongitude = wraps
+                        ? document.longitude() >= minLongitude || document.longitude() <= maxLongitude
+                        : document.longitude() >= minLongitude && document.longitude() <= maxLongitude;
+                if (inLatitude && inLongitude && filter.test(document)) {
+                    double distance = GeoGrid.distanceKm(centerLatitude, centerLongitude,
+                            document.latitude(), document.longitude());
+                    hits.add(new GeoHit(eventId, distance));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(GEO_ORDER);
+        return hits;
+    }
+
+    /**
+     * City, category and date range counts over the events matching the query
+     * Each facet ignores its own filter (the city facet is counted without the city filter, and so on)
+     * @param query Free text (blank matches every event)
+     * @param maxValues Max cities and categories returned, most frequent first
+     */
+    public SearchFacets facets(String query, String city, Long categoryId, LocalDate startDate, LocalDate endDate,
+                               LocalDate today, int maxValues) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        boolean matchAll = query == null || query.isBlank();
+        boolean anyCity = city == null || city.isBlank();
+
+        // Lowercased city / category ID -> running count
+        Map<String, FacetCounter> cityCounts = new HashMap<>();
+        Map<Long, FacetCounter> categoryCounts = new HashMap<>();
+        Map<DateFacetBucket, Long> dateCounts = new EnumMap<>(DateFacetBucket.class);
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates;
+            if (matchAll) {
+                candidates = documents.keySet();
+            } else {
+                Set<Long> matching = new HashSet<>();
+                for (String term : terms) {
+                    Map<Long, Integer> termPostings = postings.get(term);
+                    if (termPostings != null) {
+                        matching.addAll(termPostings.keySet());
+                    }
+                }
+                candidates = matching;
+            }
+
+            for (Long eventId : candidates) {
+                CatalogDocument document = documents.get(eventId).source();
+                boolean cityMatches = anyCity || city.equalsIgnoreCase(document.city());
+                boolean categoryMatches = categoryId == null || categoryId.equals(document.categoryId());
+                boolean dateMatches = (startDate == null || !document.eventDate().isBefore(startDate))
+                        && (endDate == null || !document.eventDate().isAfter(endDate));
+
+                if (categoryMatches && dateMatches && document.city() != null) {
+                    cityCounts.computeIfAbsent(document.city().toLowerCase(Locale.ROOT),
+                            key -> new FacetCounter(document.city(), document.city())).count++;
+                }
+                if (cityMatches && dateMatches) {
+                    categoryCounts.computeIfAbsent(document.categoryId(),
+                            key -> new FacetCounter(String.valueOf(key), document.categoryName())).count++;
+                }
+                if (cityMatches && categoryMatches) {
+                    for (DateFacetBucket bucket : DateFacetBucket.values()) {
+                        if (bucket.contains(document.eventDate(), today)) {
+                            dateCounts.merge(bucket, 1L, Long::sum);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<DateFacetCount> dates = new ArrayList<>();
+        for (DateFacetBucket bucket : DateFacetBucket.values()) {
+            dates.add(new DateFacetCount(bucket, bucket.startDate(today), bucket.endDate(today),
+                    dateCounts.getOrDefault(bucket, 0L)));
+        }
+
+        return new SearchFacets(topValues(cityCounts.values(), maxValues),
+                topValues(categoryCounts.values(), maxValues), dates);
+    }
+
+    /**
+     * Indexed snapshot of an approved event, null if not indexed
+     */
+    public CatalogDocument get(Long eventId) {
+        lock.readLock().lock();
+        try {
+            IndexedDocument indexed = documents.get(eventId);
+            return indexed != null ? indexed.source() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<FacetCount> topValues(Collection<FacetCounter> counters, int maxValues) {
+        return counters.stream()
+                .map(counter -> new FacetCount(counter.value, counter.label, counter.count))
+                .sorted(FACET_ORDER)
+                .limit(maxValues)
+                .toList();
+    }
+
+    private IndexedDocument analyze(CatalogDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+
+        length += addTerms(termFrequencies, document.title(), TITLE_WEIGHT);
+        length += addTerms(termFrequencies, document.description(), TEXT_WEIGHT);
+        length += addTerms(termFrequencies, document.categoryName(), TEXT_WEIGHT);
+        length += addTerms(termFrequencies, document.venueName(), TEXT_WEIGHT);
+        length += addTerms(termFrequencies, document.city(), TEXT_WEIGHT);
+
+        return new IndexedDocument(document, termFrequencies, length);
+    }
+
+    private int addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        for (String term : terms) {
+            termFrequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private void addInternal(IndexedDocument indexed) {
+        CatalogDocument source = indexed.source();
+        Long eventId = source.eventId();
+        documents.put(eventId, indexed);
+        if (source.hasLocation()) {
+            geoGrid.add(eventId, source.latitude(), source.longitude());
+        }
+        totalLength += indexed.length();
+        indexed.termFrequencies().forEach((term, tf) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(eventId, tf));
+    }
+
+    private void removeInternal(Long eventId) {
+        IndexedDocument existing = documents.remove(eventId);
+        if (existing == null) {
+            return;
+        }
+
+        totalLength -= existing.length();
+        if (existing.source().hasLocation()) {
+            geoGrid.remove(eventId, existing.source().latitude(), existing.source().longitude());
+        }
+        for (String term : existing.termFrequencies().keySet()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(eventId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static final class FacetCounter {
+        private final String value;
+        private final String label;
+        private long count;
+
+        private FacetCounter(String value, String label) {
+            this.value = value;
+            this.label = label;
+        }
+    }
+
+    private record IndexedDocument(CatalogDocument source, Map<String, Integer> termFrequencies, int length) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import java.io.Serializable;
+
+/**
+ * Number of matching events for one facet value
+ * @param value What to pass back as the filter (city name or category ID)
+ * @param label Display text
+ */
+public record FacetCount(String value, String label, long count) implements Serializable {
+}
@@ -0,0 +1,130 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fixed-size latitude/longitude grid of event IDs
+ * A radius or box query only visits the cells it overlaps (or the populated cells, if fewer);
+ * exact distances are computed on those candidates
+ * Not thread-safe; EventSearchIndex guards it with its lock
+ */
+class GeoGrid {
+
+    static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final double cellSizeDegrees;
+    private final int latCells;
+    private final int lonCells;
+
+    // Cell key -> events in that cell
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+
+    GeoGrid(double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.latCells = (int) Math.ceil(180 / cellSizeDegrees);
+        this.lonCells = (int) Math.ceil(360 / cellSizeDegrees);
+    }
+
+    void add(Long eventId, double latitude, double longitude) {
+        cells.computeIfAbsent(cellKey(latIndex(latitude), lonIndex(longitude)), key -> new HashSet<>()).add(eventId);
+    }
+
+    void remove(Long eventId, double latitude, double longitude) {
+        long key = cellKey(latIndex(latitude), lonIndex(longitude));
+        Set<Long> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(eventId);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Events in cells overlapping the circle (a superset of the events inside it)
+     */
+    List<Long> candidatesWithin(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cosLat > 1e-9 ? radiusKm / (KM_PER_DEGREE_LAT * cosLat) : 360;
+
+        // A circle around a pole spans every longitude
+        if (lonDelta >= 180 || latitude + latDelta >= 90 || latitude - latDelta <= -90) {
+            return candidatesInBox(latitude - latDelta, -180, latitude + latDelta, 180);
+        }
+        return candidatesInBox(latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta);
+    }
+
+    /**
+     * Events in cells overlapping the box; minLongitude > maxLongitude means the box crosses the antimeridian
+     */
+    List<Long> candidatesInBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        int fromLat = latIndex(Math.max(minLatitude, -90));
+        int toLat = latIndex(Math.min(maxLatitude, 90));
+
+        int fromLon = lonIndex(normalizeLongitude(minLongitude));
+        int toLon = lonIndex(normalizeLongitude(maxLongitude));
+        boolean fullWidth = maxLongitude - minLongitude >= 360;
+        int lonSpan = fullWidth ? lonCells : Math.floorMod(toLon - fromLon, lonCells) + 1;
+
+        List<Long> candidates = new ArrayList<>();
+
+        // Large boxes (e.g. around a pole) cover more cells than are populated: walk the populated ones instead
+        if ((long) (toLat - fromLat + 1) * lonSpan > cells.size()) {
+            for (Map.Entry<Long, Set<Long>> cell : cells.entrySet()) {
+                int lat = (int) (cell.getKey() / lonCells);
+                int lon = (int) (cell.getKey() % lonCells);
+                if (lat >= fromLat && lat <= toLat && Math.floorMod(lon - fromLon, lonCells) < lonSpan) {
+                    candidates.addAll(cell.getValue());
+                }
+            }
+            return candidates;
+        }
+
+        for (int lat = fromLat; lat <= toLat; lat++) {
+            for (int step = 0; step < lonSpan; step++) {
+                int lon = Math.floorMod(fromLon + step, lonCells);
+                Set<Long> cell = cells.get(cellKey(lat, lon));
+                if (cell != null) {
+                    candidates.addAll(cell);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Great-circle distance in kilometers (haversine)
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    static double normalizeLongitude(double longitude) {
+        double normalized = ((longitude + 180) % 360 + 360) % 360 - 180;
+        return normalized == -180 && longitude > 0 ? 180 : normalized;
+    }
+
+    private int latIndex(double latitude) {
+        return Math.min((int) Math.floor((latitude + 90) / cellSizeDegrees), latCells - 1);
+    }
+
+    private int lonIndex(double longitude) {
+        return Math.min((int) Math.floor((longitude + 180) / cellSizeDegrees), lonCells - 1);
+    }
+
+    private long cellKey(int latIndex, int lonIndex) {
+        return (long) latIndex * lonCells + lonIndex;
+    }
+}
@@ -0,0 +1,9 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+/**
+ * One location search result
+ * @param eventId Matching event
+ * @param distanceKm Distance of the venue from the search point (or box center)
+ */
+public record GeoHit(Long eventId, double distanceKm) {
+}
@@ -0,0 +1,12 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Facet counts for a search
+ * Each facet is counted with every filter applied except its own, so choosing another value never shows zero
+ */
+public record SearchFacets(List<FacetCount> cities, List<FacetCount> categories, List<DateFacetCount> dates)
+        implements Serializable {
+}
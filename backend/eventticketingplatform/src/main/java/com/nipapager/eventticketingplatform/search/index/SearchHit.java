@@ -0,0 +1,9 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+/**
+ * One ranked search result
+ * @param eventId Matching event
+ * @param score BM25 relevance (higher is better)
+ */
+public record SearchHit(Long eventId, double score) {
+}
@@ -0,0 +1,24 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
+
+/**
+ * One typeahead entry
+ * @param type What the entry points to
+ * @param id Event, venue or category ID (null for cities)
+ * @param text Display text
+ * @param popularity Tickets sold for events, approved events for venues, cities and categories
+ */
+public record Suggestion(SuggestionType type, Long id, String text, long popularity) {
+
+    /**
+     * Identity of the entry regardless of text and popularity
+     */
+    public String key() {
+        return type == SuggestionType.CITY ? type + ":" + TextAnalyzer.normalize(text) : type + ":" + id;
+    }
+
+    public Suggestion withPopularity(long newPopularity) {
+        return new Suggestion(type, id, text, newPopularity);
+    }
+}
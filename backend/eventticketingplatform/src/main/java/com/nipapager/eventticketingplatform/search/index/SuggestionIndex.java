@@ -0,0 +1,312 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead over approved event titles, venue names, cities and category names
+ * Every word suffix of a name is a trie key, so "jazz" finds "Winter Jazz Festival"
+ * Popularity is tickets sold for events and approved event counts for venues, cities and categories
+ * Readers share a lock; updates and full rebuilds take it exclusively
+ */
+@Component
+@Slf4j
+public class SuggestionIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Longest name suffix that is indexed, in words
+    private static final int MAX_KEY_WORDS = 6;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+
+    /**
+     * Replace the whole index; the new one is built before the lock is taken
+     * @param documents Approved events
+     * @param soldByEvent Tickets sold per event
+     * @param venues Venue ID -> (name, city)
+     * @param categories Category ID -> name
+     */
+    public void replaceAll(List<CatalogDocument> documents, Map<Long, Long> soldByEvent,
+                           Map<Long, VenueName> venues, Map<Long, String> categories) {
+        State newState = new State();
+        venues.forEach((id, venue) -> newState.putVenue(id, venue.name(), venue.city()));
+        categories.forEach(newState::putCategory);
+        documents.forEach(document -> newState.putEvent(document, soldByEvent.getOrDefault(document.eventId(), 0L)));
+
+        lock.writeLock().lock();
+        try {
+            state = newState;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Suggestion index rebuilt with {} entries", newState.entries.size());
+    }
+
+    /**
+     * Add or replace one approved event
+     */
+    public void putEvent(CatalogDocument document, long ticketsSold) {
+        lock.writeLock().lock();
+        try {
+            state.putEvent(document, ticketsSold);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove one event (no-op if not indexed)
+     */
+    public void removeEvent(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            state.removeEvent(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-rank an indexed event after ticket sales or refunds
+     */
+    public void updateEventPopularity(Long eventId, long ticketsSold) {
+        lock.writeLock().lock();
+        try {
+            state.updateEventPopularity(eventId, ticketsSold);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putVenue(Long venueId, String name, String city) {
+        lock.writeLock().lock();
+        try {
+            state.putVenue(venueId, name, city);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeVenue(Long venueId) {
+        lock.writeLock().lock();
+        try {
+            state.removeVenue(venueId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putCategory(Long categoryId, String name) {
+        lock.writeLock().lock();
+        try {
+            state.putCategory(categoryId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeCategory(Long categoryId) {
+        lock.writeLock().lock();
+        try {
+            state.removeCategory(categoryId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most popular entries with a word starting with the prefix
+     * @return Suggestions by descending popularity, then text
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalizePrefix(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return state.trie.top(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // "Winter Jazz Festival" -> "winter jazz festival", "jazz festival", "festival"
+    static List<String> keysFor(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(TextAnalyzer.normalize(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, Math.min(words.size(), i + MAX_KEY_WORDS))));
+        }
+        return keys;
+    }
+
+    // Keeps a trailing space so "jazz " only matches whole words
+    private static String normalizePrefix(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        return NON_WORD.matcher(TextAnalyzer.normalize(prefix)).replaceAll(" ").stripLeading();
+    }
+
+    /**
+     * Venue fields the index needs
+     */
+    public record VenueName(String name, String city) {
+    }
+
+    /**
+     * Trie plus the bookkeeping needed to keep popularity counts right on single updates
+     */
+    private static final class State {
+
+        private final SuggestionTrie trie = new SuggestionTrie();
+
+        // Suggestion key -> current entry
+        private final Map<String, Suggestion> entries = new HashMap<>();
+
+        private final Map<Long, CatalogDocument> events = new HashMap<>();
+        private final Map<Long, VenueName> venues = new HashMap<>();
+        private final Map<Long, String> categories = new HashMap<>();
+
+        // Approved events per venue, city and category
+        private final Map<Long, Long> venueEventCounts = new HashMap<>();
+        private final Map<String, Long> cityEventCounts = new HashMap<>();
+        private final Map<Long, Long> categoryEventCounts = new HashMap<>();
+
+        // Normalized city -> venues in it
+        private final Map<String, Integer> cityVenueCounts = new HashMap<>();
+
+        void putEvent(CatalogDocument document, long ticketsSold) {
+            removeEvent(document.eventId());
+
+            events.put(document.eventId(), document);
+            upsert(new Suggestion(SuggestionType.EVENT, document.eventId(), document.title(), ticketsSold));
+            adjustCounts(document, 1);
+        }
+
+        void removeEvent(Long eventId) {
+            CatalogDocument existing = events.remove(eventId);
+            if (existing == null) {
+                return;
+            }
+
+            delete(new Suggestion(SuggestionType.EVENT, eventId, existing.title(), 0).key());
+            adjustCounts(existing, -1);
+        }
+
+        void updateEventPopularity(Long eventId, long ticketsSold) {
+            CatalogDocument document = events.get(eventId);
+            if (document != null) {
+                upsert(new Suggestion(SuggestionType.EVENT, eventId, document.title(), ticketsSold));
+            }
+        }
+
+        void putVenue(Long venueId, String name, String city) {
+            removeVenue(venueId);
+
+            venues.put(venueId, new VenueName(name, city));
+            upsert(new Suggestion(SuggestionType.VENUE, venueId, name, venueEventCounts.getOrDefault(venueId, 0L)));
+
+            if (city != null && !city.isBlank()) {
+                String cityKey = TextAnalyzer.normalize(city);
+                cityVenueCounts.merge(cityKey, 1, Integer::sum);
+                if (!entries.containsKey(cityEntryKey(city))) {
+                    upsert(new Suggestion(SuggestionType.CITY, null, city, cityEventCounts.getOrDefault(cityKey, 0L)));
+                }
+            }
+        }
+
+        void removeVenue(Long venueId) {
+            VenueName existing = venues.remove(venueId);
+            if (existing == null) {
+                return;
+            }
+
+            delete(SuggestionType.VENUE + ":" + venueId);
+
+            if (existing.city() != null && !existing.city().isBlank()) {
+                String cityKey = TextAnalyzer.normalize(existing.city());
+                if (cityVenueCounts.merge(cityKey, -1, Integer::sum) <= 0) {
+                    cityVenueCounts.remove(cityKey);
+                    delete(cityEntryKey(existing.city()));
+                }
+            }
+        }
+
+        void putCategory(Long categoryId, String name) {
+            removeCategory(categoryId);
+
+            categories.put(categoryId, name);
+            upsert(new Suggestion(SuggestionType.CATEGORY, categoryId, name,
+                    categoryEventCounts.getOrDefault(categoryId, 0L)));
+        }
+
+        void removeCategory(Long categoryId) {
+            if (categories.remove(categoryId) != null) {
+                delete(SuggestionType.CATEGORY + ":" + categoryId);
+            }
+        }
+
+        private void adjustCounts(CatalogDocument document, long delta) {
+            long venueCount = venueEventCounts.merge(document.venueId(), delta, Long::sum);
+            long categoryCount = categoryEventCounts.merge(document.categoryId(), delta, Long::sum);
+            refreshPopularity(SuggestionType.VENUE + ":" + document.venueId(), venueCount);
+            refreshPopularity(SuggestionType.CATEGORY + ":" + document.categoryId(), categoryCount);
+
+            if (document.city() != null && !document.city().isBlank()) {
+                long cityCount = cityEventCounts.merge(TextAnalyzer.normalize(document.city()), delta, Long::sum);
+                refreshPopularity(cityEntryKey(document.city()), cityCount);
+            }
+        }
+
+        private void refreshPopularity(String suggestionKey, long popularity) {
+            Suggestion existing = entries.get(suggestionKey);
+            if (existing != null && existing.popularity() != popularity) {
+                upsert(existing.withPopularity(popularity));
+            }
+        }
+
+        private void upsert(Suggestion suggestion) {
+            if (suggestion.text() == null || suggestion.text().isBlank()) {
+                return;
+            }
+
+            Suggestion previous = entries.put(suggestion.key(), suggestion);
+            if (previous != null && !previous.text().equals(suggestion.text())) {
+                keysFor(previous.text()).forEach(key -> trie.remove(key, previous.key()));
+            }
+            keysFor(suggestion.text()).forEach(key -> trie.insert(key, suggestion));
+        }
+
+        private void delete(String suggestionKey) {
+            Suggestion previous = entries.remove(suggestionKey);
+            if (previous != null) {
+                keysFor(previous.text()).forEach(key -> trie.remove(key, suggestionKey));
+            }
+        }
+
+        private static String cityEntryKey(String city) {
+            return new Suggestion(SuggestionType.CITY, null, city, 0).key();
+        }
+    }
+}
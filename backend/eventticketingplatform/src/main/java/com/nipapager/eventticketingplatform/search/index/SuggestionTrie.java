@@ -0,0 +1,212 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Radix (compressed) trie of normalized keys to suggestions
+ * Every node knows the highest popularity below it, so top-k for a prefix is a best-first walk
+ * that stops after k entries instead of visiting the whole subtree
+ * Not thread-safe; SuggestionIndex guards it with its lock
+ */
+class SuggestionTrie {
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingLong(Candidate::priority).reversed()
+            .thenComparing(candidate -> candidate.suggestion() == null)
+            .thenComparing(candidate -> candidate.suggestion() != null ? candidate.suggestion().text() : "");
+
+    private final Node root = new Node("");
+
+    /**
+     * Store a suggestion under a key (replaces the entry with the same identity)
+     */
+    void insert(String key, Suggestion suggestion) {
+        Deque<Node> path = new ArrayDeque<>();
+        path.push(root);
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            char next = key.charAt(position);
+            Node child = node.children.get(next);
+
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.children.put(next, child);
+                node = child;
+                path.push(node);
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // Split the edge at the point where the keys diverge
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                middle.maxPopularity = child.maxPopularity;
+                node.children.put(next, middle);
+                child = middle;
+            }
+
+            node = child;
+            path.push(node);
+            position += common;
+        }
+
+        node.entries.put(suggestion.key(), suggestion);
+        recomputeUpwards(path);
+    }
+
+    /**
+     * Remove the entry with the suggestion's identity from a key (no-op if absent)
+     */
+    void remove(String key, String suggestionKey) {
+        Deque<Node> path = new ArrayDeque<>();
+        path.push(root);
+
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return;
+            }
+            node = child;
+            path.push(node);
+            position += child.label.length();
+        }
+
+        if (node.entries.remove(suggestionKey) == null) {
+            return;
+        }
+
+        compact(path);
+        recomputeUpwards(path);
+    }
+
+    /**
+     * Top entries under a prefix, most popular first, one per identity
+     */
+    List<Suggestion> top(String prefix, int limit) {
+        Node start = findPrefixNode(prefix);
+        if (start == null) {
+            return List.of();
+        }
+
+        Map<String, Suggestion> results = new LinkedHashMap<>();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        queue.add(new Candidate(start.maxPopularity, start, null));
+
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate candidate = queue.poll();
+
+            if (candidate.suggestion() != null) {
+                results.putIfAbsent(candidate.suggestion().key(), candidate.suggestion());
+                continue;
+            }
+
+            Node node = candidate.node();
+            for (Suggestion suggestion : node.entries.values()) {
+                queue.add(new Candidate(suggestion.popularity(), null, suggestion));
+            }
+            for (Node child : node.children.values()) {
+                queue.add(new Candidate(child.maxPopularity, child, null));
+            }
+        }
+
+        return new ArrayList<>(results.values());
+    }
+
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+
+            int remaining = prefix.length() - position;
+            if (remaining <= child.label.length()) {
+                // Prefix ends inside (or at the end of) this edge
+                return child.label.startsWith(prefix.substring(position)) ? child : null;
+            }
+            if (!prefix.startsWith(child.label, position)) {
+                return null;
+            }
+            node = child;
+            position += child.label.length();
+        }
+        return node;
+    }
+
+    /**
+     * Drop the empty leaf at the end of the path and merge single-child nodes back into one edge
+     */
+    private void compact(Deque<Node> path) {
+        List<Node> nodes = new ArrayList<>(path);  // Deepest first
+        for (int i = 0; i < nodes.size() - 1; i++) {
+            Node node = nodes.get(i);
+            Node parent = nodes.get(i + 1);
+            if (!node.entries.isEmpty()) {
+                return;
+            }
+
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.children.size() == 1) {
+                Node onlyChild = node.children.values().iterator().next();
+                onlyChild.label = node.label + onlyChild.label;
+                parent.children.put(onlyChild.label.charAt(0), onlyChild);
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void recomputeUpwards(Deque<Node> path) {
+        for (Node node : path) {
+            long max = 0;
+            for (Suggestion suggestion : node.entries.values()) {
+                max = Math.max(max, suggestion.popularity());
+            }
+            for (Node child : node.children.values()) {
+                max = Math.max(max, child.maxPopularity);
+            }
+            node.maxPopularity = max;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        private String label;  // Edge label from the parent
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Map<String, Suggestion> entries = new HashMap<>();
+        private long maxPopularity;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Candidate(long priority, Node node, Suggestion suggestion) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns event text and search queries into index terms
+ * Lowercases, strips accents, drops stop words and applies a light English suffix stemmer
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it",
+            "of", "on", "or", "the", "to", "with", "all", "our", "your", "this", "that", "will"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Split text into stemmed terms (duplicates kept, order preserved)
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        for (String token : NON_WORD.split(normalize(text))) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    /**
+     * Lowercase and remove accents so Greek and Latin text match without tonos/diacritics
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Light stemmer for English plurals and -ing/-ed/-ly forms
+     * Non-latin tokens and short tokens are left as they are
+     */
+    static String stem(String token) {
+        if (token.length() <= 3 || !isLatin(token)) {
+            return token;
+        }
+
+        String word = token;
+
+        // Plurals
+        if (word.endsWith("ies") && word.length() > 4) {
+            word = word.substring(0, word.length() - 3) + "y";
+        } else if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes")) {
+            word = word.substring(0, word.length() - 2);
+        } else if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            word = word.substring(0, word.length() - 1);
+        }
+
+        // Verb and adverb endings, only when a vowel is left in the stem
+        if (word.endsWith("ing") && hasVowel(word, word.length() - 3) && word.length() > 5) {
+            word = undouble(word.substring(0, word.length() - 3));
+        } else if (word.endsWith("ed") && hasVowel(word, word.length() - 2) && word.length() > 4) {
+            word = undouble(word.substring(0, word.length() - 2));
+        } else if (word.endsWith("ly") && word.length() > 4) {
+            word = word.substring(0, word.length() - 2);
+        }
+
+        return word;
+    }
+
+    private static boolean isLatin(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasVowel(String word, int end) {
+        for (int i = 0; i < end; i++) {
+            if ("aeiouy".indexOf(word.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "runn" -> "run", but keep "ll", "ss" and "zz" ("fall", "pass", "jazz")
+    private static String undouble(String word) {
+        int n = word.length();
+        if (n >= 3 && word.charAt(n - 1) == word.charAt(n - 2) && "lsz".indexOf(word.charAt(n - 1)) < 0) {
+            return word.substring(0, n - 1);
+        }
+        return word;
+    }
+}
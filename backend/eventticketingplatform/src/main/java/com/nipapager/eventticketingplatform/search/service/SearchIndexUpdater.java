@@ -0,0 +1,150 @@
+package com.nipapager.eventticketingplatform.search.service;
+
+import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.category.repository.CategoryRepository;
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
+import com.nipapager.eventticketingplatform.event.cache.CatalogChangedEvent;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.event.repository.TicketTypeRepository;
+import com.nipapager.eventticketingplatform.search.index.CatalogDocument;
+import com.nipapager.eventticketingplatform.search.index.EventSearchIndex;
+import com.nipapager.eventticketingplatform.search.index.SuggestionIndex;
+import com.nipapager.eventticketingplatform.venue.entity.Venue;
+import com.nipapager.eventticketingplatform.venue.repository.VenueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the event search and suggestion indexes in step with the database
+ * Loads every approved event at startup, then re-reads single events after each committed catalog change
+ * (or the events of a venue or category after it is renamed)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexUpdater {
+
+    private final EventRepository eventRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+    private final VenueRepository venueRepository;
+    private final CategoryRepository categoryRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+
+    @Value("${search.index.rebuild-batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent change) {
+        // Ticket sales do not change searchable text, only suggestion ranking
+        if (!change.affectsListing()) {
+            if (change.eventId() != null) {
+                suggestionIndex.updateEventPopularity(change.eventId(),
+                        ticketTypeRepository.sumSoldByEventId(change.eventId()));
+            }
+            return;
+        }
+
+        if (change.eventId() == null) {
+            rebuild();
+            return;
+        }
+
+        reindex(change.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSuggestionSourceChanged(SuggestionSourceChangedEvent change) {
+        if (change.type() == SuggestionType.VENUE) {
+            venueRepository.findById(change.id()).ifPresentOrElse(
+                    venue -> suggestionIndex.putVenue(venue.getId(), venue.getName(), venue.getCity()),
+                    () -> suggestionIndex.removeVenue(change.id()));
+        } else if (change.type() == SuggestionType.CATEGORY) {
+            categoryRepository.findById(change.id()).ifPresentOrElse(
+                    category -> suggestionIndex.putCategory(category.getId(), category.getName()),
+                    () -> suggestionIndex.removeCategory(change.id()));
+        }
+
+        // Only this venue's or category's events carry the old name
+        if (change.eventsChanged()) {
+            List<Long> eventIds = change.type() == SuggestionType.VENUE
+                    ? eventRepository.findIdsByVenueId(change.id())
+                    : eventRepository.findIdsByCategoryId(change.id());
+            eventIds.forEach(this::reindex);
+            log.info("Reindexed {} events of {} {}", eventIds.size(), change.type(), change.id());
+        }
+    }
+
+    /**
+     * Index the event if it is approved, otherwise drop it
+     */
+    public void reindex(Long eventId) {
+        Event event = eventRepository.findById(eventId).orElse(null);
+
+        if (event != null && event.getStatus() == EventStatus.APPROVED) {
+            CatalogDocument document = CatalogDocument.from(event);
+            eventSearchIndex.put(document);
+            suggestionIndex.putEvent(document, ticketTypeRepository.sumSoldByEventId(eventId));
+        } else {
+            eventSearchIndex.remove(eventId);
+            suggestionIndex.removeEvent(eventId);
+        }
+    }
+
+    /**
+     * Reload all approved events in ID batches and swap both indexes
+     */
+    public void rebuild() {
+        List<CatalogDocument> documents = new ArrayList<>();
+        long lastId = 0;
+
+        while (true) {
+            List<Event> batch = eventRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    EventStatus.APPROVED, lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            batch.forEach(event -> documents.add(CatalogDocument.from(event)));
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        eventSearchIndex.replaceAll(documents);
+
+        // Suggestions also cover venues and categories without events
+        Map<Long, Long> soldByEvent = new HashMap<>();
+        for (Object[] row : ticketTypeRepository.sumSoldByEventStatus(EventStatus.APPROVED)) {
+            soldByEvent.put((Long) row[0], row[1] != null ? ((Number) row[1]).longValue() : 0L);
+        }
+
+        Map<Long, SuggestionIndex.VenueName> venues = new HashMap<>();
+        for (Venue venue : venueRepository.findAll()) {
+            venues.put(venue.getId(), new SuggestionIndex.VenueName(venue.getName(), venue.getCity()));
+        }
+
+        Map<Long, String> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categories.put(category.getId(), category.getName());
+        }
+
+        suggestionIndex.replaceAll(documents, soldByEvent, venues, categories);
+    }
+}
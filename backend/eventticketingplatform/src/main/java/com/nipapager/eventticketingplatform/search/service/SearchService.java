@@ -0,0 +1,19 @@
+package com.nipapager.eventticketingplatform.search.service;
+
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.search.index.Suggestion;
+
+import java.util.List;
+
+/**
+ * Service interface for search box features
+ */
+public interface SearchService {
+
+    /**
+     * Typeahead over event titles, venues, cities and categories
+     * @param query What the user has typed so far
+     * @param limit Max suggestions (defaults when null)
+     */
+    Response<List<Suggestion>> suggest(String query, Integer limit);
+}
@@ -0,0 +1,55 @@
+package com.nipapager.eventticketingplatform.search.service;
+
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.search.index.Suggestion;
+import com.nipapager.eventticketingplatform.search.index.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service implementation for search box features
+ * Answers from the in-process suggestion index, never from the database
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    private final SuggestionIndex suggestionIndex;
+
+    @Value("${search.suggest.default-limit:8}")
+    private int defaultLimit;
+
+    @Value("${search.suggest.max-limit:20}")
+    private int maxLimit;
+
+    @Value("${search.suggest.max-query-length:100}")
+    private int maxQueryLength;
+
+    @Override
+    public Response<List<Suggestion>> suggest(String query, Integer limit) {
+        // Validate limit
+        if (limit != null && (limit < 1 || limit > maxLimit)) {
+            throw new BadRequestException("Limit must be between 1 and " + maxLimit);
+        }
+
+        // Validate query
+        if (query != null && query.length() > maxQueryLength) {
+            throw new BadRequestException("Query must be at most " + maxQueryLength + " characters");
+        }
+
+        List<Suggestion> suggestions = suggestionIndex.suggest(query, limit != null ? limit : defaultLimit);
+
+        return Response.<List<Suggestion>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Suggestions retrieved successfully")
+                .data(suggestions)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.nipapager.eventticketingplatform.search.service;
+
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
+
+/**
+ * Published when a venue or category is created, updated or deleted
+ * @param type VENUE or CATEGORY
+ * @param id Venue or category ID
+ * @param eventsChanged True if the venue's or category's events embed changed fields and must be reindexed
+ */
+public record SuggestionSourceChangedEvent(SuggestionType type, Long id, boolean eventsChanged) {
+}
@@ -0,0 +1,31 @@
+package com.nipapager.eventticketingplatform.trending.controller;
+
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.trending.dto.TrendingEventDTO;
+import com.nipapager.eventticketingplatform.trending.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the trending events rail
+ */
+@RestController
+@RequestMapping("/api/events/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    @GetMapping
+    public ResponseEntity<Response<List<TrendingEventDTO>>> getTrendingEvents(
+            @RequestParam(required = false) Integer limit) {
+        Response<List<TrendingEventDTO>> response = trendingService.getTrendingEvents(limit);
+        return ResponseEntity.ok(response);
+    }
+}
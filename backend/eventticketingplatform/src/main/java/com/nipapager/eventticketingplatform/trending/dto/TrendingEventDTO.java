@@ -0,0 +1,29 @@
+package com.nipapager.eventticketingplatform.trending.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One entry of the trending events rail
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingEventDTO {
+    private Integer rank;
+    private Long eventId;
+    private String title;
+    private LocalDate eventDate;
+    private String imageUrl;
+    private String venueName;
+    private String venueCity;
+    private BigDecimal minPrice;
+    private Boolean soldOut;
+    private Long recentTicketsSold;  // Within the trending window
+}
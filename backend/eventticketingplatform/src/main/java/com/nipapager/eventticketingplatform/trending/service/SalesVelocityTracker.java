@@ -0,0 +1,111 @@
+package com.nipapager.eventticketingplatform.trending.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tickets sold per event over a sliding time window, kept in memory
+ * Each event has a ring buffer of fixed-width time buckets; a bucket is reused once its slot comes round again,
+ * so recording and reading are O(buckets) with no timers or per-sale allocation
+ */
+@Component
+public class SalesVelocityTracker {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    // Event ID -> ring buffer
+    private final Map<Long, SalesWindow> windows = new ConcurrentHashMap<>();
+
+    public SalesVelocityTracker(@Value("${trending.bucket-seconds:300}") long bucketSeconds,
+                                @Value("${trending.window-buckets:12}") int bucketCount) {
+        this.bucketMillis = bucketSeconds * 1000;
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * Count tickets sold at the given time (ignored if older than the window)
+     */
+    public void record(Long eventId, int quantity, long timestampMillis) {
+        // Added inside compute so snapshot() cannot drop the window between lookup and add
+        windows.compute(eventId, (id, window) -> {
+            SalesWindow target = window != null ? window : new SalesWindow(bucketCount);
+            target.add(timestampMillis / bucketMillis, quantity, bucketCount);
+            return target;
+        });
+    }
+
+    /**
+     * Tickets sold per event within the window ending now; events with no recent sales are dropped
+     */
+    public Map<Long, Long> snapshot(long nowMillis) {
+        long currentBucket = nowMillis / bucketMillis;
+        Map<Long, Long> totals = new HashMap<>();
+
+        for (Map.Entry<Long, SalesWindow> entry : windows.entrySet()) {
+            long total = entry.getValue().sum(currentBucket, bucketCount);
+            if (total > 0) {
+                totals.put(entry.getKey(), total);
+            } else {
+                // Re-checked under the map's lock for the key, so a sale recorded meanwhile keeps its window
+                windows.computeIfPresent(entry.getKey(),
+                        (id, window) -> window.isIdle(currentBucket, bucketCount) ? null : window);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Length of the window in milliseconds
+     */
+    public long windowMillis() {
+        return bucketMillis * bucketCount;
+    }
+
+    private static final class SalesWindow {
+        private final long[] counts;
+        private final long[] bucketIds;  // Which absolute bucket each slot currently holds
+        private long lastBucket = Long.MIN_VALUE;
+
+        private SalesWindow(int bucketCount) {
+            this.counts = new long[bucketCount];
+            this.bucketIds = new long[bucketCount];
+            Arrays.fill(bucketIds, -1);
+        }
+
+        synchronized void add(long bucket, int quantity, int bucketCount) {
+            // Too old to share the ring with the newest bucket
+            if (lastBucket != Long.MIN_VALUE && bucket <= lastBucket - bucketCount) {
+                return;
+            }
+
+            int slot = (int) Math.floorMod(bucket, (long) bucketCount);
+            if (bucketIds[slot] != bucket) {
+                // Slot still holds a bucket that has left the window
+                bucketIds[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot] += quantity;
+            lastBucket = Math.max(lastBucket, bucket);
+        }
+
+        synchronized long sum(long currentBucket, int bucketCount) {
+            long total = 0;
+            for (int slot = 0; slot < counts.length; slot++) {
+                if (bucketIds[slot] > currentBucket - bucketCount && bucketIds[slot] <= currentBucket) {
+                    total += counts[slot];
+                }
+            }
+            return total;
+        }
+
+        synchronized boolean isIdle(long currentBucket, int bucketCount) {
+            return lastBucket <= currentBucket - bucketCount;
+        }
+    }
+}
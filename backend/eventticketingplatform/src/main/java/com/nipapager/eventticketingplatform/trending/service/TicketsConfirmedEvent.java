@@ -0,0 +1,11 @@
+package com.nipapager.eventticketingplatform.trending.service;
+
+/**
+ * Published when an order's payment is confirmed
+ * Handled after the surrounding transaction commits, so rolled back confirmations are never counted
+ * @param eventId Event the tickets are for
+ * @param userId Buyer
+ * @param quantity Tickets in the order
+ */
+public record TicketsConfirmedEvent(Long eventId, Long userId, int quantity) {
+}
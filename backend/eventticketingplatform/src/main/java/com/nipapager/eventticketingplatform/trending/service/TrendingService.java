@@ -0,0 +1,24 @@
+package com.nipapager.eventticketingplatform.trending.service;
+
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.trending.dto.TrendingEventDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for the trending events rail
+ */
+public interface TrendingService {
+
+    /**
+     * Upcoming approved events with the most tickets sold recently
+     * Served from the last computed ranking without touching the database
+     * @param limit Max events (defaults to the full ranking)
+     */
+    Response<List<TrendingEventDTO>> getTrendingEvents(Integer limit);
+
+    /**
+     * Rebuild the ranking from the current sales window
+     */
+    void recomputeRanking();
+}
@@ -0,0 +1,143 @@
+package com.nipapager.eventticketingplatform.trending.service;
+
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.PaymentStatus;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import com.nipapager.eventticketingplatform.payment.repository.PaymentRepository;
+import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.trending.dto.TrendingEventDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service implementation for the trending events rail
+ * Confirmed sales feed an in-memory sliding window; a scheduled job ranks it and publishes an immutable snapshot
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingServiceImpl implements TrendingService {
+
+    private final SalesVelocityTracker salesVelocityTracker;
+    private final EventRepository eventRepository;
+    private final PaymentRepository paymentRepository;
+
+    @Value("${trending.top-k:20}")
+    private int topK;
+
+    // Replaced as a whole by recomputeRanking, never modified
+    private volatile TrendingSnapshot snapshot = new TrendingSnapshot(List.of(), null);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // Replay payments still inside the window so a restart does not empty the rail
+        // Refunded payments are no longer COMPLETED, so refunds are not replayed as sales
+        LocalDateTime since = LocalDateTime.now().minusNanos(salesVelocityTracker.windowMillis() * 1_000_000);
+        List<Object[]> rows = paymentRepository.sumTicketsByPaymentDateSince(PaymentStatus.COMPLETED, since);
+        for (Object[] row : rows) {
+            long timestamp = ((LocalDateTime) row[1]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            salesVelocityTracker.record((Long) row[0], ((Number) row[2]).intValue(), timestamp);
+        }
+        log.info("Trending window seeded from {} recent payments", rows.size());
+
+        recomputeRanking();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsConfirmed(TicketsConfirmedEvent confirmed) {
+        salesVelocityTracker.record(confirmed.eventId(), confirmed.quantity(), System.currentTimeMillis());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${trending.recompute-interval-ms:60000}",
+            initialDelayString = "${trending.recompute-interval-ms:60000}")
+    public void recomputeRanking() {
+        Map<Long, Long> sales = salesVelocityTracker.snapshot(System.currentTimeMillis());
+
+        // Most sold first; ties go to the lower ID so the order is stable between runs
+        List<Map.Entry<Long, Long>> ranked = new ArrayList<>(sales.entrySet());
+        ranked.sort(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        // Load more than K since some events may no longer be listed
+        List<Long> candidateIds = ranked.stream().limit(topK * 2L).map(Map.Entry::getKey).toList();
+        Map<Long, Event> eventsById = new HashMap<>();
+        if (!candidateIds.isEmpty()) {
+            eventRepository.findByIdIn(candidateIds).forEach(event -> eventsById.put(event.getId(), event));
+        }
+
+        LocalDate today = LocalDate.now();
+        List<TrendingEventDTO> events = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : ranked) {
+            if (events.size() == topK) {
+                break;
+            }
+            Event event = eventsById.get(entry.getKey());
+            if (event == null || event.getStatus() != EventStatus.APPROVED || event.getEventDate().isBefore(today)) {
+                continue;
+            }
+
+            events.add(TrendingEventDTO.builder()
+                    .rank(events.size() + 1)
+                    .eventId(event.getId())
+                    .title(event.getTitle())
+                    .eventDate(event.getEventDate())
+                    .imageUrl(event.getImageUrl())
+                    .venueName(event.getVenue().getName())
+                    .venueCity(event.getVenue().getCity())
+                    .minPrice(event.getMinPrice())
+                    .soldOut(event.isSoldOut())
+                    .recentTicketsSold(entry.getValue())
+                    .build());
+        }
+
+        snapshot = new TrendingSnapshot(List.copyOf(events), LocalDateTime.now());
+        log.debug("Trending ranking recomputed: {} events with recent sales, {} listed", sales.size(), events.size());
+    }
+
+    @Override
+    public Response<List<TrendingEventDTO>> getTrendingEvents(Integer limit) {
+        // Validate limit
+        if (limit != null && (limit < 1 || limit > topK)) {
+            throw new BadRequestException("Limit must be between 1 and " + topK);
+        }
+
+        TrendingSnapshot current = snapshot;
+        List<TrendingEventDTO> events = limit != null && limit < current.events().size()
+                ? current.events().subList(0, limit)
+                : current.events();
+
+        Map<String, Serializable> meta = new HashMap<>();
+        meta.put("windowMinutes", salesVelocityTracker.windowMillis() / 60_000);
+        if (current.computedAt() != null) {
+            meta.put("computedAt", current.computedAt());
+        }
+
+        return Response.<List<TrendingEventDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Trending events retrieved successfully")
+                .data(events)
+                .meta(meta)
+                .build();
+    }
+
+    private record TrendingSnapshot(List<TrendingEventDTO> events, LocalDateTime computedAt) {
+    }
+}
@@ -1,12 +1,16 @@
 package com.nipapager.eventticketingplatform.venue.controller;
 
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 import com.nipapager.eventticketingplatform.venue.dto.VenueDTO;
+import com.nipapager.eventticketingplatform.venue.dto.VenueSummaryDTO;
 import com.nipapager.eventticketingplatform.venue.service.VenueService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,9 +32,27 @@ public class VenueController {
     }
 
     @GetMapping
-    public ResponseEntity<Response<List<VenueDTO>>> getAllVenues() {
+    public ResponseEntity<Response<List<VenueDTO>>> getAllVenues(WebRequest webRequest) {
+        CacheValidator validator = venueService.getVenuesValidator();
+        // 304 Not Modified - skip loading, mapping and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
         Response<List<VenueDTO>> response = venueService.getAllVenues();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<Response<List<VenueSummaryDTO>>> getVenueSummaries(WebRequest webRequest) {
+        CacheValidator validator = venueService.getVenuesValidator();
+        // 304 Not Modified - skip loading and serialization
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null;
+        }
+
+        Response<List<VenueSummaryDTO>> response = venueService.getVenueSummaries();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @GetMapping("/{id}")
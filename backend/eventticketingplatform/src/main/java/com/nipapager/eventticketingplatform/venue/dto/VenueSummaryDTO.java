@@ -0,0 +1,18 @@
+package com.nipapager.eventticketingplatform.venue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * List view of a venue (view=summary)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueSummaryDTO {
+    private Long id;
+    private String name;
+    private String city;
+    private String imageUrl;
+}
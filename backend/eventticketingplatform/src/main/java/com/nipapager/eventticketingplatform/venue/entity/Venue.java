@@ -47,4 +47,9 @@ public class Venue {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.nipapager.eventticketingplatform.venue.repository;
 
 import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.response.ResourceVersion;
+import com.nipapager.eventticketingplatform.venue.dto.VenueSummaryDTO;
 import com.nipapager.eventticketingplatform.venue.entity.Venue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +22,15 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
     List<Venue> findByCity(String city);
 
     Boolean existsByAddress(String address);
-}
\ No newline at end of file
+
+    // Version of the venues table for HTTP validators
+    @Query(value = "SELECT COUNT(*) AS rowCount, MAX(COALESCE(v.updated_at, v.created_at)) AS modifiedAt, 0 AS checksum " +
+            "FROM venues v",
+            nativeQuery = true)
+    ResourceVersion findVersion();
+
+    // List view of all venues, selecting only its columns
+    @Query("SELECT new com.nipapager.eventticketingplatform.venue.dto.VenueSummaryDTO(v.id, v.name, v.city, v.imageUrl) " +
+            "FROM Venue v ORDER BY v.name, v.id")
+    List<VenueSummaryDTO> findAllSummaries();
+}
@@ -1,7 +1,9 @@
 package com.nipapager.eventticketingplatform.venue.service;
 
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
 import com.nipapager.eventticketingplatform.venue.dto.VenueDTO;
+import com.nipapager.eventticketingplatform.venue.dto.VenueSummaryDTO;
 
 import java.util.List;
 
@@ -14,6 +16,16 @@ public interface VenueService {
 
     Response<List<VenueDTO>> getAllVenues();
 
+    /**
+     * All venues in the list view (id, name, city, image)
+     */
+    Response<List<VenueSummaryDTO>> getVenueSummaries();
+
+    /**
+     * Get ETag/Last-Modified of the venue list without loading venues
+     */
+    CacheValidator getVenuesValidator();
+
     Response<VenueDTO> getVenueById(Long id);
 
     Response<List<VenueDTO>> getVenuesByCity(String city);
@@ -1,14 +1,19 @@
 package com.nipapager.eventticketingplatform.venue.service;
 
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
 import com.nipapager.eventticketingplatform.exception.BadRequestException;
 import com.nipapager.eventticketingplatform.exception.NotFoundException;
+import com.nipapager.eventticketingplatform.response.CacheValidator;
 import com.nipapager.eventticketingplatform.response.Response;
+import com.nipapager.eventticketingplatform.search.service.SuggestionSourceChangedEvent;
 import com.nipapager.eventticketingplatform.venue.dto.VenueDTO;
+import com.nipapager.eventticketingplatform.venue.dto.VenueSummaryDTO;
 import com.nipapager.eventticketingplatform.venue.entity.Venue;
 import com.nipapager.eventticketingplatform.venue.repository.VenueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +31,7 @@ public class VenueServiceImpl implements VenueService {
 
     private final VenueRepository venueRepository;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
     private final GeocodingService geocodingService; // NEW
 
     @Override
@@ -66,6 +72,9 @@ public class VenueServiceImpl implements VenueService {
         Venue savedVenue = venueRepository.save(venue);
         log.info("Venue created successfully with ID: {}", savedVenue.getId());
 
+        // Add to search suggestions
+        eventPublisher.publishEvent(new SuggestionSourceChangedEvent(SuggestionType.VENUE, savedVenue.getId(), false));
+
         // Map saved entity back to DTO
         VenueDTO savedVenueDTO = modelMapper.map(savedVenue, VenueDTO.class);
 
@@ -95,6 +104,25 @@ public class VenueServiceImpl implements VenueService {
                 .build();
     }
 
+    @Override
+    public Response<List<VenueSummaryDTO>> getVenueSummaries() {
+        log.info("Fetching venue summaries");
+
+        // Projection query - no entity loading or mapping
+        List<VenueSummaryDTO> summaries = venueRepository.findAllSummaries();
+
+        return Response.<List<VenueSummaryDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("Venues retrieved successfully")
+                .data(summaries)
+                .build();
+    }
+
+    @Override
+    public CacheValidator getVenuesValidator() {
+        return CacheValidator.of("venues", venueRepository.findVersion());
+    }
+
     @Override
     public Response<VenueDTO> getVenueById(Long id) {
         log.info("Fetching venue with id: {}", id);
@@ -207,6 +235,9 @@ public class VenueServiceImpl implements VenueService {
 
         // Save updated venue
         Venue savedVenue = venueRepository.save(venue);
+
+        // Events embed venue names
+        eventPublisher.publishEvent(new SuggestionSourceChangedEvent(SuggestionType.VENUE, savedVenue.getId(), true));
         log.info("Venue updated successfully: {}", savedVenue.getId());
 
         // Map to DTO
@@ -232,6 +263,9 @@ public class VenueServiceImpl implements VenueService {
         venueRepository.deleteById(id);
         log.info("Venue deleted successfully: {}", id);
 
+        // Drop from search suggestions
+        eventPublisher.publishEvent(new SuggestionSourceChangedEvent(SuggestionType.VENUE, id, false));
+
         return Response.<Void>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("Venue deleted successfully")
@@ -249,4 +249,23 @@ ALTER TABLE ticket_types AUTO_INCREMENT = 41;
 ALTER TABLE orders AUTO_INCREMENT = 21;
 ALTER TABLE payments AUTO_INCREMENT = 21;
 ALTER TABLE order_items AUTO_INCREMENT = 26;
-ALTER TABLE reviews AUTO_INCREMENT = 8
\ No newline at end of file
+ALTER TABLE reviews AUTO_INCREMENT = 8;
+
+-- Initialize event rating statistics from the seeded reviews
+UPDATE events e
+JOIN (
+    SELECT event_id, SUM(rating) AS rating_sum, COUNT(*) AS rating_count,
+           SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+           SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+    FROM reviews GROUP BY event_id
+) s ON s.event_id = e.id
+SET e.rating_sum = s.rating_sum, e.rating_count = s.rating_count,
+    e.rating_1_count = s.r1, e.rating_2_count = s.r2, e.rating_3_count = s.r3,
+    e.rating_4_count = s.r4, e.rating_5_count = s.r5,
+    e.rating_average = s.rating_sum / s.rating_count;
+
+-- Initialize catalog sort columns and availability of the seeded events
+UPDATE events e
+SET e.min_price = COALESCE((SELECT MIN(t.price) FROM ticket_types t WHERE t.event_id = e.id), 99999999.99),
+    e.tickets_remaining = (SELECT COALESCE(SUM(t.quantity_available), 0) FROM ticket_types t WHERE t.event_id = e.id);
+UPDATE events SET created_at = NOW() WHERE created_at IS NULL;
@@ -0,0 +1,94 @@
+package com.nipapager.eventticketingplatform.event.cache;
+
+import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Ticket sales only reject loads of the sold event; listing changes reject every overlapping load
+ */
+class EventCatalogCacheTest {
+
+    private EventCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EventCatalogCache(100, 100, 30);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+    }
+
+    @Test
+    void saleOfAnotherEventKeepsLoadsCacheable() {
+        long loadedAt = cache.generation();
+
+        cache.invalidate(CatalogChangedEvent.contentChanged(9L));
+        cache.putEvent(event(1L), loadedAt);
+        cache.putPage("page", page(1L, 2L), loadedAt);
+
+        assertNotNull(cache.getEvent(1L));
+        assertNotNull(cache.getPage("page"));
+    }
+
+    @Test
+    void saleDuringTheLoadRejectsLoadsContainingTheEvent() {
+        long loadedAt = cache.generation();
+
+        cache.invalidate(CatalogChangedEvent.contentChanged(2L));
+        cache.putEvent(event(2L), loadedAt);
+        cache.putPage("page", page(1L, 2L), loadedAt);
+
+        assertNull(cache.getEvent(2L));
+        assertNull(cache.getPage("page"));
+
+        // Loads started after the sale see its counts
+        long reloadedAt = cache.generation();
+        cache.putPage("page", page(1L, 2L), reloadedAt);
+        assertNotNull(cache.getPage("page"));
+    }
+
+    @Test
+    void listingChangeDuringTheLoadRejectsEveryLoad() {
+        long loadedAt = cache.generation();
+
+        cache.invalidate(CatalogChangedEvent.listingChanged(9L));
+        cache.putEvent(event(1L), loadedAt);
+        cache.putPage("page", page(1L, 2L), loadedAt);
+
+        assertNull(cache.getEvent(1L));
+        assertNull(cache.getPage("page"));
+    }
+
+    @Test
+    void salesDoNotMoveTheCatalogVersionRightAway() {
+        String before = cache.catalogVersion();
+
+        cache.invalidate(CatalogChangedEvent.contentChanged(1L));
+        cache.invalidate(CatalogChangedEvent.contentChanged(2L));
+        String afterSales = cache.catalogVersion();
+        assertEquals(afterSales, cache.catalogVersion());
+
+        cache.invalidate(CatalogChangedEvent.listingChanged(1L));
+        assertNotEquals(before, cache.catalogVersion());
+        assertNotEquals(afterSales, cache.catalogVersion());
+    }
+
+    private static EventDTO event(Long id) {
+        EventDTO event = new EventDTO();
+        event.setId(id);
+        return event;
+    }
+
+    private static EventCatalogCache.CachedPage page(Long... ids) {
+        return new EventCatalogCache.CachedPage(
+                Arrays.stream(ids).map(EventCatalogCacheTest::event).toList(), Map.of());
+    }
+}
@@ -0,0 +1,121 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.enums.EventSortOption;
+import com.nipapager.eventticketingplatform.event.dto.EventCatalogQuery;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.repository.EventSummaryRow;
+import com.nipapager.eventticketingplatform.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Keyset cursors must decode to exactly the sort value and ID they were built from
+ */
+class CatalogCursorTest {
+
+    @Test
+    void dateCursorRoundTrips() {
+        Event last = Event.builder().id(17L).eventDate(LocalDate.of(2026, 11, 3)).build();
+
+        EventCatalogQuery query = apply(EventSortOption.DATE, CatalogCursor.encode(EventSortOption.DATE, last));
+
+        assertEquals(LocalDate.of(2026, 11, 3), query.getAfterValue());
+        assertEquals(17L, query.getAfterId());
+    }
+
+    @Test
+    void priceCursorKeepsScale() {
+        Event last = Event.builder().id(5L).minPrice(new BigDecimal("12.50")).build();
+
+        EventCatalogQuery query = apply(EventSortOption.PRICE, CatalogCursor.encode(EventSortOption.PRICE, last));
+
+        assertEquals(new BigDecimal("12.50"), query.getAfterValue());
+        assertEquals(5L, query.getAfterId());
+    }
+
+    @Test
+    void eventWithoutTicketsResumesAfterTheSentinel() {
+        Event last = Event.builder().id(9L).minPrice(Event.NO_PRICE).build();
+        assertNull(last.getMinPrice());
+
+        EventCatalogQuery query = apply(EventSortOption.PRICE, CatalogCursor.encode(EventSortOption.PRICE, last));
+
+        assertEquals(0, Event.NO_PRICE.compareTo((BigDecimal) query.getAfterValue()));
+        assertEquals(9L, query.getAfterId());
+    }
+
+    @Test
+    void ratingCursorKeepsEveryDigit() {
+        double average = 13.0 / 3;
+        Event last = Event.builder().id(3L).ratingAverage(average).build();
+
+        EventCatalogQuery query = apply(EventSortOption.RATING, CatalogCursor.encode(EventSortOption.RATING, last));
+
+        assertEquals(average, query.getAfterValue());
+    }
+
+    @Test
+    void newestCursorKeepsFractionalSeconds() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 18, 30, 15, 123_456_000);
+        Event last = Event.builder().id(21L).createdAt(createdAt).build();
+
+        EventCatalogQuery query = apply(EventSortOption.NEWEST, CatalogCursor.encode(EventSortOption.NEWEST, last));
+
+        assertEquals(createdAt, query.getAfterValue());
+        assertEquals(21L, query.getAfterId());
+    }
+
+    @Test
+    void summaryRowCursorMatchesEventCursor() {
+        EventSummaryRow row = new EventSummaryRow(9L, "Jazz night", LocalDate.of(2026, 5, 2), null, null,
+                "Gazarte", "Athens", Event.NO_PRICE, 0, 0L, 0L, 0.0, LocalDateTime.of(2026, 1, 1, 0, 0));
+        Event event = Event.builder().id(9L).minPrice(Event.NO_PRICE).build();
+
+        assertNull(row.minPrice());
+        assertEquals(CatalogCursor.encode(EventSortOption.PRICE, event), CatalogCursor.encode(EventSortOption.PRICE, row));
+    }
+
+    @Test
+    void rankedCursorRoundTrips() {
+        String cursor = CatalogCursor.encode("RELEVANCE", 2.718281828459045, 42L);
+
+        assertArrayEquals(new String[]{"2.718281828459045", "42"}, CatalogCursor.decode(cursor, "RELEVANCE"));
+    }
+
+    @Test
+    void cursorOfAnotherSortIsRejected() {
+        Event last = Event.builder().id(1L).eventDate(LocalDate.of(2026, 1, 1)).build();
+        String cursor = CatalogCursor.encode(EventSortOption.DATE, last);
+
+        BadRequestException e = assertThrows(BadRequestException.class, () -> apply(EventSortOption.NEWEST, cursor));
+        assertEquals("Cursor does not match the requested sort", e.getMessage());
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThrows(BadRequestException.class, () -> CatalogCursor.decode("not base64!", "DATE"));
+        assertThrows(BadRequestException.class, () -> CatalogCursor.decode(encodeRaw("DATE|2026-01-01"), "DATE"));
+        assertThrows(BadRequestException.class, () -> apply(EventSortOption.DATE, encodeRaw("DATE|yesterday|1")));
+        assertThrows(BadRequestException.class, () -> apply(EventSortOption.PRICE, encodeRaw("PRICE|10.00|last")));
+    }
+
+    private static EventCatalogQuery apply(EventSortOption sort, String cursor) {
+        EventCatalogQuery.EventCatalogQueryBuilder builder = EventCatalogQuery.builder().sort(sort);
+        CatalogCursor.apply(builder, sort, cursor);
+        return builder.build();
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.nipapager.eventticketingplatform.event.service;
+
+import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.config.ModelMapperConfig;
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.event.cache.EventCatalogCache;
+import com.nipapager.eventticketingplatform.event.dto.EventDTO;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.entity.TicketType;
+import com.nipapager.eventticketingplatform.event.repository.EventRepository;
+import com.nipapager.eventticketingplatform.user.entity.User;
+import com.nipapager.eventticketingplatform.user.service.UserService;
+import com.nipapager.eventticketingplatform.venue.entity.Venue;
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * List responses must not touch the lazy ticket types; only single-event responses load them
+ * An uninitialized bag with no session throws on first access, exactly where Hibernate would run a select
+ */
+@ExtendWith(MockitoExtension.class)
+class EventListMappingTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EventCatalogCache eventCatalogCache;
+
+    @Spy
+    private ModelMapper modelMapper = new ModelMapperConfig().modelMapper();
+
+    @InjectMocks
+    private EventServiceImpl eventService;
+
+    @Test
+    void catalogPageLeavesTicketTypesUnloaded() {
+        PersistentBag<TicketType> ticketTypes = unloadedTicketTypes();
+        Event event = event(1L, ticketTypes);
+        when(eventRepository.findCatalogPage(any())).thenReturn(List.of(event));
+
+        List<EventDTO> page = eventService.getAllEvents(null, null, null).getData();
+
+        assertEquals(1, page.size());
+        assertNull(page.get(0).getTicketTypes());
+        assertEquals(new BigDecimal("25.00"), page.get(0).getMinPrice());
+        assertEquals(40, page.get(0).getTicketsRemaining());
+        assertFalse(ticketTypes.wasInitialized());
+    }
+
+    @Test
+    void myEventsLeaveTicketTypesUnloaded() {
+        User organizer = User.builder().id(7L).name("Organizer").build();
+        PersistentBag<TicketType> ticketTypes = unloadedTicketTypes();
+        when(userService.getCurrentLoggedInUser()).thenReturn(organizer);
+        when(eventRepository.findByOrganizerId(7L)).thenReturn(List.of(event(2L, ticketTypes)));
+
+        List<EventDTO> events = eventService.getMyEvents().getData();
+
+        assertNull(events.get(0).getTicketTypes());
+        assertFalse(ticketTypes.wasInitialized());
+    }
+
+    @Test
+    void singleEventIncludesTicketTypes() {
+        Event event = event(3L, null);
+        TicketType general = TicketType.builder().id(11L).event(event).name("General")
+                .price(new BigDecimal("25.00")).totalQuantity(50).quantityAvailable(40).build();
+        event.setTicketTypes(List.of(general));
+        when(eventRepository.findById(3L)).thenReturn(Optional.of(event));
+
+        EventDTO dto = eventService.getEventById(3L).getData();
+
+        assertEquals(1, dto.getTicketTypes().size());
+        assertEquals("General", dto.getTicketTypes().get(0).getName());
+    }
+
+    private static PersistentBag<TicketType> unloadedTicketTypes() {
+        return new PersistentBag<>((SharedSessionContractImplementor) null);
+    }
+
+    private static Event event(Long id, List<TicketType> ticketTypes) {
+        return Event.builder()
+                .id(id)
+                .title("Jazz night")
+                .eventDate(LocalDate.of(2026, 12, 1))
+                .status(EventStatus.APPROVED)
+                .category(Category.builder().id(1L).name("Music").build())
+                .venue(Venue.builder().id(1L).name("Gazarte").city("Athens").build())
+                .organizer(User.builder().id(7L).name("Organizer").build())
+                .minPrice(new BigDecimal("25.00"))
+                .ticketsRemaining(40)
+                .ticketTypes(ticketTypes)
+                .build();
+    }
+}
@@ -0,0 +1,234 @@
+package com.nipapager.eventticketingplatform.notification;
+
+import com.nipapager.eventticketingplatform.category.entity.Category;
+import com.nipapager.eventticketingplatform.enums.EventStatus;
+import com.nipapager.eventticketingplatform.enums.OrderStatus;
+import com.nipapager.eventticketingplatform.event.entity.Event;
+import com.nipapager.eventticketingplatform.event.entity.TicketType;
+import com.nipapager.eventticketingplatform.notification.dto.QueuedEmailDTO;
+import com.nipapager.eventticketingplatform.notification.service.NotificationDigestBuffer;
+import com.nipapager.eventticketingplatform.notification.service.NotificationFeedService;
+import com.nipapager.eventticketingplatform.notification.service.NotificationServiceImpl;
+import com.nipapager.eventticketingplatform.order.entity.Order;
+import com.nipapager.eventticketingplatform.order.entity.OrderItem;
+import com.nipapager.eventticketingplatform.qrcode.entity.TicketArtifact;
+import com.nipapager.eventticketingplatform.qrcode.service.QRCodeServiceImpl;
+import com.nipapager.eventticketingplatform.user.entity.User;
+import com.nipapager.eventticketingplatform.venue.entity.Venue;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mail throughput benchmark for NotificationServiceImpl against the embedded SmtpSink
+ * Measures messages/sec and p50/p99 send latency per notification type; QR ticket emails are a separate scenario
+ * Excluded from the default build - run with: mvn test -Pbenchmark
+ * Tuning: -Dbenchmark.iterations, -Dbenchmark.warmup, -Dbenchmark.tickets, -Dbenchmark.label
+ * Results are written as CSV to target/benchmarks so runs can be compared across releases
+ */
+@Tag("benchmark")
+@Slf4j
+class NotificationMailBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 50);
+    private static final int TICKETS_PER_ORDER = Integer.getInteger("benchmark.tickets", 2);
+    private static final String LABEL = System.getProperty("benchmark.label", "local");
+    private static final Path OUTPUT_DIR = Path.of(System.getProperty("benchmark.output.dir", "target/benchmarks"));
+
+    private static SmtpSink smtpSink;
+    private static NotificationServiceImpl notificationService;
+
+    @BeforeAll
+    static void startSink() throws IOException {
+        smtpSink = SmtpSink.start();
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpSink.getPort());
+
+        notificationService = new NotificationServiceImpl(mailSender,
+                Mockito.mock(NotificationFeedService.class), new NotificationDigestBuffer());
+        ReflectionTestUtils.setField(notificationService, "fromEmail", "noreply@eventspot.test");
+        ReflectionTestUtils.setField(notificationService, "appName", "EventSpot");
+        ReflectionTestUtils.setField(notificationService, "appUrl", "http://localhost:5173");
+        ReflectionTestUtils.setField(notificationService, "supportEmail", "support@eventspot.test");
+        ReflectionTestUtils.setField(notificationService, "digestEnabled", false);  // Measure the per-message path
+    }
+
+    @AfterAll
+    static void stopSink() throws IOException {
+        smtpSink.close();
+    }
+
+    @Test
+    void measureMailThroughput() throws IOException {
+        User customer = user(1L, "Benchmark Customer", "customer@eventspot.test");
+        User organizer = user(2L, "Benchmark Organizer", "organizer@eventspot.test");
+        Event event = event(organizer);
+        Order order = order(customer, event, TICKETS_PER_ORDER);
+        List<TicketArtifact> ticketArtifacts = ticketArtifacts(order);
+        QueuedEmailDTO queuedEmail = new QueuedEmailDTO(1L, customer.getId(), event.getId(),
+                customer.getEmail(), customer.getName(), "Event Update - " + event.getTitle(),
+                "\"" + event.getTitle() + "\" has been rescheduled.", 0);
+
+        Map<String, Runnable> scenarios = new LinkedHashMap<>();
+        scenarios.put("welcome", () -> notificationService.sendWelcomeEmail(customer));
+        scenarios.put("organizer_upgrade", () -> notificationService.sendOrganizerUpgradeEmail(organizer));
+        scenarios.put("refund", () -> notificationService.sendRefundEmail(order));
+        scenarios.put("event_created", () -> notificationService.sendEventCreatedEmail(event));
+        scenarios.put("event_approved", () -> notificationService.sendEventApprovedEmail(event));
+        scenarios.put("event_change_queued", () -> notificationService.sendQueuedEmail(queuedEmail));
+        scenarios.put("ticket_purchase_qr_x" + TICKETS_PER_ORDER,
+                () -> notificationService.sendTicketPurchaseEmail(order, ticketArtifacts));
+
+        List<String> rows = new ArrayList<>();
+        rows.add("label,scenario,messages,total_ms,messages_per_sec,p50_ms,p99_ms,max_ms,avg_message_bytes");
+
+        for (Map.Entry<String, Runnable> scenario : scenarios.entrySet()) {
+            rows.add(run(scenario.getKey(), scenario.getValue()));
+        }
+
+        writeResults(rows);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private String run(String name, Runnable send) {
+        for (int i = 0; i < WARMUP; i++) {
+            send.run();
+        }
+
+        long messagesBefore = smtpSink.getMessageCount();
+        long bytesBefore = smtpSink.getByteCount();
+        long[] latencies = new long[ITERATIONS];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long sendStart = System.nanoTime();
+            send.run();
+            latencies[i] = System.nanoTime() - sendStart;
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        // Send failures are swallowed by the service, so verify every message reached the sink
+        long delivered = smtpSink.getMessageCount() - messagesBefore;
+        assertEquals(ITERATIONS, delivered, "Messages lost in scenario " + name);
+
+        Arrays.sort(latencies);
+        double totalMs = totalNanos / 1_000_000.0;
+        double messagesPerSec = ITERATIONS / (totalNanos / 1_000_000_000.0);
+        long avgBytes = (smtpSink.getByteCount() - bytesBefore) / ITERATIONS;
+
+        String row = String.format(Locale.ROOT, "%s,%s,%d,%.1f,%.1f,%.3f,%.3f,%.3f,%d",
+                LABEL, name, ITERATIONS, totalMs, messagesPerSec,
+                percentileMs(latencies, 0.50), percentileMs(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0, avgBytes);
+        log.info("{}", row);
+        return row;
+    }
+
+    private double percentileMs(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private void writeResults(List<String> rows) throws IOException {
+        Files.createDirectories(OUTPUT_DIR);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path output = OUTPUT_DIR.resolve("notification-mail-" + LABEL + "-" + timestamp + ".csv");
+        Files.write(output, rows);
+        log.info("Benchmark results written to {}", output.toAbsolutePath());
+    }
+
+    private User user(Long id, String name, String email) {
+        return User.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .password("n/a")
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(User organizer) {
+        Category category = Category.builder().id(1L).name("Music").build();
+        Venue venue = Venue.builder().id(1L).name("Benchmark Arena").city("Athens").address("1 Test Street").capacity(5000).build();
+
+        return Event.builder()
+                .id(1L)
+                .title("Benchmark Live")
+                .description("Synthetic event used by the mail benchmark")
+                .category(category)
+                .venue(venue)
+                .organizer(organizer)
+                .eventDate(LocalDate.now().plusMonths(1))
+                .eventTime(LocalTime.of(20, 0))
+                .status(EventStatus.APPROVED)
+                .build();
+    }
+
+    private Order order(User customer, Event event, int tickets) {
+        TicketType ticketType = TicketType.builder()
+                .id(1L)
+                .event(event)
+                .name("General Admission")
+                .price(new BigDecimal("25.00"))
+                .build();
+
+        Order order = Order.builder()
+                .id(1L)
+                .user(customer)
+                .event(event)
+                .status(OrderStatus.CONFIRMED)
+                .totalAmount(new BigDecimal("25.00").multiply(BigDecimal.valueOf(tickets)))
+                .build();
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (long i = 1; i <= tickets; i++) {
+            orderItems.add(OrderItem.builder()
+                    .id(i)
+                    .order(order)
+                    .ticketType(ticketType)
+                    .quantity(1)
+                    .pricePerTicket(ticketType.getPrice())
+                    .build());
+        }
+        order.setOrderItems(orderItems);
+        return order;
+    }
+
+    private List<TicketArtifact> ticketArtifacts(Order order) {
+        QRCodeServiceImpl qrCodeService = new QRCodeServiceImpl(null);
+        ReflectionTestUtils.setField(qrCodeService, "apiUrl", "http://localhost:8080");
+
+        // Rendered once up front, exactly like the payment flow does
+        List<TicketArtifact> ticketArtifacts = new ArrayList<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            ticketArtifacts.add(qrCodeService.issueTicket(order, orderItem));
+        }
+        return ticketArtifacts;
+    }
+}
@@ -0,0 +1,124 @@
+package com.nipapager.eventticketingplatform.notification;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal embedded SMTP server for tests
+ * Accepts every message and throws it away, keeping only counts
+ * Speaks just enough SMTP for JavaMail (EHLO/HELO, MAIL, RCPT, DATA, RSET, NOOP, QUIT), no TLS or auth
+ */
+public final class SmtpSink implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionPool;
+    private final AtomicLong messageCount = new AtomicLong();
+    private final AtomicLong byteCount = new AtomicLong();
+
+    private SmtpSink(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+        this.connectionPool = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "smtp-sink");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start a sink on a free loopback port
+     */
+    public static SmtpSink start() throws IOException {
+        SmtpSink sink = new SmtpSink(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+        sink.connectionPool.submit(sink::acceptLoop);
+        return sink;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long getMessageCount() {
+        return messageCount.get();
+    }
+
+    public long getByteCount() {
+        return byteCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connectionPool.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connectionPool.submit(() -> handle(socket));
+            } catch (SocketException e) {
+                return;  // Closed
+            } catch (IOException e) {
+                // Keep accepting
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             OutputStream out = socket.getOutputStream()) {
+
+            reply(out, "220 localhost SMTP sink");
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase(Locale.ROOT) : line;
+
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-localhost\r\n250-8BITMIME\r\n250 SIZE 52428800");
+                    case "HELO", "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        readMessage(reader);
+                        reply(out, "250 OK queued");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // Client went away
+        }
+    }
+
+    private void readMessage(BufferedReader reader) throws IOException {
+        long bytes = 0;
+        String line;
+        while ((line = reader.readLine()) != null && !line.equals(".")) {
+            bytes += line.length() + 2;
+        }
+        byteCount.addAndGet(bytes);
+        messageCount.incrementAndGet();
+    }
+
+    private void reply(OutputStream out, String response) throws IOException {
+        out.write((response + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
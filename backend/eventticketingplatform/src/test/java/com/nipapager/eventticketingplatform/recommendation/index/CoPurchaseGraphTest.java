@@ -0,0 +1,120 @@
+package com.nipapager.eventticketingplatform.recommendation.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Cosine scores, neighbour order and incremental purchases of the co-purchase graph
+ */
+class CoPurchaseGraphTest {
+
+    // Users: {1, 2}, {1, 2, 3}, {1, 3}, {4}
+    private static final List<long[]> BASKETS = List.of(
+            new long[]{1, 2}, new long[]{1, 2, 3}, new long[]{1, 3}, new long[]{4});
+
+    @Test
+    void scoresAreCosineOverBuyerSets() {
+        CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+        graph.replaceAll(BASKETS);
+
+        Neighbours neighbours = graph.neighbours(2);
+        assertArrayEquals(new long[]{1, 3}, neighbours.eventIds());
+        assertArrayEquals(new int[]{2, 1}, neighbours.sharedBuyers());
+        assertEquals(2 / Math.sqrt(6), neighbours.scores()[0], 1e-6f);
+        assertEquals(0.5f, neighbours.scores()[1], 1e-6f);
+
+        assertEquals(0, graph.neighbours(4).size());
+        assertEquals(0, graph.neighbours(99).size());
+    }
+
+    @Test
+    void equalScoresPreferMoreSharedBuyersThenLowerId() {
+        CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+        // 10 and 11 share one of 1 buyer; 10 and 12 share two of 4 buyers: both score 1/sqrt(3)
+        graph.replaceAll(List.of(
+                new long[]{10, 11}, new long[]{10, 12}, new long[]{10, 12}, new long[]{12}, new long[]{12}));
+
+        assertArrayEquals(new long[]{12, 11}, graph.neighbours(10).eventIds());
+
+        graph.replaceAll(BASKETS);
+        assertArrayEquals(new long[]{2, 3}, graph.neighbours(1).eventIds());
+    }
+
+    @Test
+    void listsAreCappedAndFilteredBySharedBuyers() {
+        CoPurchaseGraph capped = new CoPurchaseGraph(1, 1);
+        capped.replaceAll(BASKETS);
+        assertArrayEquals(new long[]{2}, capped.neighbours(1).eventIds());
+
+        CoPurchaseGraph strict = new CoPurchaseGraph(20, 2);
+        strict.replaceAll(BASKETS);
+        assertArrayEquals(new long[]{1}, strict.neighbours(2).eventIds());
+        assertArrayEquals(new long[]{1}, strict.neighbours(3).eventIds());
+    }
+
+    @Test
+    void purchaseUpdatesTheBuyerAndTheirOtherEvents() {
+        CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+        graph.replaceAll(BASKETS);
+
+        // The first user, who had {1, 2}, buys 3
+        graph.recordPurchase(3, new long[]{1, 2});
+
+        Neighbours three = graph.neighbours(3);
+        assertArrayEquals(new long[]{1, 2}, three.eventIds());
+        assertArrayEquals(new int[]{3, 2}, three.sharedBuyers());
+        assertEquals(1.0f, three.scores()[0], 1e-6f);
+        assertEquals(2 / Math.sqrt(6), three.scores()[1], 1e-6f);
+
+        assertArrayEquals(new long[]{1, 3}, graph.neighbours(2).eventIds());
+        assertArrayEquals(new int[]{2, 2}, graph.neighbours(2).sharedBuyers());
+    }
+
+    @Test
+    void purchasesBuildTheGraphFromEmpty() {
+        CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+
+        graph.recordPurchase(5, new long[0]);
+        assertEquals(0, graph.neighbours(5).size());
+
+        graph.recordPurchase(6, new long[]{5, 6});
+        assertArrayEquals(new long[]{6}, graph.neighbours(5).eventIds());
+        assertArrayEquals(new long[]{5}, graph.neighbours(6).eventIds());
+        assertEquals(1.0f, graph.neighbours(5).scores()[0], 1e-6f);
+    }
+
+    @Test
+    void purchasesReportTheGenerationTheyWereAppliedTo() {
+        CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+
+        assertEquals(0L, graph.recordPurchase(1, new long[0]));
+        assertEquals(1L, graph.replaceAll(BASKETS));
+        assertEquals(1L, graph.recordPurchase(2, new long[]{4}));
+        assertEquals(2L, graph.replaceAll(BASKETS));
+    }
+
+    @Test
+    void rebuildMergesCountsAcrossForkedTasks() {
+        List<long[]> baskets = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            baskets.add(new long[]{1, 2});
+        }
+        for (int i = 0; i < 100; i++) {
+            baskets.add(new long[]{1, 3});
+        }
+
+        CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+        graph.replaceAll(baskets);
+
+        Neighbours one = graph.neighbours(1);
+        assertArrayEquals(new long[]{2, 3}, one.eventIds());
+        assertArrayEquals(new int[]{1500, 100}, one.sharedBuyers());
+        assertEquals(1500 / Math.sqrt(1600.0 * 1500), one.scores()[0], 1e-6f);
+        assertEquals(0.25f, one.scores()[1], 1e-6f);
+    }
+}
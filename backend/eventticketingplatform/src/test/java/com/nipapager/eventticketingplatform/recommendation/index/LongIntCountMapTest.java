@@ -0,0 +1,102 @@
+package com.nipapager.eventticketingplatform.recommendation.index;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Probing and resizing of the primitive count map
+ */
+class LongIntCountMapTest {
+
+    @Test
+    void addReturnsTheRunningCount() {
+        LongIntCountMap map = new LongIntCountMap();
+
+        assertEquals(1, map.add(42, 1));
+        assertEquals(4, map.add(42, 3));
+        assertEquals(2, map.add(42, -2));
+        assertEquals(2, map.get(42));
+        assertEquals(0, map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void growsPastTheExpectedSizeWithoutLosingCounts() {
+        LongIntCountMap map = new LongIntCountMap(2);
+        for (long key = 1; key <= 1000; key++) {
+            map.add(key, (int) key);
+        }
+        for (long key = 1; key <= 1000; key += 2) {
+            map.add(key, 1);
+        }
+
+        assertEquals(1000, map.size());
+        for (long key = 1; key <= 1000; key++) {
+            assertEquals((int) key + (key % 2 == 1 ? 1 : 0), map.get(key));
+        }
+        // Kept at most half full
+        assertTrue(capacity(map) >= 2 * map.size());
+        assertEquals(1, Integer.bitCount(capacity(map)));
+    }
+
+    @Test
+    void keysSharingLowBitsProbeToTheirOwnSlots() {
+        LongIntCountMap map = new LongIntCountMap();
+        for (long i = 1; i <= 200; i++) {
+            map.add(i << 32, 1);
+            map.add(i * 1024, 2);
+        }
+        map.add(Long.MAX_VALUE, 3);
+
+        assertEquals(401, map.size());
+        for (long i = 1; i <= 200; i++) {
+            assertEquals(1, map.get(i << 32));
+            assertEquals(2, map.get(i * 1024));
+        }
+        assertEquals(3, map.get(Long.MAX_VALUE));
+        assertEquals(0, map.get(201L << 32));
+    }
+
+    @Test
+    void forEachVisitsEveryEntryOnce() {
+        LongIntCountMap map = new LongIntCountMap();
+        for (long key = 1; key <= 50; key++) {
+            map.add(key * 7, (int) key);
+        }
+
+        Map<Long, Integer> visited = new HashMap<>();
+        map.forEach((key, value) -> assertNull(visited.put(key, value)));
+
+        assertEquals(50, visited.size());
+        visited.forEach((key, value) -> assertEquals(7L * value, key));
+    }
+
+    @Test
+    void addAllSumsSharedKeys() {
+        LongIntCountMap left = new LongIntCountMap();
+        left.add(1, 2);
+        left.add(2, 3);
+        LongIntCountMap right = new LongIntCountMap();
+        right.add(2, 4);
+        right.add(3, 5);
+
+        left.addAll(right);
+
+        assertEquals(3, left.size());
+        assertEquals(2, left.get(1));
+        assertEquals(7, left.get(2));
+        assertEquals(5, left.get(3));
+        assertEquals(4, right.get(2));
+    }
+
+    private static int capacity(LongIntCountMap map) {
+        return ((long[]) ReflectionTestUtils.getField(map, "keys")).length;
+    }
+}
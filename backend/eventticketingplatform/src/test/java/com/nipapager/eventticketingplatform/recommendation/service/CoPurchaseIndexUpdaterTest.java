@@ -0,0 +1,93 @@
+package com.nipapager.eventticketingplatform.recommendation.service;
+
+import com.nipapager.eventticketingplatform.order.repository.OrderRepository;
+import com.nipapager.eventticketingplatform.recommendation.index.CoPurchaseGraph;
+import com.nipapager.eventticketingplatform.recommendation.index.Neighbours;
+import com.nipapager.eventticketingplatform.trending.service.TicketsConfirmedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Purchases that land while the nightly rebuild runs must survive the swap exactly once
+ */
+@ExtendWith(MockitoExtension.class)
+class CoPurchaseIndexUpdaterTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final CoPurchaseGraph graph = new CoPurchaseGraph(20, 1);
+
+    private CoPurchaseIndexUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new CoPurchaseIndexUpdater(orderRepository, graph);
+        ReflectionTestUtils.setField(updater, "maxEventsPerUser", 50);
+    }
+
+    @Test
+    void purchaseDuringTheQueryIsReplayedAfterTheSwap() {
+        // User 3 buys event 2 after the rebuild query took its snapshot
+        when(orderRepository.countOrdersPerEventByUserId(eq(3L), any(), any()))
+                .thenReturn(rows(1, 1, 2, 1));
+        when(orderRepository.findBuyerEventPairs(any(), any())).thenAnswer(invocation -> {
+            updater.onTicketsConfirmed(new TicketsConfirmedEvent(2L, 3L, 1));
+            return rows(1, 1, 1, 2, 2, 1, 2, 3, 3, 1);
+        });
+
+        updater.rebuild();
+
+        Neighbours two = graph.neighbours(2);
+        assertArrayEquals(new long[]{1}, two.eventIds());
+        assertArrayEquals(new int[]{2}, two.sharedBuyers());
+    }
+
+    @Test
+    void purchaseAlreadySeenByTheQueryIsNotCountedTwice() {
+        // User 3's purchase committed before the query but reached the listener after the rebuild started
+        when(orderRepository.countOrdersPerEventByUserId(eq(3L), any(), any()))
+                .thenReturn(rows(1, 1, 2, 1));
+        when(orderRepository.findBuyerEventPairs(any(), any())).thenAnswer(invocation -> {
+            updater.onTicketsConfirmed(new TicketsConfirmedEvent(2L, 3L, 1));
+            return rows(1, 1, 1, 2, 2, 1, 2, 3, 3, 1, 3, 2);
+        });
+
+        updater.rebuild();
+
+        assertArrayEquals(new int[]{2}, graph.neighbours(2).sharedBuyers());
+    }
+
+    @Test
+    void purchaseAfterTheRebuildIsAppliedOnce() {
+        when(orderRepository.findBuyerEventPairs(any(), any())).thenReturn(rows(1, 1, 1, 2));
+        when(orderRepository.countOrdersPerEventByUserId(eq(3L), any(), any()))
+                .thenReturn(rows(1, 1, 2, 1));
+
+        updater.rebuild();
+        updater.onTicketsConfirmed(new TicketsConfirmedEvent(2L, 3L, 1));
+
+        assertArrayEquals(new int[]{2}, graph.neighbours(2).sharedBuyers());
+    }
+
+    // Rows of (first, second) pairs
+    private static List<Object[]> rows(long... values) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i += 2) {
+            rows.add(new Object[]{values[i], values[i + 1]});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,111 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BM25 ranking order of the in-process search index
+ */
+class EventSearchIndexTest {
+
+    private final EventSearchIndex index = new EventSearchIndex(0.1);
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.replaceAll(List.of(
+                document(1L, "Rock night", "Guitar bands with jazz influences"),
+                document(2L, "Jazz night", "Live quartet"),
+                document(3L, "Comedy show", "Stand-up")
+        ));
+
+        assertEquals(List.of(2L, 1L), eventIds(index.search("jazz", document -> true)));
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonOnes() {
+        index.replaceAll(List.of(
+                document(1L, "Summer festival", "Open air"),
+                document(2L, "Winter festival", "Indoor"),
+                document(3L, "Reggae festival", "Beach"),
+                document(4L, "Reggae nights", "Bar")
+        ));
+
+        // "reggae" is in two documents, "festival" in three, so 3 leads and 4 beats 1 and 2
+        List<Long> ids = eventIds(index.search("reggae festival", document -> true));
+        assertEquals(3L, ids.get(0));
+        assertEquals(4L, ids.get(1));
+        assertEquals(4, ids.size());
+    }
+
+    @Test
+    void shorterDocumentWinsAtEqualTermFrequency() {
+        index.replaceAll(List.of(
+                document(1L, "Opera", "Gala evening with orchestra, choir, soloists and a long list of guest performers"),
+                document(2L, "Opera", "Gala evening")
+        ));
+
+        assertEquals(List.of(2L, 1L), eventIds(index.search("opera", document -> true)));
+    }
+
+    @Test
+    void equalScoresAreOrderedById() {
+        index.replaceAll(List.of(
+                document(7L, "Salsa class", "Beginners"),
+                document(3L, "Salsa class", "Beginners"),
+                document(5L, "Salsa class", "Beginners")
+        ));
+
+        assertEquals(List.of(3L, 5L, 7L), eventIds(index.search("salsa", document -> true)));
+    }
+
+    @Test
+    void queryTermsAreStemmedLikeDocuments() {
+        index.replaceAll(List.of(document(1L, "Concert", "Running order announced soon")));
+
+        assertEquals(List.of(1L), eventIds(index.search("concerts runs", document -> true)));
+    }
+
+    @Test
+    void filterIsAppliedBeforeScoring() {
+        index.replaceAll(List.of(
+                document(1L, "Jazz night", "Quartet"),
+                document(2L, "Jazz brunch", "Trio")
+        ));
+
+        assertEquals(List.of(2L), eventIds(index.search("jazz", document -> document.eventId() == 2L)));
+    }
+
+    @Test
+    void putReplacesAndRemoveDrops() {
+        index.put(document(1L, "Jazz night", "Quartet"));
+        index.put(document(1L, "Blues night", "Quartet"));
+        index.put(document(2L, "Jazz brunch", "Trio"));
+
+        assertEquals(List.of(2L), eventIds(index.search("jazz", document -> true)));
+
+        index.remove(2L);
+        assertTrue(index.search("jazz", document -> true).isEmpty());
+        assertEquals(List.of(1L), eventIds(index.search("blues", document -> true)));
+    }
+
+    @Test
+    void stopWordOnlyQueryMatchesNothing() {
+        index.replaceAll(List.of(document(1L, "The show", "All of it")));
+
+        assertTrue(index.search("the of", document -> true).isEmpty());
+    }
+
+    private static CatalogDocument document(Long eventId, String title, String description) {
+        return new CatalogDocument(eventId, title, description, 1L, "Music", 1L, "Gazarte", "Athens",
+                LocalDate.of(2026, 6, 1), null, null);
+    }
+
+    private static List<Long> eventIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::eventId).toList();
+    }
+}
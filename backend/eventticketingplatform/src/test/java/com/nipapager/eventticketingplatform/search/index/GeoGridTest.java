@@ -0,0 +1,113 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Grid candidates across the antimeridian and around the poles
+ */
+class GeoGridTest {
+
+    @Test
+    void boxAcrossTheAntimeridianWalkingPopulatedCells() {
+        GeoGrid grid = new GeoGrid(1.0);
+        grid.add(1L, 5, 179.5);
+        grid.add(2L, 5, -179.5);
+        grid.add(3L, 5, 0);
+        grid.add(4L, 20, 179.5);
+
+        assertEquals(Set.of(1L, 2L), ids(grid.candidatesInBox(0, 170, 10, -170)));
+    }
+
+    @Test
+    void boxAcrossTheAntimeridianWalkingOverlappedCells() {
+        // Two overlapped cells and four populated ones, so the box walks its own cells
+        GeoGrid grid = new GeoGrid(10.0);
+        grid.add(1L, 5, 179);
+        grid.add(2L, 5, -179);
+        grid.add(3L, 5, 0);
+        grid.add(4L, 25, 179);
+
+        assertEquals(Set.of(1L, 2L), ids(grid.candidatesInBox(1, 175, 9, -175)));
+    }
+
+    @Test
+    void boxSpanningEveryLongitude() {
+        GeoGrid grid = new GeoGrid(10.0);
+        grid.add(1L, 5, -179);
+        grid.add(2L, 5, 0);
+        grid.add(3L, 5, 179);
+
+        assertEquals(Set.of(1L, 2L, 3L), ids(grid.candidatesInBox(0, -180, 9, 180)));
+    }
+
+    @Test
+    void circleAroundAPoleCoversEveryLongitude() {
+        GeoGrid grid = new GeoGrid(1.0);
+        grid.add(1L, 89.5, 180);
+        grid.add(2L, 89.5, -90);
+        grid.add(3L, 80, 0);
+
+        // The opposite side of the pole is about 111 km away
+        assertEquals(Set.of(1L, 2L), ids(grid.candidatesWithin(89.5, 0, 150)));
+        assertTrue(GeoGrid.distanceKm(89.5, 0, 89.5, 180) < 150);
+    }
+
+    @Test
+    void circleAtTheSouthPole() {
+        GeoGrid grid = new GeoGrid(1.0);
+        grid.add(1L, -89.9, 45);
+        grid.add(2L, -89.9, -135);
+        grid.add(3L, -60, 0);
+
+        assertEquals(Set.of(1L, 2L), ids(grid.candidatesWithin(-90, 0, 50)));
+    }
+
+    @Test
+    void circleNearTheAntimeridian() {
+        GeoGrid grid = new GeoGrid(0.5);
+        grid.add(1L, -17.7, 179.9);
+        grid.add(2L, -17.7, -179.9);
+        grid.add(3L, -17.7, 170);
+
+        assertEquals(Set.of(1L, 2L), ids(grid.candidatesWithin(-17.7, 179.95, 30)));
+    }
+
+    @Test
+    void removedEventsAreNoLongerCandidates() {
+        GeoGrid grid = new GeoGrid(1.0);
+        grid.add(1L, 37.98, 23.72);
+        grid.add(2L, 37.98, 23.73);
+
+        grid.remove(1L, 37.98, 23.72);
+        assertEquals(Set.of(2L), ids(grid.candidatesWithin(37.98, 23.72, 5)));
+
+        grid.remove(2L, 37.98, 23.73);
+        assertTrue(grid.candidatesWithin(37.98, 23.72, 5).isEmpty());
+    }
+
+    @Test
+    void longitudesAreNormalized() {
+        assertEquals(-170.0, GeoGrid.normalizeLongitude(190));
+        assertEquals(170.0, GeoGrid.normalizeLongitude(-190));
+        assertEquals(180.0, GeoGrid.normalizeLongitude(180));
+        assertEquals(-180.0, GeoGrid.normalizeLongitude(-180));
+        assertEquals(180.0, GeoGrid.normalizeLongitude(540));
+    }
+
+    @Test
+    void distanceAcrossTheAntimeridianIsShort() {
+        // 0.2 degrees of longitude on the equator
+        assertEquals(22.24, GeoGrid.distanceKm(0, 179.9, 0, -179.9), 0.01);
+    }
+
+    private static Set<Long> ids(List<Long> candidates) {
+        return new HashSet<>(candidates);
+    }
+}
@@ -0,0 +1,138 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import com.nipapager.eventticketingplatform.enums.SuggestionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Edge splits, compaction on removal and the per-node popularity bound of the typeahead trie
+ */
+class SuggestionTrieTest {
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+
+    @Test
+    void splitEdgesKeepEveryBranchReachable() {
+        trie.insert("rocket", event(1L, "Rocket", 10));
+        trie.insert("rock", event(2L, "Rock", 20));
+        trie.insert("rome", event(3L, "Rome", 5));
+
+        assertEquals(List.of("Rock", "Rocket", "Rome"), texts(trie.top("ro", 10)));
+        assertEquals(List.of("Rock", "Rocket"), texts(trie.top("rock", 10)));
+        assertEquals(List.of("Rocket"), texts(trie.top("rocke", 10)));
+        assertEquals(List.of("Rock", "Rocket", "Rome"), texts(trie.top("", 10)));
+        assertTrue(trie.top("rob", 10).isEmpty());
+        assertTrue(trie.top("rockets", 10).isEmpty());
+    }
+
+    @Test
+    void topIsMostPopularFirstThenByText() {
+        trie.insert("jazz", event(1L, "Jazz", 7));
+        trie.insert("jazz brunch", event(2L, "Jazz brunch", 30));
+        trie.insert("jazz night", event(3L, "Jazz night", 7));
+        trie.insert("jam", event(4L, "Jam", 1));
+
+        assertEquals(List.of("Jazz brunch", "Jazz", "Jazz night"), texts(trie.top("ja", 3)));
+    }
+
+    @Test
+    void identityIsReportedOnceAcrossKeys() {
+        Suggestion stones = event(1L, "The Rolling Stones", 10);
+        trie.insert("rolling stones", stones);
+        trie.insert("stones", stones);
+        trie.insert("stonehenge", event(2L, "Stonehenge", 3));
+
+        assertEquals(List.of("The Rolling Stones", "Stonehenge"), texts(trie.top("", 10)));
+    }
+
+    @Test
+    void removingAnEntryMergesTheEdgeBack() {
+        trie.insert("rock", event(1L, "Rock", 20));
+        trie.insert("rocket", event(2L, "Rocket", 10));
+
+        trie.remove("rock", "EVENT:1");
+
+        Map<?, ?> children = children(root());
+        assertEquals(1, children.size());
+        assertEquals("rocket", ReflectionTestUtils.getField(children.values().iterator().next(), "label"));
+        assertEquals(List.of("Rocket"), texts(trie.top("roc", 10)));
+
+        trie.insert("rocks", event(3L, "Rocks", 1));
+        assertEquals(List.of("Rocks"), texts(trie.top("rocks", 10)));
+        assertEquals(List.of("Rocket"), texts(trie.top("rocke", 10)));
+    }
+
+    @Test
+    void removingTheLastEntryDropsTheBranch() {
+        trie.insert("rock", event(1L, "Rock", 20));
+        trie.insert("rome", event(2L, "Rome", 10));
+
+        trie.remove("rome", "EVENT:2");
+
+        assertTrue(trie.top("rom", 10).isEmpty());
+        assertEquals(List.of("Rock"), texts(trie.top("ro", 10)));
+        assertEquals(1, children(root()).size());
+        assertEquals("rock", ReflectionTestUtils.getField(children(root()).values().iterator().next(), "label"));
+    }
+
+    @Test
+    void removalRecomputesMaxPopularity() {
+        trie.insert("rock", event(1L, "Rock", 100));
+        trie.insert("rome", event(2L, "Rome", 1));
+        trie.insert("ruby", event(3L, "Ruby", 50));
+        assertEquals(100L, maxPopularity(root()));
+
+        trie.remove("rock", "EVENT:1");
+
+        assertEquals(50L, maxPopularity(root()));
+        assertEquals(List.of("Ruby"), texts(trie.top("r", 1)));
+    }
+
+    @Test
+    void reinsertingWithLowerPopularityLowersTheBound() {
+        Suggestion rock = event(1L, "Rock", 100);
+        trie.insert("rock", rock);
+        trie.insert("rock", rock.withPopularity(5));
+
+        assertEquals(5L, maxPopularity(root()));
+        assertEquals(5L, trie.top("rock", 10).get(0).popularity());
+    }
+
+    @Test
+    void removingAMissingEntryChangesNothing() {
+        trie.insert("rock", event(1L, "Rock", 20));
+
+        trie.remove("rob", "EVENT:1");
+        trie.remove("rockets", "EVENT:1");
+        trie.remove("rock", "EVENT:9");
+
+        assertEquals(List.of("Rock"), texts(trie.top("r", 10)));
+        assertEquals(20L, maxPopularity(root()));
+    }
+
+    private Object root() {
+        return ReflectionTestUtils.getField(trie, "root");
+    }
+
+    private static Map<?, ?> children(Object node) {
+        return (Map<?, ?>) ReflectionTestUtils.getField(node, "children");
+    }
+
+    private static long maxPopularity(Object node) {
+        return (Long) ReflectionTestUtils.getField(node, "maxPopularity");
+    }
+
+    private static Suggestion event(Long id, String text, long popularity) {
+        return new Suggestion(SuggestionType.EVENT, id, text, popularity);
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+}
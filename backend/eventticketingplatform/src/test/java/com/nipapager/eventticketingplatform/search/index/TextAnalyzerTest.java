@@ -0,0 +1,91 @@
+package com.nipapager.eventticketingplatform.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Suffix stemmer edge cases and query/document normalization
+ */
+class TextAnalyzerTest {
+
+    @Test
+    void plurals() {
+        assertEquals("concert", TextAnalyzer.stem("concerts"));
+        assertEquals("party", TextAnalyzer.stem("parties"));
+        assertEquals("class", TextAnalyzer.stem("classes"));
+        assertEquals("box", TextAnalyzer.stem("boxes"));
+        assertEquals("match", TextAnalyzer.stem("matches"));
+        assertEquals("dish", TextAnalyzer.stem("dishes"));
+    }
+
+    @Test
+    void shortIesWordsOnlyLoseTheS() {
+        assertEquals("tie", TextAnalyzer.stem("ties"));
+    }
+
+    @Test
+    void wordsThatOnlyLookPluralAreKept() {
+        assertEquals("class", TextAnalyzer.stem("class"));
+        assertEquals("campus", TextAnalyzer.stem("campus"));
+        assertEquals("analysis", TextAnalyzer.stem("analysis"));
+    }
+
+    @Test
+    void tokensOfThreeCharactersOrLessAreKept() {
+        assertEquals("bus", TextAnalyzer.stem("bus"));
+        assertEquals("ies", TextAnalyzer.stem("ies"));
+    }
+
+    @Test
+    void verbEndingsUndoubleTheFinalConsonant() {
+        assertEquals("run", TextAnalyzer.stem("running"));
+        assertEquals("stop", TextAnalyzer.stem("stopped"));
+        assertEquals("hop", TextAnalyzer.stem("hopping"));
+        assertEquals("play", TextAnalyzer.stem("played"));
+    }
+
+    @Test
+    void doubledLSAndZAreKept() {
+        assertEquals("fall", TextAnalyzer.stem("falling"));
+        assertEquals("jazz", TextAnalyzer.stem("jazzed"));
+    }
+
+    @Test
+    void verbEndingsNeedAVowelInTheStem() {
+        assertEquals("sing", TextAnalyzer.stem("sing"));
+        assertEquals("string", TextAnalyzer.stem("string"));
+        assertEquals("shed", TextAnalyzer.stem("shed"));
+    }
+
+    @Test
+    void adverbs() {
+        assertEquals("quick", TextAnalyzer.stem("quickly"));
+        assertEquals("only", TextAnalyzer.stem("only"));
+    }
+
+    @Test
+    void nonLatinTokensAreNotStemmed() {
+        assertEquals("συναυλιες", TextAnalyzer.stem("συναυλιες"));
+    }
+
+    @Test
+    void analyzeDropsStopWordsAndPunctuation() {
+        assertEquals(List.of("roll", "stone", "beatle"), TextAnalyzer.analyze("The Rolling Stones & the Beatles!"));
+    }
+
+    @Test
+    void analyzeStripsAccentsAndCase() {
+        assertEquals(List.of("συναυλια", "στο", "cafe"), TextAnalyzer.analyze("Συναυλία στο Café"));
+    }
+
+    @Test
+    void blankTextHasNoTerms() {
+        assertTrue(TextAnalyzer.analyze(null).isEmpty());
+        assertTrue(TextAnalyzer.analyze("   ").isEmpty());
+        assertTrue(TextAnalyzer.analyze("the and of").isEmpty());
+    }
+}
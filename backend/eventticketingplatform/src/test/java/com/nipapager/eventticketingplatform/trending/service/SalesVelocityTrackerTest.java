@@ -0,0 +1,77 @@
+package com.nipapager.eventticketingplatform.trending.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ring-buffer bookkeeping of the sales window: slot reuse, late sales and idle windows
+ */
+class SalesVelocityTrackerTest {
+
+    private static final long MINUTE = 60_000;
+
+    // Five one-minute buckets
+    private final SalesVelocityTracker tracker = new SalesVelocityTracker(60, 5);
+
+    @Test
+    void salesWithinTheWindowAreSummed() {
+        tracker.record(1L, 2, 0);
+        tracker.record(1L, 3, MINUTE + 1);
+        tracker.record(1L, 1, 4 * MINUTE);
+        tracker.record(2L, 4, 2 * MINUTE);
+
+        assertEquals(Map.of(1L, 6L, 2L, 4L), tracker.snapshot(5 * MINUTE - 1));
+        assertEquals(5 * MINUTE, tracker.windowMillis());
+    }
+
+    @Test
+    void reusedSlotStartsFromZero() {
+        tracker.record(1L, 3, 0);
+        // Bucket 5 lands in the same slot as bucket 0
+        tracker.record(1L, 2, 5 * MINUTE);
+
+        assertEquals(Map.of(1L, 2L), tracker.snapshot(5 * MINUTE));
+    }
+
+    @Test
+    void salesOlderThanTheNewestWindowAreIgnored() {
+        tracker.record(1L, 1, 10 * MINUTE);
+        tracker.record(1L, 5, 5 * MINUTE);
+        tracker.record(1L, 2, 6 * MINUTE);
+
+        assertEquals(Map.of(1L, 3L), tracker.snapshot(10 * MINUTE));
+    }
+
+    @Test
+    void salesLeaveTheWindowAsTimePasses() {
+        tracker.record(1L, 2, 0);
+        tracker.record(1L, 3, 3 * MINUTE);
+
+        assertEquals(Map.of(1L, 3L), tracker.snapshot(5 * MINUTE));
+        assertEquals(Map.of(1L, 3L), tracker.snapshot(8 * MINUTE - 1));
+        assertTrue(tracker.snapshot(8 * MINUTE).isEmpty());
+    }
+
+    @Test
+    void idleWindowsAreDropped() {
+        tracker.record(1L, 1, 0);
+        tracker.record(2L, 1, 4 * MINUTE);
+
+        assertEquals(Map.of(2L, 1L), tracker.snapshot(5 * MINUTE));
+        assertEquals(1, windows().size());
+        assertTrue(windows().containsKey(2L));
+
+        // A later sale starts a fresh window
+        tracker.record(1L, 7, 6 * MINUTE);
+        assertEquals(Map.of(1L, 7L, 2L, 1L), tracker.snapshot(6 * MINUTE));
+    }
+
+    private Map<?, ?> windows() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(tracker, "windows");
+    }
+}
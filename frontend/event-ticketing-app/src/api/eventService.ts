@@ -1,11 +1,21 @@
 import api from './axios';
 import type { Event } from '../types';
 
+// Largest page the catalog endpoint serves
+const CATALOG_PAGE_SIZE = 100;
+
 const eventService = {
-  // Get all approved events
+  // Get all approved events (admins get every status)
+  // The catalog is keyset-paged, so follow meta.nextCursor until the last page
   getAllEvents: async (): Promise<Event[]> => {
-    const response = await api.get('/events');
-    return response.data.data;
+    const events: Event[] = [];
+    let cursor: string | undefined;
+    do {
+      const response = await api.get('/events', { params: { size: CATALOG_PAGE_SIZE, cursor } });
+      events.push(...response.data.data);
+      cursor = response.data.meta?.hasMore ? response.data.meta.nextCursor : undefined;
+    } while (cursor);
+    return events;
   },
 
   // Get event by ID
@@ -48,6 +58,12 @@ const eventService = {
     return response.data.data;
   },
 
+  // Get an organizer's most recent completed events (public)
+  getOrganizerPastEvents: async (organizerId: number, size?: number): Promise<Event[]> => {
+    const response = await api.get(`/events/organizer/${organizerId}/past`, { params: { size } });
+    return response.data.data;
+  },
+
   // Update event
   updateEvent: async (id: number, eventData: Partial<Event>): Promise<Event> => {
     const response = await api.put(`/events/${id}`, eventData);
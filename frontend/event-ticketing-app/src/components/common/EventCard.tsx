@@ -17,9 +17,7 @@ const EventCard = ({ event }: EventCardProps) => {
   };
 
   // Get minimum ticket price
-  const minPrice = event.ticketTypes && event.ticketTypes.length > 0
-    ? Math.min(...event.ticketTypes.map(t => t.price))
-    : 0;
+  const minPrice = event.minPrice ?? 0;
 
   return (
     <Link 
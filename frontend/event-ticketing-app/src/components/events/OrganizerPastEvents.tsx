@@ -21,31 +21,11 @@ const OrganizerPastEvents = ({ organizerId, currentEventId, organizerName }: Org
   const fetchOrganizerPastEvents = async () => {
     try {
       setLoading(true);
-      const allEvents = await eventService.getAllEvents();
-      
-      const today = new Date();
-      today.setHours(0, 0, 0, 0);
-
-      // Filter: same organizer, past events, not current event, approved status
-      const filtered = allEvents.filter(event => {
-        const eventDate = new Date(event.eventDate);
-        eventDate.setHours(0, 0, 0, 0);
-        
-        return (
-          event.organizerId === organizerId &&
-          event.id !== currentEventId &&
-          eventDate < today &&
-          event.status === 'APPROVED'
-        );
-      });
-
-      // Sort by date (most recent first)
-      const sorted = filtered.sort((a, b) => 
-        new Date(b.eventDate).getTime() - new Date(a.eventDate).getTime()
-      );
+      // Completed events, most recent first (one extra in case it is the current event)
+      const completedEvents = await eventService.getOrganizerPastEvents(organizerId, 7);
 
-      // Take only first 6 events
-      setPastEvents(sorted.slice(0, 6));
+      // Take only first 6 events other than the current one
+      setPastEvents(completedEvents.filter(event => event.id !== currentEventId).slice(0, 6));
     } catch (error) {
       console.error('Failed to fetch organizer past events:', error);
     } finally {
@@ -175,12 +155,12 @@ const OrganizerPastEvents = ({ organizerId, currentEventId, organizerName }: Org
               </div>
 
               {/* Price */}
-              {event.ticketTypes && event.ticketTypes.length > 0 && (
+              {event.minPrice != null && (
                 <div className="pt-3 border-t border-gray-200">
                   <div className="flex items-center justify-between">
                     <span className="text-xs text-gray-500">From</span>
                     <span className="text-sm font-bold text-blue-600">
-                      €{Math.min(...event.ticketTypes.map(t => t.price)).toFixed(2)}
+                      €{event.minPrice.toFixed(2)}
                     </span>
                   </div>
                 </div>
@@ -79,7 +79,8 @@ const EventManagerPage = () => {
       PENDING: 'bg-yellow-100 text-yellow-800',
       APPROVED: 'bg-green-100 text-green-800',
       REJECTED: 'bg-red-100 text-red-800',
-      CANCELLED: 'bg-gray-100 text-gray-800'
+      CANCELLED: 'bg-gray-100 text-gray-800',
+      COMPLETED: 'bg-blue-100 text-blue-800'
     };
 
     return (
@@ -176,7 +177,7 @@ const EventManagerPage = () => {
         {/* Filters */}
         <div className="bg-white rounded-lg shadow-sm p-4 mb-6">
           <div className="flex gap-2">
-            {['PENDING', 'APPROVED', 'REJECTED', 'CANCELLED', 'ALL'].map(status => (
+            {['PENDING', 'APPROVED', 'REJECTED', 'CANCELLED', 'COMPLETED', 'ALL'].map(status => (
               <button
                 key={status}
                 onClick={() => setFilter(status)}
@@ -243,18 +244,17 @@ const EventManagerPage = () => {
 
                     <p className="text-gray-600 mb-4 line-clamp-2">{event.description}</p>
 
-                    {/* Ticket Types */}
-                    {event.ticketTypes && event.ticketTypes.length > 0 && (
+                    {/* Ticket Summary (per-type details are on the event page) */}
+                    {event.minPrice != null && (
                       <div className="mb-4">
-                        <p className="text-sm font-semibold text-gray-700 mb-2">Ticket Types:</p>
+                        <p className="text-sm font-semibold text-gray-700 mb-2">Tickets:</p>
                         <div className="flex flex-wrap gap-2">
-                          {event.ticketTypes.map(ticket => (
-                            <div key={ticket.id} className="bg-gray-50 px-3 py-1 rounded text-sm">
-                              <span className="font-medium">{ticket.name}</span>
-                              <span className="text-gray-600"> - €{ticket.price}</span>
-                              <span className="text-gray-500"> ({ticket.totalQuantity} tickets)</span>
-                            </div>
-                          ))}
+                          <div className="bg-gray-50 px-3 py-1 rounded text-sm">
+                            <span className="text-gray-600">From €{event.minPrice.toFixed(2)}</span>
+                            <span className="text-gray-500">
+                              {event.soldOut ? ' (sold out)' : ` (${event.ticketsRemaining ?? 0} left)`}
+                            </span>
+                          </div>
                         </div>
                       </div>
                     )}
@@ -132,34 +132,17 @@ const EventsPage = () => {
 
     // Price filter
     filtered = filtered.filter(event => {
-      if (!event.ticketTypes || event.ticketTypes.length === 0) return true;
-      const minPrice = Math.min(...event.ticketTypes.map(t => t.price));
-      return minPrice >= filters.priceRange[0] && minPrice <= filters.priceRange[1];
+      if (event.minPrice == null) return true;
+      return event.minPrice >= filters.priceRange[0] && event.minPrice <= filters.priceRange[1];
     });
 
     // Sort
     if (sortBy === 'date') {
       filtered.sort((a, b) => new Date(a.eventDate).getTime() - new Date(b.eventDate).getTime());
     } else if (sortBy === 'price-low') {
-      filtered.sort((a, b) => {
-        const minA = a.ticketTypes && a.ticketTypes.length > 0
-          ? Math.min(...a.ticketTypes.map(t => t.price))
-          : 0;
-        const minB = b.ticketTypes && b.ticketTypes.length > 0
-          ? Math.min(...b.ticketTypes.map(t => t.price))
-          : 0;
-        return minA - minB;
-      });
+      filtered.sort((a, b) => (a.minPrice ?? 0) - (b.minPrice ?? 0));
     } else if (sortBy === 'price-high') {
-      filtered.sort((a, b) => {
-        const minA = a.ticketTypes && a.ticketTypes.length > 0
-          ? Math.min(...a.ticketTypes.map(t => t.price))
-          : 0;
-        const minB = b.ticketTypes && b.ticketTypes.length > 0
-          ? Math.min(...b.ticketTypes.map(t => t.price))
-          : 0;
-        return minB - minA;
-      });
+      filtered.sort((a, b) => (b.minPrice ?? 0) - (a.minPrice ?? 0));
     }
 
     setFilteredEvents(filtered);
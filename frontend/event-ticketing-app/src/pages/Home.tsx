@@ -27,24 +27,18 @@ const Home = () => {
           return eventDate >= today;
         });
 
-        // Sort by sales (tickets sold) and then by date
+        // Events closest to selling out first, then by date
+        // (list responses carry the ticket summary, not the ticket types)
         const sortedEvents = futureEvents.sort((a, b) => {
-          // Calculate tickets sold for each event
-          const soldA = a.ticketTypes?.reduce((total, ticket) => {
-            return total + (ticket.totalQuantity - ticket.quantityAvailable);
-          }, 0) || 0;
+          const leftA = a.minPrice != null && !a.soldOut ? a.ticketsRemaining ?? 0 : Number.MAX_SAFE_INTEGER;
+          const leftB = b.minPrice != null && !b.soldOut ? b.ticketsRemaining ?? 0 : Number.MAX_SAFE_INTEGER;
 
-          const soldB = b.ticketTypes?.reduce((total, ticket) => {
-            return total + (ticket.totalQuantity - ticket.quantityAvailable);
-          }, 0) || 0;
-
-          // If sales are equal, sort by date (soonest first)
-          if (soldB === soldA) {
+          // If equally close, sort by date (soonest first)
+          if (leftA === leftB) {
             return new Date(a.eventDate).getTime() - new Date(b.eventDate).getTime();
           }
 
-          // Otherwise sort by sales (highest first)
-          return soldB - soldA;
+          return leftA - leftB;
         });
 
         // Take top 4
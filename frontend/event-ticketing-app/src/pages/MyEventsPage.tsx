@@ -66,7 +66,8 @@ const MyEventsPage = () => {
       PENDING: 'bg-yellow-100 text-yellow-800',
       APPROVED: 'bg-green-100 text-green-800',
       REJECTED: 'bg-red-100 text-red-800',
-      CANCELLED: 'bg-gray-100 text-gray-800'
+      CANCELLED: 'bg-gray-100 text-gray-800',
+      COMPLETED: 'bg-blue-100 text-blue-800'
     };
 
     return (
@@ -104,7 +105,7 @@ const MyEventsPage = () => {
         {/* Filters */}
         <div className="bg-white rounded-lg shadow-sm p-4 mb-6">
           <div className="flex gap-2">
-            {['ALL', 'PENDING', 'APPROVED', 'REJECTED', 'CANCELLED'].map(status => (
+            {['ALL', 'PENDING', 'APPROVED', 'REJECTED', 'CANCELLED', 'COMPLETED'].map(status => (
               <button
                 key={status}
                 onClick={() => setFilter(status)}
@@ -187,18 +188,17 @@ const MyEventsPage = () => {
 
                     <p className="text-gray-600 mb-4 line-clamp-2">{event.description}</p>
 
-                    {/* Ticket Types Summary */}
-                    {event.ticketTypes && event.ticketTypes.length > 0 && (
+                    {/* Ticket Types Summary (per-type details are on the event page) */}
+                    {event.minPrice != null && (
                       <div className="mb-4">
-                        <p className="text-sm font-semibold text-gray-700 mb-2">Ticket Types:</p>
+                        <p className="text-sm font-semibold text-gray-700 mb-2">Tickets:</p>
                         <div className="flex flex-wrap gap-2">
-                          {event.ticketTypes.map(ticket => (
-                            <div key={ticket.id} className="bg-gray-50 px-3 py-1 rounded text-sm">
-                              <span className="font-medium">{ticket.name}</span>
-                              <span className="text-gray-600"> - €{ticket.price}</span>
-                              <span className="text-gray-500"> ({ticket.quantityAvailable}/{ticket.totalQuantity})</span>
-                            </div>
-                          ))}
+                          <div className="bg-gray-50 px-3 py-1 rounded text-sm">
+                            <span className="text-gray-600">From €{event.minPrice.toFixed(2)}</span>
+                            <span className="text-gray-500">
+                              {event.soldOut ? ' (sold out)' : ` (${event.ticketsRemaining ?? 0} left)`}
+                            </span>
+                          </div>
                         </div>
                       </div>
                     )}
@@ -212,7 +212,7 @@ const MyEventsPage = () => {
                         View Details
                       </button>
 
-                      {event.status !== 'CANCELLED' && (
+                      {event.status !== 'CANCELLED' && event.status !== 'COMPLETED' && (
                         <>
                           <button
                             onClick={() => navigate(`/edit-event/${event.id}`)}
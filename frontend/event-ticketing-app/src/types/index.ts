@@ -53,7 +53,10 @@ export interface Event {
   averageRating?: number;
   reviewCount?: number;
   status: string;
-  ticketTypes?: TicketType[];
+  minPrice?: number | null;     // Cheapest ticket type (null without ticket types)
+  ticketsRemaining?: number;    // Across all ticket types
+  soldOut?: boolean;
+  ticketTypes?: TicketType[];   // Only on single-event responses
   createdAt?: string;
   updatedAt?: string;
 }